@@ -0,0 +1,157 @@
+package com.gustavo.mobiauto_backend.controller;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.gustavo.mobiauto_backend.MobiautoBackendApplication;
+import com.gustavo.mobiauto_backend.infra.repositories.OfferRepository;
+import com.gustavo.mobiauto_backend.infra.repositories.StoreRepository;
+import com.gustavo.mobiauto_backend.infra.repositories.UserRepository;
+import com.gustavo.mobiauto_backend.infra.repositories.VehicleRepository;
+import com.gustavo.mobiauto_backend.model.offer.Offer;
+import com.gustavo.mobiauto_backend.model.store.Store;
+import com.gustavo.mobiauto_backend.model.user.User;
+import com.gustavo.mobiauto_backend.model.vehicle.Vehicle;
+import com.gustavo.mobiauto_backend.model.vehicle.VehicleColor;
+import com.gustavo.mobiauto_backend.model.vehicle.VehicleModel;
+import com.gustavo.mobiauto_backend.model.vehicle.VehicleReleaseYear;
+import com.gustavo.mobiauto_backend.model.vehicle.VehicleType;
+import com.gustavo.mobiauto_backend.service.TokenService;
+
+// clients - 1 closed-loop clients keep GET /stores/{id}/offers busy while JMH drives one more. That endpoint
+// streams a page of offers from the database on every call, so no cache hides the JDBC path. The score is the
+// measured client's throughput; the completed/failed counters are the background clients' throughput.
+// virtualThreads=true only takes effect on a JDK 21+ runtime.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class WebTierLoadBenchmark {
+    private static final int OFFERS = 20;
+    private static final AtomicLong COMPLETED = new AtomicLong();
+    private static final AtomicLong FAILED = new AtomicLong();
+
+    @Param({ "1000", "10000" })
+    private int clients;
+
+    @Param({ "false", "true" })
+    private boolean virtualThreads;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient httpClient;
+    private HttpRequest request;
+    private volatile boolean running;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class BackgroundRequests {
+        public long completed;
+        public long failed;
+
+        private long completedAtStart;
+        private long failedAtStart;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            completedAtStart = COMPLETED.get();
+            failedAtStart = FAILED.get();
+            completed = 0;
+            failed = 0;
+        }
+
+        void update() {
+            completed = COMPLETED.get() - completedAtStart;
+            failed = FAILED.get() - failedAtStart;
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        // Passed as arguments so they win over the test profile, which logs every statement.
+        context = new SpringApplicationBuilder(MobiautoBackendApplication.class)
+                .profiles("test")
+                .run(
+                        "--spring.docker.compose.enabled=false",
+                        "--spring.datasource.url=jdbc:h2:mem:web-tier-load-benchmark;DB_CLOSE_ON_EXIT=FALSE",
+                        "--spring.jpa.show-sql=false",
+                        "--spring.threads.virtual.enabled=" + virtualThreads,
+                        "--server.tomcat.max-connections=" + (clients + 100),
+                        "--server.tomcat.accept-count=" + clients,
+                        "--logging.level.root=WARN");
+
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+        User user = context.getBean(UserRepository.class)
+                .save(new User("Bench", "Mark", "bench.mark@example.com", "password"));
+        Store store = context.getBean(StoreRepository.class).save(new Store("Bench Store", "11.222.333/0001-81"));
+        for (int i = 0; i < OFFERS; i++) {
+            Vehicle vehicle = context.getBean(VehicleRepository.class).save(new Vehicle(
+                    VehicleType.CAR,
+                    new VehicleModel("Model " + i),
+                    new VehicleReleaseYear(2020),
+                    new VehicleColor("Blue")));
+            context.getBean(OfferRepository.class).save(new Offer(user, vehicle, store));
+        }
+
+        httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(30)).build();
+        request = HttpRequest.newBuilder(URI.create(
+                "http://localhost:" + port + "/stores/" + store.getId() + "/offers?limit=" + OFFERS))
+                .header("Authorization", "Bearer " + context.getBean(TokenService.class).generateToken(user))
+                .timeout(Duration.ofSeconds(60))
+                .build();
+
+        running = true;
+        for (int i = 1; i < clients; i++) {
+            this.loop();
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        running = false;
+        context.close();
+    }
+
+    @Benchmark
+    public int listStoreOffers(BackgroundRequests background) throws Exception {
+        int status = httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+        background.update();
+        return status;
+    }
+
+    private void loop() {
+        if (!running) {
+            return;
+        }
+        httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                .handle((response, exception) -> {
+                    (exception == null && response.statusCode() == 200 ? COMPLETED : FAILED).incrementAndGet();
+                    return null;
+                })
+                .thenRunAsync(this::loop);
+    }
+}
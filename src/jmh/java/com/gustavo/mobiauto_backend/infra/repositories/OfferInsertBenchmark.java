@@ -0,0 +1,106 @@
+package com.gustavo.mobiauto_backend.infra.repositories;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.gustavo.mobiauto_backend.MobiautoBackendApplication;
+import com.gustavo.mobiauto_backend.model.offer.Offer;
+import com.gustavo.mobiauto_backend.model.offer.OfferStatus;
+import com.gustavo.mobiauto_backend.model.store.Store;
+import com.gustavo.mobiauto_backend.model.user.User;
+import com.gustavo.mobiauto_backend.model.vehicle.Vehicle;
+import com.gustavo.mobiauto_backend.model.vehicle.VehicleColor;
+import com.gustavo.mobiauto_backend.model.vehicle.VehicleModel;
+import com.gustavo.mobiauto_backend.model.vehicle.VehicleReleaseYear;
+import com.gustavo.mobiauto_backend.model.vehicle.VehicleType;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 8, time = 5)
+@Measurement(iterations = 5, time = 3)
+@Fork(1)
+public class OfferInsertBenchmark {
+    private static final int ROWS_PER_TRANSACTION = 500;
+
+    @Param({ "1", "50" })
+    private int allocationSize;
+
+    @Param({ "0", "50" })
+    private int batchSize;
+
+    private ConfigurableApplicationContext context;
+    private TransactionTemplate transactionTemplate;
+    private VehicleRepository vehicleRepository;
+    private OfferRepository offerRepository;
+    private User client;
+    private Store store;
+
+    @Setup
+    public void setUp() {
+        // Passed as arguments so they win over application.properties, which sets both sizes to 50.
+        context = new SpringApplicationBuilder(MobiautoBackendApplication.class)
+                .profiles("test")
+                .run(
+                        "--spring.docker.compose.enabled=false",
+                        "--spring.datasource.url=jdbc:h2:mem:offer-insert-benchmark;DB_CLOSE_ON_EXIT=FALSE",
+                        "--spring.jpa.show-sql=false",
+                        "--spring.jpa.properties.hibernate.order_inserts=true",
+                        "--spring.jpa.properties.hibernate.jdbc.batch_size=" + batchSize,
+                        "--spring.jpa.properties.mobiauto.id.allocation-size=" + allocationSize,
+                        "--logging.level.root=WARN");
+
+        transactionTemplate = context.getBean(TransactionTemplate.class);
+        vehicleRepository = context.getBean(VehicleRepository.class);
+        offerRepository = context.getBean(OfferRepository.class);
+        client = context.getBean(UserRepository.class)
+                .save(new User("Bench", "Mark", "bench.mark@example.com", "password"));
+        store = context.getBean(StoreRepository.class).save(new Store("Bench Store", "11.222.333/0001-81"));
+    }
+
+    // Keeps every iteration inserting into tables of the same size.
+    @TearDown(Level.Iteration)
+    public void deleteInsertedRows() {
+        transactionTemplate.executeWithoutResult(status -> {
+            offerRepository.deleteAllInBatch();
+            vehicleRepository.deleteAllInBatch();
+        });
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS_PER_TRANSACTION)
+    public void insertVehiclesAndOffers() {
+        transactionTemplate.executeWithoutResult(status -> {
+            for (int i = 0; i < ROWS_PER_TRANSACTION; i++) {
+                Vehicle vehicle = vehicleRepository.save(new Vehicle(
+                        VehicleType.CAR,
+                        new VehicleModel("Civic"),
+                        new VehicleReleaseYear(2020),
+                        new VehicleColor("Black")));
+                offerRepository.save(new Offer(OfferStatus.NEW, client, vehicle, store));
+            }
+        });
+    }
+}
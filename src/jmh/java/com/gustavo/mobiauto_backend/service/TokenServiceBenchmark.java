@@ -0,0 +1,69 @@
+package com.gustavo.mobiauto_backend.service;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.gustavo.mobiauto_backend.model.user.User;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class TokenServiceBenchmark {
+    private static final String SECRET = "benchmark-jwt-secret-key-for-token-validation";
+
+    private TokenService tokenService;
+    private TokenService cachingTokenService;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        tokenService = newTokenService(false);
+        cachingTokenService = newTokenService(true);
+
+        token = tokenService.generateToken(new User("Bench", "Mark", "bench.mark@example.com", "password"));
+    }
+
+    @Benchmark
+    public String validatePerCallVerifier() {
+        return JWT.require(Algorithm.HMAC256(SECRET))
+                .withIssuer("mobiauto-auth-api")
+                .build()
+                .verify(token)
+                .getSubject();
+    }
+
+    @Benchmark
+    public String validateSharedVerifier() {
+        return tokenService.validateToken(token);
+    }
+
+    @Benchmark
+    public String validateVerifiedTokenCache() {
+        return cachingTokenService.validateToken(token);
+    }
+
+    private static TokenService newTokenService(boolean verifiedCacheEnabled) {
+        TokenService service = new TokenService(new SimpleMeterRegistry(), verifiedCacheEnabled, 1000);
+        ReflectionTestUtils.setField(service, "secret", SECRET);
+        service.init();
+        return service;
+    }
+}
@@ -0,0 +1,34 @@
+package com.gustavo.mobiauto_backend.common.helpers;
+
+import com.gustavo.mobiauto_backend.service.exceptions.WeakETagException;
+
+public final class ETags {
+
+    private ETags() {
+    }
+
+    public static String of(long version) {
+        return "\"" + version + "\"";
+    }
+
+    public static Long version(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+
+        String tag = ifMatch.trim();
+        // If-Match uses the strong comparison (RFC 9110 13.1.1), which a weak validator never satisfies.
+        if (tag.startsWith("W/")) {
+            throw new WeakETagException(tag);
+        }
+        if (tag.length() > 1 && tag.startsWith("\"") && tag.endsWith("\"")) {
+            tag = tag.substring(1, tag.length() - 1);
+        }
+
+        try {
+            return Long.parseLong(tag);
+        } catch (NumberFormatException exception) {
+            throw new IllegalArgumentException("If-Match must be an ETag returned by this API.");
+        }
+    }
+}
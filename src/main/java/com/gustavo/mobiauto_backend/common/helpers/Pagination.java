@@ -0,0 +1,36 @@
+package com.gustavo.mobiauto_backend.common.helpers;
+
+import java.util.List;
+
+import org.springframework.data.domain.Limit;
+
+public final class Pagination {
+
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 100;
+    public static final int MAX_BATCH_SIZE = 100;
+
+    private Pagination() {
+    }
+
+    public static Limit limit(int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_PAGE_SIZE + ".");
+        }
+        return Limit.of(size);
+    }
+
+    public static long cursor(Long after) {
+        return after != null ? after : 0L;
+    }
+
+    public static List<Long> batch(List<Long> ids) {
+        if (ids == null || ids.isEmpty() || ids.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("Batch must contain between 1 and " + MAX_BATCH_SIZE + " ids.");
+        }
+        if (ids.contains(null)) {
+            throw new IllegalArgumentException("Batch ids cannot be null.");
+        }
+        return ids;
+    }
+}
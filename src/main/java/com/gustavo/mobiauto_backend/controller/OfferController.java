@@ -1,24 +1,75 @@
 package com.gustavo.mobiauto_backend.controller;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gustavo.mobiauto_backend.common.helpers.ETags;
+import com.gustavo.mobiauto_backend.common.helpers.Pagination;
+import com.gustavo.mobiauto_backend.controller.dto.BatchItemDto;
 import com.gustavo.mobiauto_backend.controller.dto.OfferDto;
+import com.gustavo.mobiauto_backend.controller.dto.OfferEventDto;
+import com.gustavo.mobiauto_backend.controller.dto.OfferFacetsDto;
+import com.gustavo.mobiauto_backend.controller.dto.OfferImportResultDto;
+import com.gustavo.mobiauto_backend.controller.dto.OfferSlaDto;
+import com.gustavo.mobiauto_backend.controller.dto.OfferSnapshotDto;
+import com.gustavo.mobiauto_backend.controller.dto.OfferSummaryDto;
+import com.gustavo.mobiauto_backend.controller.requests.BatchGetRequest;
+import com.gustavo.mobiauto_backend.controller.requests.OfferFacetRequest;
+import com.gustavo.mobiauto_backend.controller.requests.OfferReassignRequest;
+import com.gustavo.mobiauto_backend.controller.requests.OfferSearchRequest;
+import com.gustavo.mobiauto_backend.controller.requests.OfferStatusRequest;
 import com.gustavo.mobiauto_backend.controller.requests.VehicleRequest;
+import com.gustavo.mobiauto_backend.model.offer.Offer;
+import com.gustavo.mobiauto_backend.model.offer.OfferView;
+import com.gustavo.mobiauto_backend.model.store.Store;
+import com.gustavo.mobiauto_backend.service.OfferHistoryService;
+import com.gustavo.mobiauto_backend.service.OfferImportService;
 import com.gustavo.mobiauto_backend.service.OfferService;
+import com.gustavo.mobiauto_backend.service.OfferStreamService;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 
 @RestController
 public class OfferController {
+    private static final String APPLICATION_NDJSON_VALUE = "application/x-ndjson";
+
     private OfferService offersService;
+    private OfferImportService offerImportService;
+    private OfferHistoryService offerHistoryService;
+    private OfferStreamService offerStreamService;
+    private ObjectMapper objectMapper;
 
-    public OfferController(OfferService offersService) {
+    public OfferController(OfferService offersService, OfferImportService offerImportService,
+            OfferHistoryService offerHistoryService, OfferStreamService offerStreamService,
+            ObjectMapper objectMapper) {
         this.offersService = offersService;
+        this.offerImportService = offerImportService;
+        this.offerHistoryService = offerHistoryService;
+        this.offerStreamService = offerStreamService;
+        this.objectMapper = objectMapper;
     }
 
     @PostMapping("/stores/{storeId}/users/{userId}/offers")
@@ -26,9 +77,111 @@ public class OfferController {
             @PathVariable Long storeId,
             @PathVariable Long userId,
             @RequestBody VehicleRequest request) {
+        return withETag(HttpStatus.CREATED, offersService.registerOffer(storeId, userId, request));
+    }
+
+    @PostMapping("/offers:batchGet")
+    public ResponseEntity<List<BatchItemDto<OfferDto>>> batchGetOffers(@RequestBody BatchGetRequest request) {
+        List<Long> ids = Pagination.batch(request.ids());
+        List<Offer> offers = offersService.getOffers(ids).stream().filter(Offer::isActive).toList();
+
         return new ResponseEntity<>(
-                OfferDto.of(offersService.registerOffer(storeId, userId, request)),
-                HttpStatus.CREATED);
+                BatchItemDto.inRequestOrder(ids, offers, Offer::getId, OfferDto::of),
+                HttpStatus.OK);
+    }
+
+    @PostMapping(path = "/stores/{storeId}/offers/import", consumes = APPLICATION_NDJSON_VALUE)
+    public void importOffers(
+            @PathVariable Long storeId,
+            HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+        Store store = offerImportService.resolveStore(storeId);
+
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(APPLICATION_NDJSON_VALUE);
+
+        try (JsonGenerator generator = objectMapper.createGenerator(response.getOutputStream())) {
+            generator.setRootValueSeparator(null);
+            offerImportService.importOffers(store, request.getReader(), results -> {
+                try {
+                    for (OfferImportResultDto result : results) {
+                        generator.writeObject(result);
+                        generator.writeRaw('\n');
+                    }
+                    generator.flush();
+                } catch (IOException exception) {
+                    throw new UncheckedIOException(exception);
+                }
+            });
+        }
+    }
+
+    @GetMapping("/offers")
+    public ResponseEntity<List<OfferSummaryDto>> searchOffers(
+            OfferSearchRequest request,
+            @RequestParam(required = false) Long after,
+            @RequestParam(defaultValue = "" + Pagination.DEFAULT_PAGE_SIZE) int limit,
+            @RequestParam(defaultValue = "asc") String direction) {
+        List<OfferSummaryDto> offers = offersService
+                .searchOffers(request, after, limit, Sort.Direction.fromString(direction)).stream()
+                .map(OfferSummaryDto::of)
+                .toList();
+        return new ResponseEntity<>(offers, HttpStatus.OK);
+    }
+
+    @GetMapping("/offers/facets")
+    public ResponseEntity<OfferFacetsDto> getOfferFacets(OfferFacetRequest request) {
+        return new ResponseEntity<>(OfferFacetsDto.of(offersService.getOfferFacets(request)), HttpStatus.OK);
+    }
+
+    @GetMapping("/offers/search")
+    public ResponseEntity<List<OfferSummaryDto>> searchOffersByModel(
+            @RequestParam("q") String term,
+            @RequestParam(defaultValue = "" + Pagination.DEFAULT_PAGE_SIZE) int limit) {
+        List<OfferSummaryDto> offers = offersService.searchOffersByModel(term, limit).stream()
+                .map(OfferSummaryDto::of)
+                .toList();
+        return new ResponseEntity<>(offers, HttpStatus.OK);
+    }
+
+    @GetMapping("/stores/{storeId}/offers")
+    public void listStoreOffers(
+            @PathVariable Long storeId,
+            @RequestParam(required = false) Long after,
+            @RequestParam(defaultValue = "" + Pagination.DEFAULT_PAGE_SIZE) int limit,
+            HttpServletResponse response) {
+        offersService.streamActiveOffers(storeId, after, limit, offers -> writeOffers(offers, response));
+    }
+
+    @GetMapping("/stores/{storeId}/offers/sla")
+    public ResponseEntity<OfferSlaDto> getOfferSla(@PathVariable Long storeId) {
+        return new ResponseEntity<>(OfferSlaDto.of(offersService.getOfferSla(storeId)), HttpStatus.OK);
+    }
+
+    @GetMapping(value = "/stores/{storeId}/offers/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamOffers(@PathVariable Long storeId) {
+        return offerStreamService.subscribe(storeId);
+    }
+
+    @GetMapping("/offers/{id}")
+    public ResponseEntity<OfferDto> getOffer(@PathVariable Long id) {
+        OfferView offer = offersService.getOfferView(id);
+        return ResponseEntity.status(HttpStatus.OK).eTag(ETags.of(offer.version())).body(OfferDto.of(offer));
+    }
+
+    @GetMapping("/offers/{id}/events")
+    public ResponseEntity<List<OfferEventDto>> getOfferHistory(@PathVariable Long id) {
+        List<OfferEventDto> events = offerHistoryService.getHistory(id).stream()
+                .map(OfferEventDto::of)
+                .toList();
+        return new ResponseEntity<>(events, HttpStatus.OK);
+    }
+
+    @GetMapping("/offers/{id}/events/replay")
+    public ResponseEntity<OfferSnapshotDto> replayOffer(
+            @PathVariable Long id,
+            @RequestParam(required = false) Instant at) {
+        return new ResponseEntity<>(OfferSnapshotDto.of(offerHistoryService.replay(id, at)), HttpStatus.OK);
     }
 
     @DeleteMapping("/offers/{id}")
@@ -38,16 +191,49 @@ public class OfferController {
     }
 
     @PatchMapping("/offers/{id}")
-    public ResponseEntity<OfferDto> updateOffer(@PathVariable Long id, @RequestBody VehicleRequest request) {
-        return new ResponseEntity<>(
-                OfferDto.of(offersService.updateOffer(id, request)),
-                HttpStatus.OK);
+    public ResponseEntity<OfferDto> updateOffer(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @RequestBody VehicleRequest request) {
+        return withETag(HttpStatus.OK, offersService.updateOffer(id, request, ETags.version(ifMatch)));
+    }
+
+    @PatchMapping("/offers/{id}/status")
+    public ResponseEntity<OfferDto> transitionOffer(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @RequestBody OfferStatusRequest request) {
+        return withETag(HttpStatus.OK, offersService.transitionOffer(id, request.status(), ETags.version(ifMatch)));
+    }
+
+    @PatchMapping("/offers/{id}/assistant")
+    public ResponseEntity<OfferDto> reassignOffer(@PathVariable Long id, @RequestBody OfferReassignRequest request) {
+        return withETag(HttpStatus.OK,
+                offersService.reassignOffer(id, request.fromAssistantId(), request.toAssistantId()));
     }
 
     @PatchMapping("/offers/{id}/reactivate")
     public ResponseEntity<OfferDto> reactivateOffer(@PathVariable Long id) {
-        return new ResponseEntity<>(
-                OfferDto.of(offersService.reactivateOffer(id)),
-                HttpStatus.OK);
+        return withETag(HttpStatus.OK, offersService.reactivateOffer(id));
+    }
+
+    private ResponseEntity<OfferDto> withETag(HttpStatus status, Offer offer) {
+        return ResponseEntity.status(status).eTag(ETags.of(offer.getVersion())).body(OfferDto.of(offer));
+    }
+
+    private void writeOffers(Stream<Offer> offers, HttpServletResponse response) {
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+
+        try (JsonGenerator generator = objectMapper.createGenerator(response.getOutputStream())) {
+            generator.writeStartArray();
+            Iterator<Offer> iterator = offers.iterator();
+            while (iterator.hasNext()) {
+                generator.writeObject(OfferDto.of(iterator.next()));
+            }
+            generator.writeEndArray();
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
     }
 }
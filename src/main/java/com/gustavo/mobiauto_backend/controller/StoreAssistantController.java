@@ -0,0 +1,44 @@
+package com.gustavo.mobiauto_backend.controller;
+
+import java.util.List;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.gustavo.mobiauto_backend.controller.dto.StoreAssistantDto;
+import com.gustavo.mobiauto_backend.service.StoreAssistantService;
+
+@RestController
+public class StoreAssistantController {
+    private final StoreAssistantService storeAssistantService;
+
+    public StoreAssistantController(StoreAssistantService storeAssistantService) {
+        this.storeAssistantService = storeAssistantService;
+    }
+
+    @PutMapping("/stores/{storeId}/assistants/{userId}")
+    public ResponseEntity<StoreAssistantDto> addAssistant(@PathVariable Long storeId, @PathVariable Long userId) {
+        return new ResponseEntity<>(
+                StoreAssistantDto.of(storeAssistantService.addAssistant(storeId, userId)),
+                HttpStatus.CREATED);
+    }
+
+    @GetMapping("/stores/{storeId}/assistants")
+    public ResponseEntity<List<StoreAssistantDto>> listAssistants(@PathVariable Long storeId) {
+        List<StoreAssistantDto> assistants = storeAssistantService.listAssistants(storeId).stream()
+                .map(StoreAssistantDto::of)
+                .toList();
+        return new ResponseEntity<>(assistants, HttpStatus.OK);
+    }
+
+    @DeleteMapping("/stores/{storeId}/assistants/{userId}")
+    public ResponseEntity<Void> removeAssistant(@PathVariable Long storeId, @PathVariable Long userId) {
+        storeAssistantService.removeAssistant(storeId, userId);
+        return new ResponseEntity<>(HttpStatus.NO_CONTENT);
+    }
+}
@@ -1,7 +1,9 @@
 package com.gustavo.mobiauto_backend.controller;
 
 import java.util.List;
+import java.util.Map;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -10,10 +12,18 @@ import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.gustavo.mobiauto_backend.common.helpers.ETags;
+import com.gustavo.mobiauto_backend.common.helpers.Pagination;
+import com.gustavo.mobiauto_backend.controller.dto.BatchItemDto;
 import com.gustavo.mobiauto_backend.controller.dto.StoreDto;
+import com.gustavo.mobiauto_backend.controller.requests.BatchGetRequest;
 import com.gustavo.mobiauto_backend.controller.requests.StoreRequest;
+import com.gustavo.mobiauto_backend.model.store.Store;
+import com.gustavo.mobiauto_backend.model.store.StoreView;
 import com.gustavo.mobiauto_backend.service.StoreService;
 
 @RestController
@@ -26,25 +36,47 @@ public class StoreController {
 
     @PostMapping("/stores")
     public ResponseEntity<StoreDto> registerStore(@RequestBody StoreRequest request) {
-        return new ResponseEntity<>(StoreDto.of(storeService.registerStore(request)), HttpStatus.CREATED);
+        return new ResponseEntity<>(StoreDto.of(storeService.registerStore(request), 0), HttpStatus.CREATED);
     }
 
     @GetMapping("/stores")
-    public ResponseEntity<List<StoreDto>> listStores() {
-        List<StoreDto> report = storeService.listActiveStores().stream()
-                .map(StoreDto::of)
+    public ResponseEntity<List<StoreDto>> listStores(
+            @RequestParam(required = false) Long after,
+            @RequestParam(defaultValue = "" + Pagination.DEFAULT_PAGE_SIZE) int limit) {
+        List<Store> stores = storeService.listActiveStores(after, limit);
+        Map<Long, Long> offerCounts = storeService.countActiveOffers(stores.stream().map(Store::getId).toList());
+
+        List<StoreDto> report = stores.stream()
+                .map(store -> StoreDto.of(store, offerCounts.getOrDefault(store.getId(), 0L)))
                 .toList();
         return new ResponseEntity<>(report, HttpStatus.OK);
     }
 
+    @PostMapping("/stores:batchGet")
+    public ResponseEntity<List<BatchItemDto<StoreDto>>> batchGetStores(@RequestBody BatchGetRequest request) {
+        List<Long> ids = Pagination.batch(request.ids());
+        List<Store> stores = storeService.getStores(ids).stream().filter(Store::isActive).toList();
+        Map<Long, Long> offerCounts = storeService.countActiveOffers(stores.stream().map(Store::getId).toList());
+
+        return new ResponseEntity<>(
+                BatchItemDto.inRequestOrder(ids, stores, Store::getId,
+                        store -> StoreDto.of(store, offerCounts.getOrDefault(store.getId(), 0L))),
+                HttpStatus.OK);
+    }
+
     @GetMapping("/stores/{id}")
     public ResponseEntity<StoreDto> getStore(@PathVariable Long id) {
-        return new ResponseEntity<>(StoreDto.of(storeService.getStore(id)), HttpStatus.OK);
+        StoreView store = storeService.getStoreView(id);
+        return ResponseEntity.status(HttpStatus.OK).eTag(ETags.of(store.version()))
+                .body(StoreDto.of(store, storeService.countActiveOffers(id)));
     }
 
     @PatchMapping("/stores/{id}")
-    public ResponseEntity<StoreDto> updateStore(@PathVariable Long id, @RequestBody StoreRequest request) {
-        return new ResponseEntity<>(StoreDto.of(storeService.updateStore(id, request)), HttpStatus.OK);
+    public ResponseEntity<StoreDto> updateStore(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @RequestBody StoreRequest request) {
+        return withETag(storeService.updateStore(id, request, ETags.version(ifMatch)));
     }
 
     @DeleteMapping("/stores/{id}")
@@ -55,6 +87,14 @@ public class StoreController {
 
     @PatchMapping("/stores/{id}/reactivate")
     public ResponseEntity<StoreDto> reactivateStore(@PathVariable Long id) {
-        return new ResponseEntity<>(StoreDto.of(storeService.reactivateStore(id)), HttpStatus.OK);
+        return withETag(storeService.reactivateStore(id));
+    }
+
+    private ResponseEntity<StoreDto> withETag(Store store) {
+        return ResponseEntity.status(HttpStatus.OK).eTag(ETags.of(store.getVersion())).body(toDto(store));
+    }
+
+    private StoreDto toDto(Store store) {
+        return StoreDto.of(store, storeService.countActiveOffers(store.getId()));
     }
 }
@@ -1,5 +1,9 @@
 package com.gustavo.mobiauto_backend.controller;
 
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -10,13 +14,21 @@ import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.gustavo.mobiauto_backend.common.helpers.ETags;
+import com.gustavo.mobiauto_backend.common.helpers.Pagination;
 import com.gustavo.mobiauto_backend.controller.dto.AuthResponseDto;
+import com.gustavo.mobiauto_backend.controller.dto.BatchItemDto;
 import com.gustavo.mobiauto_backend.controller.dto.UserDto;
+import com.gustavo.mobiauto_backend.controller.requests.BatchGetRequest;
 import com.gustavo.mobiauto_backend.controller.requests.LoginRequest;
 import com.gustavo.mobiauto_backend.controller.requests.UserRequest;
+import com.gustavo.mobiauto_backend.infra.security.PasswordHashingExecutor;
 import com.gustavo.mobiauto_backend.model.user.User;
+import com.gustavo.mobiauto_backend.model.user.UserView;
+import com.gustavo.mobiauto_backend.service.AuthService;
 import com.gustavo.mobiauto_backend.service.TokenService;
 import com.gustavo.mobiauto_backend.service.UserService;
 
@@ -25,37 +37,60 @@ public class UserController {
     private final UserService userService;
     private final AuthenticationManager authenticationManager;
     private final TokenService tokenService;
+    private final AuthService authService;
+    private final PasswordHashingExecutor passwordHashingExecutor;
 
     public UserController(UserService userService, AuthenticationManager authenticationManager,
-            TokenService tokenService) {
+            TokenService tokenService, AuthService authService, PasswordHashingExecutor passwordHashingExecutor) {
         this.userService = userService;
         this.authenticationManager = authenticationManager;
         this.tokenService = tokenService;
+        this.authService = authService;
+        this.passwordHashingExecutor = passwordHashingExecutor;
     }
 
     @PostMapping("/auth/login")
-    public ResponseEntity<AuthResponseDto> login(@RequestBody LoginRequest request) {
+    public CompletableFuture<ResponseEntity<AuthResponseDto>> login(@RequestBody LoginRequest request) {
         var credentials = new UsernamePasswordAuthenticationToken(request.email(), request.password());
-        var auth = this.authenticationManager.authenticate(credentials);
 
-        var token = tokenService.generateToken((User) auth.getPrincipal());
+        return passwordHashingExecutor.submit(() -> this.authenticationManager.authenticate(credentials))
+                .thenApply(auth -> {
+                    var user = (User) auth.getPrincipal();
+                    authService.rehashPasswordIfOutdated(user, request.password());
 
-        return new ResponseEntity<>(AuthResponseDto.of(token), HttpStatus.OK);
+                    var token = tokenService.generateToken(user);
+                    return new ResponseEntity<>(AuthResponseDto.of(token), HttpStatus.OK);
+                });
     }
 
     @PostMapping("/users")
-    public ResponseEntity<UserDto> registerUser(@RequestBody UserRequest request) {
-        return new ResponseEntity<>(UserDto.of(userService.registerUser(request)), HttpStatus.CREATED);
+    public CompletableFuture<ResponseEntity<UserDto>> registerUser(@RequestBody UserRequest request) {
+        return passwordHashingExecutor.submit(() -> userService.registerUser(request))
+                .thenApply(user -> new ResponseEntity<>(UserDto.of(user), HttpStatus.CREATED));
+    }
+
+    @PostMapping("/users:batchGet")
+    public ResponseEntity<List<BatchItemDto<UserDto>>> batchGetUsers(@RequestBody BatchGetRequest request) {
+        List<Long> ids = Pagination.batch(request.ids());
+        List<User> users = userService.findUsers(ids).stream().filter(User::isActive).toList();
+
+        return new ResponseEntity<>(
+                BatchItemDto.inRequestOrder(ids, users, User::getId, UserDto::of),
+                HttpStatus.OK);
     }
 
     @GetMapping("/users/{id}")
     public ResponseEntity<UserDto> getUser(@PathVariable Long id) {
-        return new ResponseEntity<>(UserDto.of(userService.findUser(id)), HttpStatus.OK);
+        UserView user = userService.findUserView(id);
+        return ResponseEntity.status(HttpStatus.OK).eTag(ETags.of(user.version())).body(UserDto.of(user));
     }
 
     @PatchMapping("/users/{id}")
-    public ResponseEntity<UserDto> updateUser(@PathVariable Long id, @RequestBody UserRequest request) {
-        return new ResponseEntity<>(UserDto.of(userService.updateUser(id, request)), HttpStatus.OK);
+    public ResponseEntity<UserDto> updateUser(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @RequestBody UserRequest request) {
+        return withETag(userService.updateUser(id, request, ETags.version(ifMatch)));
     }
 
     @DeleteMapping("/users/{id}")
@@ -66,6 +101,10 @@ public class UserController {
 
     @PatchMapping("/users/{id}/reactivate")
     public ResponseEntity<UserDto> reactivateUser(@PathVariable Long id) {
-        return new ResponseEntity<>(UserDto.of(userService.reactivateUser(id)), HttpStatus.OK);
+        return withETag(userService.reactivateUser(id));
+    }
+
+    private ResponseEntity<UserDto> withETag(User user) {
+        return ResponseEntity.status(HttpStatus.OK).eTag(ETags.of(user.getVersion())).body(UserDto.of(user));
     }
 }
@@ -0,0 +1,27 @@
+package com.gustavo.mobiauto_backend.controller.dto;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record BatchItemDto<T>(Long id, boolean found, T value) {
+
+    public static <E, T> List<BatchItemDto<T>> inRequestOrder(List<Long> ids, Collection<E> entities,
+            Function<E, Long> idOf, Function<E, T> toDto) {
+        Map<Long, E> byId = entities.stream().collect(Collectors.toMap(idOf, Function.identity()));
+
+        return ids.stream()
+                .map(id -> {
+                    E entity = byId.get(id);
+                    return entity != null
+                            ? new BatchItemDto<>(id, true, toDto.apply(entity))
+                            : new BatchItemDto<T>(id, false, null);
+                })
+                .toList();
+    }
+}
@@ -1,8 +1,11 @@
 package com.gustavo.mobiauto_backend.controller.dto;
 
+import java.time.Instant;
+
 import com.gustavo.mobiauto_backend.common.helpers.Formatters;
 import com.gustavo.mobiauto_backend.model.offer.Offer;
 import com.gustavo.mobiauto_backend.model.offer.OfferStatus;
+import com.gustavo.mobiauto_backend.model.offer.OfferView;
 import com.gustavo.mobiauto_backend.service.exceptions.DeactivatedOfferException;
 
 import lombok.Data;
@@ -15,15 +18,23 @@ public class OfferDto {
     private VehicleDto vehicle;
     private String storeCnpj;
     private String storeName;
+    private Long assistantId;
+    private Instant createdAt;
+    private Instant attendedAt;
+    private Instant completedAt;
 
     private OfferDto(Long id, OfferStatus status, UserDto client, VehicleDto vehicle, String storeCnpj,
-            String storeName) {
+            String storeName, Long assistantId, Instant createdAt, Instant attendedAt, Instant completedAt) {
         this.id = id;
         this.status = status;
         this.client = client;
         this.vehicle = vehicle;
         this.storeCnpj = Formatters.formatCnpj(storeCnpj);
         this.storeName = storeName;
+        this.assistantId = assistantId;
+        this.createdAt = createdAt;
+        this.attendedAt = attendedAt;
+        this.completedAt = completedAt;
     }
 
     public static OfferDto of(Offer offer) {
@@ -36,6 +47,27 @@ public class OfferDto {
                 UserDto.of(offer.getClient()),
                 VehicleDto.of(offer.getVehicle()),
                 offer.getStore().getCnpj().getValue(),
-                offer.getStore().getCompanyName().getValue());
+                offer.getStore().getCompanyName().getValue(),
+                offer.getAssistant() != null ? offer.getAssistant().getId() : null,
+                offer.getCreatedAt(),
+                offer.getAttendedAt(),
+                offer.getCompletedAt());
+    }
+
+    public static OfferDto of(OfferView offer) {
+        if (!offer.active())
+            throw new DeactivatedOfferException(offer.id());
+
+        return new OfferDto(
+                offer.id(),
+                offer.status(),
+                UserDto.of(offer.client()),
+                VehicleDto.of(offer),
+                offer.storeCnpj(),
+                offer.storeName(),
+                offer.assistantId(),
+                offer.createdAt(),
+                offer.attendedAt(),
+                offer.completedAt());
     }
 }
@@ -0,0 +1,29 @@
+package com.gustavo.mobiauto_backend.controller.dto;
+
+import java.time.Instant;
+
+import com.gustavo.mobiauto_backend.infra.events.OfferSnapshotCodec;
+import com.gustavo.mobiauto_backend.model.offer.OfferEvent;
+import com.gustavo.mobiauto_backend.model.offer.OfferEventType;
+
+import lombok.Data;
+
+@Data
+public class OfferEventDto {
+    private OfferEventType type;
+    private Instant occurredAt;
+    private OfferSnapshotDto state;
+
+    private OfferEventDto(OfferEventType type, Instant occurredAt, OfferSnapshotDto state) {
+        this.type = type;
+        this.occurredAt = occurredAt;
+        this.state = state;
+    }
+
+    public static OfferEventDto of(OfferEvent event) {
+        return new OfferEventDto(
+                event.getType(),
+                event.getOccurredAt(),
+                OfferSnapshotDto.of(OfferSnapshotCodec.decode(event.getOfferId(), event.getPayload())));
+    }
+}
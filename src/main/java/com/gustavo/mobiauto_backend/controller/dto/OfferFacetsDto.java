@@ -0,0 +1,36 @@
+package com.gustavo.mobiauto_backend.controller.dto;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.gustavo.mobiauto_backend.infra.search.OfferFacetIndex;
+import com.gustavo.mobiauto_backend.infra.search.OfferFacetIndex.FacetCounts;
+
+import lombok.Data;
+
+@Data
+public class OfferFacetsDto {
+    private long total;
+    private Map<String, Long> types;
+    private Map<String, Long> releaseYears;
+    private Map<String, Long> colors;
+
+    private OfferFacetsDto(long total, Map<String, Long> types, Map<String, Long> releaseYears,
+            Map<String, Long> colors) {
+        this.total = total;
+        this.types = types;
+        this.releaseYears = releaseYears;
+        this.colors = colors;
+    }
+
+    public static OfferFacetsDto of(FacetCounts counts) {
+        Map<String, Long> types = new LinkedHashMap<>();
+        counts.types().forEach((type, count) -> types.put(type.name(), count));
+
+        Map<String, Long> releaseYears = new LinkedHashMap<>();
+        counts.releaseYearBuckets().forEach((bucket, count) -> releaseYears.put(
+                bucket + "-" + (bucket + OfferFacetIndex.RELEASE_YEAR_BUCKET_SIZE - 1), count));
+
+        return new OfferFacetsDto(counts.total(), types, releaseYears, counts.colors());
+    }
+}
@@ -0,0 +1,29 @@
+package com.gustavo.mobiauto_backend.controller.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class OfferImportResultDto {
+    private long row;
+    private Status status;
+    private Long offerId;
+    private String error;
+
+    public enum Status {
+        CREATED,
+        REJECTED
+    }
+
+    public static OfferImportResultDto created(long row, Long offerId) {
+        return new OfferImportResultDto(row, Status.CREATED, offerId, null);
+    }
+
+    public static OfferImportResultDto rejected(long row, String error) {
+        return new OfferImportResultDto(row, Status.REJECTED, null, error);
+    }
+}
@@ -0,0 +1,41 @@
+package com.gustavo.mobiauto_backend.controller.dto;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.gustavo.mobiauto_backend.service.OfferSlaService;
+import com.gustavo.mobiauto_backend.service.OfferSlaService.HistogramSnapshot;
+import com.gustavo.mobiauto_backend.service.OfferSlaService.StoreSlaSnapshot;
+
+import lombok.Data;
+
+@Data
+public class OfferSlaDto {
+    private Histogram firstAttendance;
+    private Histogram completion;
+
+    private OfferSlaDto(Histogram firstAttendance, Histogram completion) {
+        this.firstAttendance = firstAttendance;
+        this.completion = completion;
+    }
+
+    public static OfferSlaDto of(StoreSlaSnapshot snapshot) {
+        return new OfferSlaDto(Histogram.of(snapshot.firstAttendance()), Histogram.of(snapshot.completion()));
+    }
+
+    public record Histogram(long count, Long averageSeconds, Map<String, Long> buckets) {
+        static Histogram of(HistogramSnapshot snapshot) {
+            Map<String, Long> buckets = new LinkedHashMap<>();
+            for (int i = 0; i < OfferSlaService.BUCKET_BOUNDS.size(); i++) {
+                buckets.put("<=" + OfferSlaService.BUCKET_BOUNDS.get(i), snapshot.buckets()[i]);
+            }
+            buckets.put(">" + OfferSlaService.BUCKET_BOUNDS.get(OfferSlaService.BUCKET_BOUNDS.size() - 1),
+                    snapshot.buckets()[OfferSlaService.BUCKET_BOUNDS.size()]);
+
+            return new Histogram(
+                    snapshot.count(),
+                    snapshot.count() > 0 ? snapshot.totalSeconds() / snapshot.count() : null,
+                    buckets);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.gustavo.mobiauto_backend.controller.dto;
+
+import java.time.Instant;
+
+import com.gustavo.mobiauto_backend.model.offer.OfferSnapshot;
+import com.gustavo.mobiauto_backend.model.offer.OfferStatus;
+import com.gustavo.mobiauto_backend.model.vehicle.VehicleType;
+
+import lombok.Data;
+
+@Data
+public class OfferSnapshotDto {
+    private Long id;
+    private OfferStatus status;
+    private boolean active;
+    private Long clientId;
+    private Long storeId;
+    private Long assistantId;
+    private Vehicle vehicle;
+    private Instant createdAt;
+    private Instant attendedAt;
+    private Instant completedAt;
+
+    private OfferSnapshotDto(OfferSnapshot snapshot) {
+        this.id = snapshot.offerId();
+        this.status = snapshot.status();
+        this.active = snapshot.active();
+        this.clientId = snapshot.clientId();
+        this.storeId = snapshot.storeId();
+        this.assistantId = snapshot.assistantId();
+        this.vehicle = new Vehicle(snapshot.vehicleId(), snapshot.vehicleType(), snapshot.vehicleModel(),
+                snapshot.releaseYear(), snapshot.color());
+        this.createdAt = snapshot.createdAt();
+        this.attendedAt = snapshot.attendedAt();
+        this.completedAt = snapshot.completedAt();
+    }
+
+    public static OfferSnapshotDto of(OfferSnapshot snapshot) {
+        return new OfferSnapshotDto(snapshot);
+    }
+
+    public record Vehicle(Long id, VehicleType type, String model, int releaseYear, String color) {
+    }
+}
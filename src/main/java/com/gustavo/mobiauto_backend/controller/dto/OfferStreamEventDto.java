@@ -0,0 +1,32 @@
+package com.gustavo.mobiauto_backend.controller.dto;
+
+import java.time.Instant;
+
+import com.gustavo.mobiauto_backend.model.offer.Offer;
+import com.gustavo.mobiauto_backend.model.offer.OfferEventType;
+import com.gustavo.mobiauto_backend.service.events.OfferChangedEvent;
+
+import lombok.Data;
+
+@Data
+public class OfferStreamEventDto {
+    private OfferEventType type;
+    private Long offerId;
+    private Instant occurredAt;
+    private OfferDto offer;
+
+    private OfferStreamEventDto(OfferEventType type, Long offerId, Instant occurredAt, OfferDto offer) {
+        this.type = type;
+        this.offerId = offerId;
+        this.occurredAt = occurredAt;
+        this.offer = offer;
+    }
+
+    public static OfferStreamEventDto of(OfferChangedEvent event, Offer offer) {
+        return new OfferStreamEventDto(
+                event.type(),
+                event.snapshot().offerId(),
+                event.occurredAt(),
+                offer != null && offer.isActive() ? OfferDto.of(offer) : null);
+    }
+}
@@ -0,0 +1,39 @@
+package com.gustavo.mobiauto_backend.controller.dto;
+
+import com.gustavo.mobiauto_backend.model.offer.Offer;
+import com.gustavo.mobiauto_backend.model.offer.OfferStatus;
+
+import lombok.Data;
+
+@Data
+public class OfferSummaryDto {
+    private Long id;
+    private OfferStatus status;
+    private boolean active;
+    private Long storeId;
+    private Long clientId;
+    private Long assistantId;
+    private VehicleDto vehicle;
+
+    private OfferSummaryDto(Long id, OfferStatus status, boolean active, Long storeId, Long clientId,
+            Long assistantId, VehicleDto vehicle) {
+        this.id = id;
+        this.status = status;
+        this.active = active;
+        this.storeId = storeId;
+        this.clientId = clientId;
+        this.assistantId = assistantId;
+        this.vehicle = vehicle;
+    }
+
+    public static OfferSummaryDto of(Offer offer) {
+        return new OfferSummaryDto(
+                offer.getId(),
+                offer.getStatus(),
+                offer.isActive(),
+                offer.getStore().getId(),
+                offer.getClient().getId(),
+                offer.getAssistant() != null ? offer.getAssistant().getId() : null,
+                VehicleDto.of(offer.getVehicle()));
+    }
+}
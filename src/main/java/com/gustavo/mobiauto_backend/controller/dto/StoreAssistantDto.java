@@ -0,0 +1,27 @@
+package com.gustavo.mobiauto_backend.controller.dto;
+
+import java.time.Instant;
+
+import com.gustavo.mobiauto_backend.model.store.StoreAssistant;
+
+import lombok.Data;
+
+@Data
+public class StoreAssistantDto {
+    private Long storeId;
+    private UserDto user;
+    private Instant lastAssignedAt;
+
+    private StoreAssistantDto(Long storeId, UserDto user, Instant lastAssignedAt) {
+        this.storeId = storeId;
+        this.user = user;
+        this.lastAssignedAt = lastAssignedAt;
+    }
+
+    public static StoreAssistantDto of(StoreAssistant assistant) {
+        return new StoreAssistantDto(
+                assistant.getStore().getId(),
+                UserDto.of(assistant.getUser()),
+                assistant.getLastAssignedAt());
+    }
+}
@@ -1,6 +1,7 @@
 package com.gustavo.mobiauto_backend.controller.dto;
 
 import com.gustavo.mobiauto_backend.model.user.User;
+import com.gustavo.mobiauto_backend.model.user.UserView;
 import com.gustavo.mobiauto_backend.service.exceptions.DeactivatedUserException;
 
 import lombok.Data;
@@ -23,4 +24,11 @@ public class UserDto {
 
         return new UserDto(user.getId(), user.getFullName(), user.getEmail().getValue());
     }
+
+    public static UserDto of(UserView user) {
+        if (!user.active())
+            throw new DeactivatedUserException(user.id());
+
+        return new UserDto(user.id(), user.fullName(), user.email());
+    }
 }
\ No newline at end of file
@@ -1,5 +1,7 @@
 package com.gustavo.mobiauto_backend.controller.dto;
 
+import com.gustavo.mobiauto_backend.model.offer.OfferView;
+
 import lombok.Data;
 
 @Data
@@ -23,4 +25,8 @@ public class VehicleDto {
                 vehicle.getReleaseYear().getValue(),
                 vehicle.getType().getValue());
     }
+
+    public static VehicleDto of(OfferView offer) {
+        return new VehicleDto(offer.vehicleModel(), offer.vehicleColor(), offer.releaseYear(), offer.vehicleType());
+    }
 }
@@ -1,25 +1,34 @@
 package com.gustavo.mobiauto_backend.controller.handlers;
 
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
 import com.gustavo.mobiauto_backend.controller.dto.ErrorResponseDto;
 import com.gustavo.mobiauto_backend.infra.exceptions.OfferNotFoundException;
+import com.gustavo.mobiauto_backend.infra.exceptions.PasswordHashingBusyException;
+import com.gustavo.mobiauto_backend.infra.exceptions.StoreAssistantNotFoundException;
 import com.gustavo.mobiauto_backend.infra.exceptions.StoreNotFoundException;
 import com.gustavo.mobiauto_backend.infra.exceptions.UserNotFoundException;
 import com.gustavo.mobiauto_backend.infra.exceptions.VehicleNotFoundException;
 import com.gustavo.mobiauto_backend.service.exceptions.AlreadyActiveException;
 import com.gustavo.mobiauto_backend.service.exceptions.AlreadyDeactivatedException;
+import com.gustavo.mobiauto_backend.service.exceptions.AssistantMismatchException;
 import com.gustavo.mobiauto_backend.service.exceptions.DeactivatedOfferException;
 import com.gustavo.mobiauto_backend.service.exceptions.DeactivatedStoreException;
 import com.gustavo.mobiauto_backend.service.exceptions.DeactivatedUserException;
 import com.gustavo.mobiauto_backend.service.exceptions.DuplicateException;
 import com.gustavo.mobiauto_backend.service.exceptions.EntityInUseException;
+import com.gustavo.mobiauto_backend.service.exceptions.InvalidStatusTransitionException;
 import com.gustavo.mobiauto_backend.service.exceptions.TokenGenerationException;
+import com.gustavo.mobiauto_backend.service.exceptions.VersionMismatchException;
+import com.gustavo.mobiauto_backend.service.exceptions.WeakETagException;
 
 @ControllerAdvice
 public class GlobalExceptionHandler {
@@ -27,6 +36,7 @@ public class GlobalExceptionHandler {
         @ExceptionHandler({
                         UserNotFoundException.class,
                         StoreNotFoundException.class,
+                        StoreAssistantNotFoundException.class,
                         OfferNotFoundException.class,
                         VehicleNotFoundException.class
         })
@@ -62,6 +72,16 @@ public class GlobalExceptionHandler {
                 return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
         }
 
+        @ExceptionHandler(MethodArgumentTypeMismatchException.class)
+        public ResponseEntity<ErrorResponseDto> handleTypeMismatch(MethodArgumentTypeMismatchException ex,
+                        WebRequest request) {
+                ErrorResponseDto error = ErrorResponseDto.of(
+                                "Invalid value for parameter '" + ex.getName() + "'",
+                                HttpStatus.BAD_REQUEST.value(),
+                                "Validation Error");
+                return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+        }
+
         @ExceptionHandler(BadCredentialsException.class)
         public ResponseEntity<ErrorResponseDto> handleAuthentication(BadCredentialsException ex, WebRequest request) {
                 ErrorResponseDto error = ErrorResponseDto.of(
@@ -73,7 +93,9 @@ public class GlobalExceptionHandler {
 
         @ExceptionHandler({
                         DuplicateException.class,
-                        EntityInUseException.class
+                        EntityInUseException.class,
+                        AssistantMismatchException.class,
+                        InvalidStatusTransitionException.class
         })
         public ResponseEntity<ErrorResponseDto> handleDataIntegrityConflict(RuntimeException ex, WebRequest request) {
                 ErrorResponseDto error = ErrorResponseDto.of(
@@ -83,6 +105,49 @@ public class GlobalExceptionHandler {
                 return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
         }
 
+        @ExceptionHandler(OptimisticLockingFailureException.class)
+        public ResponseEntity<ErrorResponseDto> handleConcurrentUpdate(OptimisticLockingFailureException ex,
+                        WebRequest request) {
+                ErrorResponseDto error = ErrorResponseDto.of(
+                                "The resource was modified concurrently, reload it and try again.",
+                                HttpStatus.CONFLICT.value(),
+                                "Conflict");
+                return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
+        }
+
+        @ExceptionHandler({
+                        VersionMismatchException.class,
+                        WeakETagException.class
+        })
+        public ResponseEntity<ErrorResponseDto> handlePreconditionFailed(RuntimeException ex,
+                        WebRequest request) {
+                ErrorResponseDto error = ErrorResponseDto.of(
+                                ex.getMessage(),
+                                HttpStatus.PRECONDITION_FAILED.value(),
+                                "Precondition Failed");
+                return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).body(error);
+        }
+
+        @ExceptionHandler(PasswordHashingBusyException.class)
+        public ResponseEntity<ErrorResponseDto> handleTooManyRequests(PasswordHashingBusyException ex,
+                        WebRequest request) {
+                ErrorResponseDto error = ErrorResponseDto.of(
+                                ex.getMessage(),
+                                HttpStatus.TOO_MANY_REQUESTS.value(),
+                                "Too Many Requests");
+                return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).body(error);
+        }
+
+        @ExceptionHandler(CannotCreateTransactionException.class)
+        public ResponseEntity<ErrorResponseDto> handleServiceUnavailable(CannotCreateTransactionException ex,
+                        WebRequest request) {
+                ErrorResponseDto error = ErrorResponseDto.of(
+                                "Database is busy, try again later.",
+                                HttpStatus.SERVICE_UNAVAILABLE.value(),
+                                "Service Unavailable");
+                return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(error);
+        }
+
         @ExceptionHandler(TokenGenerationException.class)
         public ResponseEntity<ErrorResponseDto> handleTokenGeneration(TokenGenerationException ex, WebRequest request) {
                 ErrorResponseDto error = ErrorResponseDto.of(
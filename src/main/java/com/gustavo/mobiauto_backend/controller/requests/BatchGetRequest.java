@@ -0,0 +1,6 @@
+package com.gustavo.mobiauto_backend.controller.requests;
+
+import java.util.List;
+
+public record BatchGetRequest(List<Long> ids) {
+}
@@ -0,0 +1,10 @@
+package com.gustavo.mobiauto_backend.controller.requests;
+
+import lombok.Data;
+
+@Data
+public class OfferFacetRequest {
+    private String type;
+    private Integer releaseYear;
+    private String color;
+}
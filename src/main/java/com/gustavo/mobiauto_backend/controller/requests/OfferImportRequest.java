@@ -0,0 +1,10 @@
+package com.gustavo.mobiauto_backend.controller.requests;
+
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+
+@Data
+@EqualsAndHashCode(callSuper = true)
+public class OfferImportRequest extends VehicleRequest {
+    private Long clientId;
+}
@@ -0,0 +1,4 @@
+package com.gustavo.mobiauto_backend.controller.requests;
+
+public record OfferReassignRequest(Long fromAssistantId, Long toAssistantId) {
+}
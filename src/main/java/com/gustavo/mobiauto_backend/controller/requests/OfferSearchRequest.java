@@ -0,0 +1,15 @@
+package com.gustavo.mobiauto_backend.controller.requests;
+
+import lombok.Data;
+
+@Data
+public class OfferSearchRequest {
+    private Long storeId;
+    private Long clientId;
+    private String status;
+    private Boolean active = true;
+    private String type;
+    private String model;
+    private Integer minReleaseYear;
+    private Integer maxReleaseYear;
+}
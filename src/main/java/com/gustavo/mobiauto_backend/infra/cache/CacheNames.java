@@ -0,0 +1,10 @@
+package com.gustavo.mobiauto_backend.infra.cache;
+
+public final class CacheNames {
+    public static final String STORES = "stores";
+    public static final String USERS = "users";
+    public static final String OFFERS = "offers";
+
+    private CacheNames() {
+    }
+}
@@ -0,0 +1,44 @@
+package com.gustavo.mobiauto_backend.infra.cache;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+@Configuration
+@EnableCaching
+public class LookupCacheConfig {
+
+    @Bean
+    public CacheManager cacheManager(
+            @Value("${mobiauto.lookup-cache.stores.max-size:10000}") long storesSize,
+            @Value("${mobiauto.lookup-cache.stores.ttl:10m}") Duration storesTtl,
+            @Value("${mobiauto.lookup-cache.users.max-size:10000}") long usersSize,
+            @Value("${mobiauto.lookup-cache.users.ttl:10m}") Duration usersTtl,
+            @Value("${mobiauto.lookup-cache.offers.max-size:50000}") long offersSize,
+            @Value("${mobiauto.lookup-cache.offers.ttl:5m}") Duration offersTtl) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.setCacheNames(List.of());
+        cacheManager.setAllowNullValues(false);
+        cacheManager.registerCustomCache(CacheNames.STORES, cache(storesSize, storesTtl));
+        cacheManager.registerCustomCache(CacheNames.USERS, cache(usersSize, usersTtl));
+        cacheManager.registerCustomCache(CacheNames.OFFERS, cache(offersSize, offersTtl));
+        return cacheManager;
+    }
+
+    private static Cache<Object, Object> cache(long maximumSize, Duration ttl) {
+        return Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+}
@@ -0,0 +1,49 @@
+package com.gustavo.mobiauto_backend.infra.cache;
+
+import java.util.function.Supplier;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Component
+public class LookupCaches {
+    private final CacheManager cacheManager;
+
+    public LookupCaches(CacheManager cacheManager) {
+        this.cacheManager = cacheManager;
+    }
+
+    // The value is built after commit, once the flush has bumped the entity's version, so the cached view
+    // carries the version the next If-Match has to send.
+    public void putAfterCommit(String cacheName, Object key, Supplier<?> value) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            cache.put(key, value.get());
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                cache.put(key, value.get());
+            }
+        });
+    }
+
+    public void evictAfterCommit(String cacheName, Object key) {
+        Cache cache = cacheManager.getCache(cacheName);
+        cache.evict(key);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    cache.evict(key);
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.gustavo.mobiauto_backend.infra.events;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.gustavo.mobiauto_backend.infra.repositories.OfferEventRepository;
+import com.gustavo.mobiauto_backend.model.offer.OfferEvent;
+
+@Component
+public class JpaOfferEventStore implements OfferEventStore {
+    private final OfferEventRepository offerEventRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public JpaOfferEventStore(OfferEventRepository offerEventRepository,
+            PlatformTransactionManager transactionManager) {
+        this.offerEventRepository = offerEventRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public void append(List<OfferEvent> events) {
+        transactionTemplate.executeWithoutResult(status -> offerEventRepository.saveAll(events));
+    }
+
+    @Override
+    public List<OfferEvent> findByOffer(Long offerId) {
+        return offerEventRepository.findByOffer(offerId);
+    }
+
+    @Override
+    public Optional<OfferEvent> findLatestAt(Long offerId, Instant at) {
+        return offerEventRepository.findFirstByOfferIdAndOccurredAtLessThanEqualOrderByOccurredAtDescIdDesc(
+                offerId, at);
+    }
+}
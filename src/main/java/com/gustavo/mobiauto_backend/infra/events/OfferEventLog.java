@@ -0,0 +1,190 @@
+package com.gustavo.mobiauto_backend.infra.events;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.gustavo.mobiauto_backend.model.offer.OfferEvent;
+import com.gustavo.mobiauto_backend.service.events.OfferChangedEvent;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+public class OfferEventLog implements DisposableBean {
+    public enum Overflow {
+        CALLER_RUNS, DROP
+    }
+
+    private final OfferEventStore offerEventStore;
+    private final BlockingQueue<OfferChangedEvent> pending;
+    private final int batchSize;
+    private final Overflow overflow;
+    private final int maxAttempts;
+    private final Duration retryBackoff;
+    private final Duration maxRetryBackoff;
+    private final ExecutorService writer;
+    private final Counter written;
+    private final Counter failed;
+    private final Counter retried;
+    private final Counter overflowed;
+    private volatile boolean running = true;
+
+    public OfferEventLog(
+            OfferEventStore offerEventStore,
+            MeterRegistry meterRegistry,
+            @Value("${mobiauto.offers.event-log.batch-size:100}") int batchSize,
+            @Value("${mobiauto.offers.event-log.queue-capacity:10000}") int queueCapacity,
+            @Value("${mobiauto.offers.event-log.overflow:caller-runs}") Overflow overflow,
+            @Value("${mobiauto.offers.event-log.max-attempts:10}") int maxAttempts,
+            @Value("${mobiauto.offers.event-log.retry-backoff:100ms}") Duration retryBackoff,
+            @Value("${mobiauto.offers.event-log.max-retry-backoff:30s}") Duration maxRetryBackoff) {
+        this.offerEventStore = offerEventStore;
+        this.pending = new LinkedBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.overflow = overflow;
+        this.maxAttempts = maxAttempts;
+        this.retryBackoff = retryBackoff;
+        this.maxRetryBackoff = maxRetryBackoff;
+        this.written = meterRegistry.counter("offer.events.written");
+        this.failed = meterRegistry.counter("offer.events.failed");
+        this.retried = meterRegistry.counter("offer.events.retried");
+        this.overflowed = meterRegistry.counter("offer.events.overflowed", "policy", overflow.name().toLowerCase());
+        meterRegistry.gaugeCollectionSize("offer.events.pending", List.of(), pending);
+
+        this.writer = Executors.newSingleThreadExecutor(new CustomizableThreadFactory("offer-event-log-"));
+        this.writer.execute(this::drainContinuously);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOfferChanged(OfferChangedEvent event) {
+        if (pending.offer(event)) {
+            return;
+        }
+
+        overflowed.increment();
+        if (overflow == Overflow.CALLER_RUNS) {
+            // The writer is behind; pay for this one write here rather than lose the event or block on the queue.
+            this.write(List.of(event));
+        } else {
+            log.warn("Offer event log queue full, dropped {} of offer {}", event.type(), event.snapshot().offerId());
+        }
+    }
+
+    public void flush() {
+        List<OfferChangedEvent> batch = new ArrayList<>(batchSize);
+        while (pending.drainTo(batch, batchSize) > 0) {
+            this.write(batch);
+            batch.clear();
+        }
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        running = false;
+        writer.shutdown();
+        if (!writer.awaitTermination(5, TimeUnit.SECONDS)) {
+            writer.shutdownNow();
+            writer.awaitTermination(5, TimeUnit.SECONDS);
+        }
+        this.flush();
+    }
+
+    private void drainContinuously() {
+        List<OfferChangedEvent> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                OfferChangedEvent first = pending.poll(1, TimeUnit.SECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                pending.drainTo(batch, batchSize - 1);
+                this.writeWithRetry(batch);
+                batch.clear();
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    // Keeps the batch while it is retried; meanwhile new events queue up and, once full, hit the overflow policy.
+    private void writeWithRetry(List<OfferChangedEvent> batch) throws InterruptedException {
+        Duration backoff = retryBackoff;
+        for (int attempt = 1; running; attempt++) {
+            try {
+                this.append(batch);
+                return;
+            } catch (RuntimeException exception) {
+                if (attempt >= maxAttempts) {
+                    log.warn("Could not write {} offer events after {} attempts, writing them one at a time",
+                            batch.size(), attempt, exception);
+                    this.writeEach(batch);
+                    return;
+                }
+                retried.increment();
+                log.warn("Could not write {} offer events, retrying in {}", batch.size(), backoff, exception);
+            }
+            try {
+                Thread.sleep(backoff.toMillis());
+            } catch (InterruptedException exception) {
+                this.write(batch);
+                throw exception;
+            }
+            backoff = backoff.multipliedBy(2).compareTo(maxRetryBackoff) > 0
+                    ? maxRetryBackoff
+                    : backoff.multipliedBy(2);
+        }
+        // Shutting down: one last attempt before giving up on the batch.
+        this.write(batch);
+    }
+
+    // A poison event fails only itself: it is logged with its encoded snapshot so it can be replayed by hand.
+    private void writeEach(List<OfferChangedEvent> batch) {
+        for (OfferChangedEvent event : batch) {
+            try {
+                this.append(List.of(event));
+            } catch (RuntimeException exception) {
+                failed.increment();
+                log.error("Could not write {} of offer {} at {}, snapshot {}", event.type(),
+                        event.snapshot().offerId(), event.occurredAt(),
+                        Base64.getEncoder().encodeToString(OfferSnapshotCodec.encode(event.snapshot())), exception);
+            }
+        }
+    }
+
+    private void write(List<OfferChangedEvent> batch) {
+        try {
+            this.append(batch);
+        } catch (RuntimeException exception) {
+            failed.increment(batch.size());
+            log.error("Could not write {} offer events", batch.size(), exception);
+        }
+    }
+
+    private void append(List<OfferChangedEvent> batch) {
+        offerEventStore.append(batch.stream()
+                .map(event -> new OfferEvent(
+                        event.snapshot().offerId(),
+                        event.type(),
+                        event.occurredAt(),
+                        OfferSnapshotCodec.encode(event.snapshot())))
+                .toList());
+        written.increment(batch.size());
+    }
+}
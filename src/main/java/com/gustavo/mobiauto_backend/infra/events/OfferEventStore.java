@@ -0,0 +1,15 @@
+package com.gustavo.mobiauto_backend.infra.events;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import com.gustavo.mobiauto_backend.model.offer.OfferEvent;
+
+public interface OfferEventStore {
+    void append(List<OfferEvent> events);
+
+    List<OfferEvent> findByOffer(Long offerId);
+
+    Optional<OfferEvent> findLatestAt(Long offerId, Instant at);
+}
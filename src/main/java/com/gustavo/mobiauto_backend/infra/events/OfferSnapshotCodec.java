@@ -0,0 +1,128 @@
+package com.gustavo.mobiauto_backend.infra.events;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+
+import com.gustavo.mobiauto_backend.model.offer.OfferSnapshot;
+import com.gustavo.mobiauto_backend.model.offer.OfferStatus;
+import com.gustavo.mobiauto_backend.model.vehicle.VehicleType;
+
+public final class OfferSnapshotCodec {
+    // Enum ordinals are persisted, so OfferStatus and VehicleType constants must only be appended.
+    private static final byte FORMAT_VERSION = 1;
+
+    private static final int ACTIVE = 1;
+    private static final int HAS_ASSISTANT = 1 << 1;
+    private static final int HAS_CREATED_AT = 1 << 2;
+    private static final int HAS_ATTENDED_AT = 1 << 3;
+    private static final int HAS_COMPLETED_AT = 1 << 4;
+
+    private OfferSnapshotCodec() {
+    }
+
+    public static byte[] encode(OfferSnapshot snapshot) {
+        int flags = (snapshot.active() ? ACTIVE : 0)
+                | (snapshot.assistantId() != null ? HAS_ASSISTANT : 0)
+                | (snapshot.createdAt() != null ? HAS_CREATED_AT : 0)
+                | (snapshot.attendedAt() != null ? HAS_ATTENDED_AT : 0)
+                | (snapshot.completedAt() != null ? HAS_COMPLETED_AT : 0);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream(64);
+        out.write(FORMAT_VERSION);
+        out.write(flags);
+        out.write(snapshot.status().ordinal());
+        out.write(snapshot.vehicleType().ordinal());
+        writeVarLong(out, snapshot.clientId());
+        writeVarLong(out, snapshot.storeId());
+        writeVarLong(out, snapshot.vehicleId());
+        if (snapshot.assistantId() != null) {
+            writeVarLong(out, snapshot.assistantId());
+        }
+        writeVarLong(out, snapshot.releaseYear());
+        writeString(out, snapshot.vehicleModel());
+        writeString(out, snapshot.color());
+        writeInstant(out, snapshot.createdAt());
+        writeInstant(out, snapshot.attendedAt());
+        writeInstant(out, snapshot.completedAt());
+        return out.toByteArray();
+    }
+
+    public static OfferSnapshot decode(Long offerId, byte[] payload) {
+        ByteBuffer in = ByteBuffer.wrap(payload);
+        byte version = in.get();
+        if (version != FORMAT_VERSION) {
+            throw new IllegalStateException("Unsupported offer event format " + version + ".");
+        }
+
+        int flags = in.get();
+        OfferStatus status = OfferStatus.values()[in.get()];
+        VehicleType vehicleType = VehicleType.values()[in.get()];
+        long clientId = readVarLong(in);
+        long storeId = readVarLong(in);
+        long vehicleId = readVarLong(in);
+        Long assistantId = (flags & HAS_ASSISTANT) != 0 ? readVarLong(in) : null;
+        int releaseYear = (int) readVarLong(in);
+        String vehicleModel = readString(in);
+        String color = readString(in);
+
+        return new OfferSnapshot(
+                offerId,
+                status,
+                (flags & ACTIVE) != 0,
+                clientId,
+                storeId,
+                assistantId,
+                vehicleId,
+                vehicleType,
+                vehicleModel,
+                releaseYear,
+                color,
+                (flags & HAS_CREATED_AT) != 0 ? readInstant(in) : null,
+                (flags & HAS_ATTENDED_AT) != 0 ? readInstant(in) : null,
+                (flags & HAS_COMPLETED_AT) != 0 ? readInstant(in) : null);
+    }
+
+    private static void writeVarLong(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    private static long readVarLong(ByteBuffer in) {
+        long value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = in.get();
+            value |= (long) (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return value;
+    }
+
+    private static void writeString(ByteArrayOutputStream out, String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarLong(out, bytes.length);
+        out.write(bytes, 0, bytes.length);
+    }
+
+    private static String readString(ByteBuffer in) {
+        byte[] bytes = new byte[(int) readVarLong(in)];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeInstant(ByteArrayOutputStream out, Instant value) {
+        if (value != null) {
+            writeVarLong(out, value.toEpochMilli());
+        }
+    }
+
+    private static Instant readInstant(ByteBuffer in) {
+        return Instant.ofEpochMilli(readVarLong(in));
+    }
+}
@@ -0,0 +1,7 @@
+package com.gustavo.mobiauto_backend.infra.exceptions;
+
+public class PasswordHashingBusyException extends RuntimeException {
+    public PasswordHashingBusyException() {
+        super("Too many password operations in progress, try again later.");
+    }
+}
@@ -0,0 +1,7 @@
+package com.gustavo.mobiauto_backend.infra.exceptions;
+
+public class StoreAssistantNotFoundException extends RuntimeException {
+    public StoreAssistantNotFoundException(Long storeId, Long userId) {
+        super("User with id " + userId + " is not an assistant of store with id " + storeId + ".");
+    }
+}
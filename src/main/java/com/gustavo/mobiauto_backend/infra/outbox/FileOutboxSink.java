@@ -0,0 +1,54 @@
+package com.gustavo.mobiauto_backend.infra.outbox;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gustavo.mobiauto_backend.model.outbox.OutboxMessage;
+
+@Component
+@ConditionalOnProperty(name = "mobiauto.outbox.sink.type", havingValue = "file", matchIfMissing = true)
+public class FileOutboxSink implements OutboxSink {
+    private final Path path;
+    private final ObjectMapper objectMapper;
+
+    public FileOutboxSink(@Value("${mobiauto.outbox.sink.file.path:outbox.ndjson}") Path path,
+            ObjectMapper objectMapper) {
+        this.path = path;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public synchronized void deliver(List<OutboxMessage> messages) {
+        try (Writer writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND, StandardOpenOption.WRITE);
+                JsonGenerator generator = objectMapper.createGenerator(writer)) {
+            generator.setRootValueSeparator(null);
+            for (OutboxMessage message : messages) {
+                generator.writeStartObject();
+                generator.writeNumberField("id", message.getId());
+                generator.writeStringField("aggregateType", message.getAggregateType());
+                generator.writeNumberField("aggregateId", message.getAggregateId());
+                generator.writeStringField("eventType", message.getEventType());
+                generator.writeStringField("createdAt", message.getCreatedAt().toString());
+                generator.writeFieldName("payload");
+                generator.writeRawValue(message.getPayload());
+                generator.writeEndObject();
+                generator.writeRaw('\n');
+            }
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+}
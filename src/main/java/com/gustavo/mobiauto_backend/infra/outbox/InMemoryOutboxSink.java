@@ -0,0 +1,24 @@
+package com.gustavo.mobiauto_backend.infra.outbox;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.gustavo.mobiauto_backend.model.outbox.OutboxMessage;
+
+@Component
+@ConditionalOnProperty(name = "mobiauto.outbox.sink.type", havingValue = "memory")
+public class InMemoryOutboxSink implements OutboxSink {
+    private final List<OutboxMessage> delivered = new ArrayList<>();
+
+    @Override
+    public synchronized void deliver(List<OutboxMessage> messages) {
+        delivered.addAll(messages);
+    }
+
+    public synchronized List<OutboxMessage> delivered() {
+        return List.copyOf(delivered);
+    }
+}
@@ -0,0 +1,31 @@
+package com.gustavo.mobiauto_backend.infra.outbox;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gustavo.mobiauto_backend.infra.repositories.OutboxMessageRepository;
+import com.gustavo.mobiauto_backend.model.outbox.OutboxMessage;
+
+@Component
+public class Outbox {
+    private final OutboxMessageRepository outboxMessageRepository;
+    private final ObjectMapper objectMapper;
+
+    public Outbox(OutboxMessageRepository outboxMessageRepository, ObjectMapper objectMapper) {
+        this.outboxMessageRepository = outboxMessageRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(String aggregateType, Long aggregateId, String eventType, Object payload) {
+        try {
+            outboxMessageRepository.save(new OutboxMessage(
+                    aggregateType, aggregateId, eventType, objectMapper.writeValueAsString(payload)));
+        } catch (JsonProcessingException exception) {
+            throw new IllegalStateException("Could not serialize " + eventType + " outbox payload", exception);
+        }
+    }
+}
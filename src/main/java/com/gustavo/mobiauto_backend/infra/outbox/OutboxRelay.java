@@ -0,0 +1,197 @@
+package com.gustavo.mobiauto_backend.infra.outbox;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.gustavo.mobiauto_backend.infra.repositories.OutboxMessageRepository;
+import com.gustavo.mobiauto_backend.model.outbox.OutboxMessage;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+public class OutboxRelay implements DisposableBean {
+    private final OutboxMessageRepository outboxMessageRepository;
+    private final OutboxSink outboxSink;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int threads;
+    private final int batchSize;
+    private final Duration pollInterval;
+    private final Duration retention;
+    private final int maxAttempts;
+    private final Duration retryBackoff;
+    private final Duration maxRetryBackoff;
+
+    private final Counter delivered;
+    private final Counter failed;
+    private final Counter dead;
+    private final Timer deliveryLag;
+    private final Timer batchDelivery;
+
+    private volatile ScheduledExecutorService scheduler;
+
+    public OutboxRelay(
+            OutboxMessageRepository outboxMessageRepository,
+            OutboxSink outboxSink,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${mobiauto.outbox.relay.enabled:true}") boolean enabled,
+            @Value("${mobiauto.outbox.relay.threads:2}") int threads,
+            @Value("${mobiauto.outbox.relay.batch-size:100}") int batchSize,
+            @Value("${mobiauto.outbox.relay.poll-interval:500ms}") Duration pollInterval,
+            @Value("${mobiauto.outbox.relay.retention:7d}") Duration retention,
+            @Value("${mobiauto.outbox.relay.max-attempts:10}") int maxAttempts,
+            @Value("${mobiauto.outbox.relay.retry-backoff:1s}") Duration retryBackoff,
+            @Value("${mobiauto.outbox.relay.max-retry-backoff:10m}") Duration maxRetryBackoff) {
+        this.outboxMessageRepository = outboxMessageRepository;
+        this.outboxSink = outboxSink;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.threads = threads;
+        this.batchSize = batchSize;
+        this.pollInterval = pollInterval;
+        this.retention = retention;
+        this.maxAttempts = maxAttempts;
+        this.retryBackoff = retryBackoff;
+        this.maxRetryBackoff = maxRetryBackoff;
+
+        this.delivered = meterRegistry.counter("outbox.messages.delivered");
+        this.failed = meterRegistry.counter("outbox.messages.failed");
+        this.dead = meterRegistry.counter("outbox.messages.dead");
+        this.deliveryLag = Timer.builder("outbox.delivery.lag").publishPercentileHistogram().register(meterRegistry);
+        this.batchDelivery = meterRegistry.timer("outbox.batch.delivery");
+        meterRegistry.gauge("outbox.oldest.pending.seconds", this, OutboxRelay::oldestPendingSeconds);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+
+        scheduler = Executors.newScheduledThreadPool(threads + 1, new CustomizableThreadFactory("outbox-relay-"));
+        for (int i = 0; i < threads; i++) {
+            scheduler.scheduleWithFixedDelay(this::drain, 0, pollInterval.toMillis(), TimeUnit.MILLISECONDS);
+        }
+        scheduler.scheduleWithFixedDelay(this::purge, 1, 1, TimeUnit.HOURS);
+    }
+
+    public int relayBatch() {
+        return transactionTemplate.execute(status -> {
+            List<OutboxMessage> batch = outboxMessageRepository.claimPending(Instant.now(), Limit.of(batchSize));
+            if (batch.isEmpty()) {
+                return 0;
+            }
+
+            try {
+                batchDelivery.record(() -> outboxSink.deliver(batch));
+                this.markPublished(batch);
+                return batch.size();
+            } catch (RuntimeException exception) {
+                if (batch.size() == 1) {
+                    this.markFailed(batch.get(0), exception);
+                    return 0;
+                }
+                log.warn("Could not deliver {} outbox messages starting at id {}, retrying one by one",
+                        batch.size(), batch.get(0).getId(), exception);
+            }
+
+            // Isolate the message that broke the batch so the rest are not held back with it.
+            List<OutboxMessage> published = new ArrayList<>(batch.size());
+            for (OutboxMessage message : batch) {
+                try {
+                    outboxSink.deliver(List.of(message));
+                    published.add(message);
+                } catch (RuntimeException exception) {
+                    this.markFailed(message, exception);
+                }
+            }
+            this.markPublished(published);
+            // A short count stops drain() from looping straight back into the same failure.
+            return 0;
+        });
+    }
+
+    public double oldestPendingSeconds() {
+        return outboxMessageRepository.findOldestPendingCreatedAt()
+                .map(createdAt -> Duration.between(createdAt, Instant.now()).toMillis() / 1000.0)
+                .orElse(0.0);
+    }
+    @Override
+    public void destroy() throws InterruptedException {
+        if (scheduler != null) {
+            scheduler.shutdown();
+            scheduler.awaitTermination(5, TimeUnit.SECONDS);
+        }
+    }
+
+    private void drain() {
+        try {
+            while (this.relayBatch() == batchSize) {
+                // Keep draining while batches come back full instead of waiting a poll interval per batch.
+            }
+        } catch (RuntimeException exception) {
+            log.error("Outbox relay failed", exception);
+        }
+    }
+
+    private void markPublished(List<OutboxMessage> messages) {
+        Instant publishedAt = Instant.now();
+        for (OutboxMessage message : messages) {
+            message.setPublishedAt(publishedAt);
+            message.setNextAttemptAt(null);
+            deliveryLag.record(Duration.between(message.getCreatedAt(), publishedAt));
+        }
+        delivered.increment(messages.size());
+    }
+
+    private void markFailed(OutboxMessage message, RuntimeException exception) {
+        int attempts = message.getAttempts() + 1;
+        message.setAttempts(attempts);
+        failed.increment();
+
+        if (attempts >= maxAttempts) {
+            message.setDeadAt(Instant.now());
+            message.setNextAttemptAt(null);
+            dead.increment();
+            log.error("Giving up on outbox message {} after {} attempts", message.getId(), attempts, exception);
+            return;
+        }
+
+        Duration backoff = retryBackoff.multipliedBy(1L << Math.min(attempts - 1, 30));
+        if (backoff.compareTo(maxRetryBackoff) > 0) {
+            backoff = maxRetryBackoff;
+        }
+        message.setNextAttemptAt(Instant.now().plus(backoff));
+        log.warn("Could not deliver outbox message {} (attempt {}), retrying in {}", message.getId(), attempts,
+                backoff, exception);
+    }
+
+    private void purge() {
+        try {
+            transactionTemplate.executeWithoutResult(status -> outboxMessageRepository
+                    .deletePublishedBefore(Instant.now().minus(retention)));
+        } catch (RuntimeException exception) {
+            log.error("Could not purge published outbox messages", exception);
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.gustavo.mobiauto_backend.infra.outbox;
+
+import java.util.List;
+
+import com.gustavo.mobiauto_backend.model.outbox.OutboxMessage;
+
+public interface OutboxSink {
+    // Must either deliver the whole batch or throw; a failed batch is retried one message at a time.
+    void deliver(List<OutboxMessage> messages);
+}
@@ -0,0 +1,12 @@
+package com.gustavo.mobiauto_backend.infra.persistence;
+
+public final class CacheRegions {
+    public static final String OFFER = "offer";
+    public static final String STORE = "store";
+    public static final String STORE_OFFERS = "store.offers";
+    public static final String USER = "user";
+    public static final String VEHICLE = "vehicle";
+
+    private CacheRegions() {
+    }
+}
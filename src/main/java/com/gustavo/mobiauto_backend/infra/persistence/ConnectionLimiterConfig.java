@@ -0,0 +1,42 @@
+package com.gustavo.mobiauto_backend.infra.persistence;
+
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Configuration
+@ConditionalOnExpression("${mobiauto.jdbc.limiter.enabled:${spring.threads.virtual.enabled:false}}")
+public class ConnectionLimiterConfig {
+
+    @Bean
+    public static BeanPostProcessor connectionLimiter(
+            ObjectProvider<MeterRegistry> meterRegistry,
+            Environment environment) {
+        // Post-processors are created before placeholders can be injected, so the properties are read directly.
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource) || bean instanceof LimitedDataSource) {
+                    return bean;
+                }
+                int poolSize = environment.getProperty("spring.datasource.hikari.maximum-pool-size", Integer.class, 10);
+                return new LimitedDataSource(
+                        dataSource,
+                        meterRegistry.getObject(),
+                        environment.getProperty("mobiauto.jdbc.limiter.permits", Integer.class, poolSize),
+                        environment.getProperty("mobiauto.jdbc.limiter.max-waiting", Integer.class, 1000),
+                        environment.getProperty("mobiauto.jdbc.limiter.acquire-timeout", Duration.class,
+                                Duration.ofSeconds(5)));
+            }
+        };
+    }
+}
@@ -0,0 +1,126 @@
+package com.gustavo.mobiauto_backend.infra.persistence;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.ConnectionProxy;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+public class LimitedDataSource extends DelegatingDataSource {
+    private final Semaphore permits;
+    private final int maxPermits;
+    private final int maxWaiting;
+    private final Duration acquireTimeout;
+    private final AtomicInteger waiting = new AtomicInteger();
+
+    private final Timer acquire;
+    private final Counter rejected;
+
+    public LimitedDataSource(DataSource target, MeterRegistry meterRegistry, int permits, int maxWaiting,
+            Duration acquireTimeout) {
+        super(target);
+        this.permits = new Semaphore(permits, true);
+        this.maxPermits = permits;
+        this.maxWaiting = maxWaiting;
+        this.acquireTimeout = acquireTimeout;
+
+        this.acquire = Timer.builder("jdbc.limiter.acquire").publishPercentileHistogram().register(meterRegistry);
+        this.rejected = meterRegistry.counter("jdbc.limiter.rejected");
+        meterRegistry.gauge("jdbc.limiter.waiting", waiting);
+        meterRegistry.gauge("jdbc.limiter.active", this.permits, semaphore -> maxPermits - semaphore.availablePermits());
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        this.acquirePermit();
+        try {
+            return this.releasingOnClose(super.getConnection());
+        } catch (SQLException | RuntimeException exception) {
+            permits.release();
+            throw exception;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        this.acquirePermit();
+        try {
+            return this.releasingOnClose(super.getConnection(username, password));
+        } catch (SQLException | RuntimeException exception) {
+            permits.release();
+            throw exception;
+        }
+    }
+
+    private void acquirePermit() throws SQLException {
+        if (permits.tryAcquire()) {
+            acquire.record(Duration.ZERO);
+            return;
+        }
+
+        // Waiters beyond the bound would only time out later while holding a request thread.
+        if (waiting.incrementAndGet() > maxWaiting) {
+            waiting.decrementAndGet();
+            rejected.increment();
+            throw new SQLTransientConnectionException("Too many requests waiting for a database connection");
+        }
+
+        long start = System.nanoTime();
+        try {
+            if (!permits.tryAcquire(acquireTimeout.toNanos(), TimeUnit.NANOSECONDS)) {
+                rejected.increment();
+                throw new SQLTransientConnectionException(
+                        "Timed out after " + acquireTimeout.toMillis() + "ms waiting for a database connection");
+            }
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("Interrupted waiting for a database connection", exception);
+        } finally {
+            waiting.decrementAndGet();
+            acquire.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private Connection releasingOnClose(Connection target) {
+        AtomicBoolean released = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(
+                ConnectionProxy.class.getClassLoader(),
+                new Class<?>[] { ConnectionProxy.class },
+                (proxy, method, args) -> {
+                    String name = method.getName();
+                    if (name.equals("getTargetConnection")) {
+                        return target;
+                    }
+                    if (name.equals("equals")) {
+                        return proxy == args[0];
+                    }
+                    if (name.equals("hashCode")) {
+                        return System.identityHashCode(proxy);
+                    }
+
+                    try {
+                        return method.invoke(target, args);
+                    } catch (InvocationTargetException exception) {
+                        throw exception.getTargetException();
+                    } finally {
+                        if (name.equals("close") && released.compareAndSet(false, true)) {
+                            permits.release();
+                        }
+                    }
+                });
+    }
+}
@@ -0,0 +1,94 @@
+package com.gustavo.mobiauto_backend.infra.persistence;
+
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+import java.time.Duration;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+
+@Configuration
+public class SecondLevelCacheConfig {
+
+    @Bean(destroyMethod = "close")
+    public CacheManager secondLevelCacheManager(
+            MeterRegistry meterRegistry,
+            @Value("${mobiauto.cache.offer.max-size:50000}") long offerSize,
+            @Value("${mobiauto.cache.store.max-size:1000}") long storeSize,
+            @Value("${mobiauto.cache.store-offers.max-size:1000}") long storeOffersSize,
+            @Value("${mobiauto.cache.user.max-size:10000}") long userSize,
+            @Value("${mobiauto.cache.vehicle.max-size:10000}") long vehicleSize,
+            @Value("${mobiauto.cache.time-to-live:1h}") Duration timeToLive) {
+        // Each application context gets its own manager so contexts sharing a JVM never share cached rows.
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager(URI.create("mobiauto.second-level." + UUID.randomUUID()), getClass().getClassLoader());
+
+        Map.of(
+                CacheRegions.OFFER, offerSize,
+                CacheRegions.STORE, storeSize,
+                CacheRegions.STORE_OFFERS, storeOffersSize,
+                CacheRegions.USER, userSize,
+                CacheRegions.VEHICLE, vehicleSize)
+                .forEach((region, maximumSize) -> {
+                    CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+                    configuration.setMaximumSize(OptionalLong.of(maximumSize));
+                    configuration.setExpireAfterWrite(OptionalLong.of(timeToLive.toNanos()));
+                    configuration.setStoreByValue(false);
+                    configuration.setStatisticsEnabled(true);
+                    JCacheMetrics.monitor(meterRegistry, cacheManager.createCache(region, configuration));
+                    registerHitRatio(meterRegistry, cacheManager, region);
+                });
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager secondLevelCacheManager) {
+        return properties -> {
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            properties.put(ConfigSettings.CACHE_MANAGER, secondLevelCacheManager);
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+        };
+    }
+
+    private static void registerHitRatio(MeterRegistry meterRegistry, CacheManager cacheManager, String region) {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName statistics;
+        try {
+            statistics = new ObjectName("javax.cache:type=CacheStatistics,CacheManager="
+                    + cacheManager.getURI().toString().replace(':', '.') + ",Cache=" + region);
+        } catch (JMException exception) {
+            throw new IllegalStateException("Invalid statistics name for cache region " + region, exception);
+        }
+
+        Gauge.builder("cache.hit.ratio", server, mbeans -> {
+            try {
+                return ((Float) mbeans.getAttribute(statistics, "CacheHitPercentage")) / 100.0;
+            } catch (JMException exception) {
+                return Double.NaN;
+            }
+        })
+                .tag("cache", region)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,30 @@
+package com.gustavo.mobiauto_backend.infra.persistence;
+
+import org.hibernate.Cache;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.gustavo.mobiauto_backend.model.offer.OfferEventType;
+import com.gustavo.mobiauto_backend.model.store.Store;
+import com.gustavo.mobiauto_backend.service.events.OfferChangedEvent;
+
+import jakarta.persistence.EntityManagerFactory;
+
+@Component
+public class SecondLevelCacheEvictions {
+    private static final String STORE_OFFERS_ROLE = Store.class.getName() + ".offers";
+
+    private final Cache cache;
+
+    public SecondLevelCacheEvictions(EntityManagerFactory entityManagerFactory) {
+        this.cache = entityManagerFactory.getCache().unwrap(Cache.class);
+    }
+
+    // Store.offers is the inverse side of Offer.store, so Hibernate does not refresh it when an offer is added.
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOfferChanged(OfferChangedEvent event) {
+        if (event.type() == OfferEventType.CREATED) {
+            cache.evictCollectionData(STORE_OFFERS_ROLE, event.snapshot().storeId());
+        }
+    }
+}
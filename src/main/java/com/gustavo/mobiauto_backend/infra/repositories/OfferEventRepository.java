@@ -0,0 +1,22 @@
+package com.gustavo.mobiauto_backend.infra.repositories;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.gustavo.mobiauto_backend.model.offer.OfferEvent;
+
+@Repository
+public interface OfferEventRepository extends JpaRepository<OfferEvent, Long> {
+
+    @Query("SELECT e FROM OfferEvent e WHERE e.offerId = :offerId ORDER BY e.occurredAt, e.id")
+    List<OfferEvent> findByOffer(@Param("offerId") Long offerId);
+
+    Optional<OfferEvent> findFirstByOfferIdAndOccurredAtLessThanEqualOrderByOccurredAtDescIdDesc(Long offerId,
+            Instant at);
+}
@@ -1,10 +1,92 @@
 package com.gustavo.mobiauto_backend.infra.repositories;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.gustavo.mobiauto_backend.model.offer.Offer;
+import com.gustavo.mobiauto_backend.model.offer.OfferStatus;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
 
 @Repository
-public interface OfferRepository extends JpaRepository<Offer, Long> {
-}
\ No newline at end of file
+public interface OfferRepository extends JpaRepository<Offer, Long>, JpaSpecificationExecutor<Offer> {
+
+    boolean existsByStoreIdAndActiveTrue(Long storeId);
+
+    boolean existsByClientIdAndActiveTrue(Long clientId);
+
+    long countByStoreIdAndActiveTrue(Long storeId);
+
+    @Query("SELECT o.store.id, COUNT(o) FROM Offer o WHERE o.store.id IN :storeIds AND o.active = true "
+            + "GROUP BY o.store.id")
+    List<Object[]> countActiveByStoreIds(@Param("storeIds") Collection<Long> storeIds);
+
+    @Lock(LockModeType.OPTIMISTIC_FORCE_INCREMENT)
+    @Query("SELECT o FROM Offer o WHERE o.id = :id")
+    Optional<Offer> findForUpdateById(@Param("id") Long id);
+
+    @Query("SELECT o FROM Offer o JOIN FETCH o.client JOIN FETCH o.vehicle JOIN FETCH o.store "
+            + "LEFT JOIN FETCH o.assistant "
+            + "WHERE o.id IN :ids")
+    List<Offer> findAllWithDetailsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT o FROM Offer o JOIN FETCH o.client JOIN FETCH o.vehicle JOIN FETCH o.store "
+            + "LEFT JOIN FETCH o.assistant "
+            + "WHERE o.store.id = :storeId AND o.active = true AND o.id > :after ORDER BY o.id ASC")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "50"))
+    Stream<Offer> streamActiveByStore(@Param("storeId") Long storeId, @Param("after") Long after, Limit limit);
+
+    @Query("SELECT o.id, o.store.id, o.assistant.id FROM Offer o "
+            + "WHERE o.active = true AND o.status = :status AND o.assistant IS NOT NULL")
+    List<Object[]> findAssignedIdsByStatus(@Param("status") OfferStatus status);
+
+    @Query("SELECT o.id, v.id, o.active, v.type, v.releaseYear.value, v.color.value "
+            + "FROM Offer o JOIN o.vehicle v")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    Stream<Object[]> streamFacetRows();
+
+    @Query("SELECT o.id, o.store.id, o.createdAt, o.attendedAt, o.completedAt FROM Offer o "
+            + "WHERE o.createdAt IS NOT NULL AND o.attendedAt IS NOT NULL")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    Stream<Object[]> streamSlaRows();
+
+    // Matches are collected into a bounded candidate set before ranking, so a common term does not sort every
+    // matching offer. LIKE uses its default backslash escape so the planner can use the model indexes.
+    @Query(value = "SELECT c.id FROM (SELECT o.id, v.model FROM offers o "
+            + "JOIN vehicles v ON v.id = o.vehicle_id "
+            + "JOIN stores s ON s.id = o.store_id "
+            + "WHERE o.active = true AND s.active = true AND lower(v.model) LIKE :prefix "
+            + "LIMIT :candidates) c "
+            + "ORDER BY length(c.model), c.id "
+            + "LIMIT :limit", nativeQuery = true)
+    List<Long> searchActiveIdsByVehicleModelPrefix(@Param("prefix") String prefix,
+            @Param("candidates") int candidates, @Param("limit") int limit);
+
+    @Query(value = "SELECT c.id FROM (SELECT o.id, v.model FROM offers o "
+            + "JOIN vehicles v ON v.id = o.vehicle_id "
+            + "JOIN stores s ON s.id = o.store_id "
+            + "WHERE o.active = true AND s.active = true AND lower(v.model) LIKE :pattern "
+            + "AND lower(v.model) NOT LIKE :prefix "
+            + "LIMIT :candidates) c "
+            + "ORDER BY length(c.model), c.id "
+            + "LIMIT :limit", nativeQuery = true)
+    List<Long> searchActiveIdsByVehicleModelInfix(@Param("pattern") String pattern, @Param("prefix") String prefix,
+            @Param("candidates") int candidates, @Param("limit") int limit);
+
+    @Query("SELECT o.vehicle.id, o.id FROM Offer o WHERE o.vehicle.id IN :vehicleIds "
+            + "AND o.active = true AND o.store.active = true ORDER BY o.id")
+    List<Object[]> findActiveIdsInActiveStoresByVehicleIds(@Param("vehicleIds") Collection<Long> vehicleIds);
+}
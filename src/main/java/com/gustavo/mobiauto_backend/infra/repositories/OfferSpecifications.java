@@ -0,0 +1,83 @@
+package com.gustavo.mobiauto_backend.infra.repositories;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import com.gustavo.mobiauto_backend.model.offer.Offer;
+import com.gustavo.mobiauto_backend.model.offer.OfferStatus;
+import com.gustavo.mobiauto_backend.model.vehicle.Vehicle;
+import com.gustavo.mobiauto_backend.model.vehicle.VehicleType;
+
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Predicate;
+
+public final class OfferSpecifications {
+
+    private OfferSpecifications() {
+    }
+
+    public static Specification<Offer> search(OfferFilter filter, Long after, Sort.Direction direction) {
+        return (root, query, builder) -> {
+            Join<Offer, Vehicle> vehicle;
+            if (Long.class.equals(query.getResultType())) {
+                vehicle = root.join("vehicle");
+            } else {
+                vehicle = (Join<Offer, Vehicle>) root.<Offer, Vehicle>fetch("vehicle");
+                root.fetch("client");
+                root.fetch("store");
+                root.fetch("assistant", JoinType.LEFT);
+            }
+
+            List<Predicate> predicates = new ArrayList<>();
+
+            if (filter.storeId() != null) {
+                predicates.add(builder.equal(root.get("store").get("id"), filter.storeId()));
+            }
+            if (filter.clientId() != null) {
+                predicates.add(builder.equal(root.get("client").get("id"), filter.clientId()));
+            }
+            if (filter.status() != null) {
+                predicates.add(builder.equal(root.get("status"), filter.status()));
+            }
+            if (filter.active() != null) {
+                predicates.add(builder.equal(root.get("active"), filter.active()));
+            }
+            if (filter.type() != null) {
+                predicates.add(builder.equal(vehicle.get("type"), filter.type()));
+            }
+            if (filter.model() != null) {
+                predicates.add(builder.equal(vehicle.get("model").get("value"), filter.model()));
+            }
+            if (filter.minReleaseYear() != null) {
+                predicates.add(builder.greaterThanOrEqualTo(
+                        vehicle.get("releaseYear").get("value"), filter.minReleaseYear()));
+            }
+            if (filter.maxReleaseYear() != null) {
+                predicates.add(builder.lessThanOrEqualTo(
+                        vehicle.get("releaseYear").get("value"), filter.maxReleaseYear()));
+            }
+            if (after != null) {
+                predicates.add(direction.isAscending()
+                        ? builder.greaterThan(root.get("id"), after)
+                        : builder.lessThan(root.get("id"), after));
+            }
+
+            return builder.and(predicates.toArray(Predicate[]::new));
+        };
+    }
+
+    public record OfferFilter(
+            Long storeId,
+            Long clientId,
+            OfferStatus status,
+            Boolean active,
+            VehicleType type,
+            String model,
+            Integer minReleaseYear,
+            Integer maxReleaseYear) {
+    }
+}
@@ -0,0 +1,37 @@
+package com.gustavo.mobiauto_backend.infra.repositories;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.gustavo.mobiauto_backend.model.outbox.OutboxMessage;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+
+@Repository
+public interface OutboxMessageRepository extends JpaRepository<OutboxMessage, Long> {
+
+    // A lock timeout of -2 asks Hibernate for SKIP LOCKED, so parallel relays claim disjoint batches.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT m FROM OutboxMessage m WHERE m.publishedAt IS NULL AND m.deadAt IS NULL "
+            + "AND (m.nextAttemptAt IS NULL OR m.nextAttemptAt <= :now) ORDER BY m.id")
+    List<OutboxMessage> claimPending(@Param("now") Instant now, Limit limit);
+
+    @Query("SELECT MIN(m.createdAt) FROM OutboxMessage m WHERE m.publishedAt IS NULL AND m.deadAt IS NULL")
+    Optional<Instant> findOldestPendingCreatedAt();
+
+    @Modifying
+    @Query("DELETE FROM OutboxMessage m WHERE m.publishedAt < :before")
+    int deletePublishedBefore(@Param("before") Instant before);
+}
@@ -0,0 +1,30 @@
+package com.gustavo.mobiauto_backend.infra.repositories;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.gustavo.mobiauto_backend.model.store.StoreAssistant;
+
+@Repository
+public interface StoreAssistantRepository extends JpaRepository<StoreAssistant, Long> {
+
+    @Query("SELECT a FROM StoreAssistant a WHERE a.store.id = :storeId AND a.user.id = :userId")
+    Optional<StoreAssistant> findByStoreAndUser(@Param("storeId") Long storeId, @Param("userId") Long userId);
+
+    @Query("SELECT a FROM StoreAssistant a JOIN FETCH a.user WHERE a.store.id = :storeId AND a.active = true "
+            + "ORDER BY a.id")
+    List<StoreAssistant> findActiveByStore(@Param("storeId") Long storeId);
+
+    @Query("SELECT a FROM StoreAssistant a JOIN FETCH a.user u JOIN FETCH a.store s "
+            + "WHERE a.active = true AND u.active = true AND s.active = true")
+    List<StoreAssistant> findAllAvailable();
+
+    @Query("SELECT a FROM StoreAssistant a JOIN FETCH a.user u JOIN FETCH a.store s "
+            + "WHERE u.id = :userId AND a.active = true AND u.active = true AND s.active = true")
+    List<StoreAssistant> findAvailableByUser(@Param("userId") Long userId);
+}
@@ -1,7 +1,9 @@
 package com.gustavo.mobiauto_backend.infra.repositories;
 
+import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -14,4 +16,7 @@ public interface StoreRepository extends JpaRepository<Store, Long> {
 
     @Query("SELECT s FROM Store s WHERE s.cnpj.value = :cnpj")
     Optional<Store> findByCnpj(@Param("cnpj") String cnpj);
+
+    @Query("SELECT s FROM Store s WHERE s.active = true AND s.id > :after ORDER BY s.id ASC")
+    List<Store> findActiveAfter(@Param("after") Long after, Limit limit);
 }
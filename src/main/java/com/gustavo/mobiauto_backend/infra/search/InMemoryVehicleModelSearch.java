@@ -0,0 +1,129 @@
+package com.gustavo.mobiauto_backend.infra.search;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.gustavo.mobiauto_backend.infra.repositories.OfferRepository;
+import com.gustavo.mobiauto_backend.infra.repositories.VehicleRepository;
+import com.gustavo.mobiauto_backend.model.vehicle.Vehicle;
+import com.gustavo.mobiauto_backend.service.events.VehicleSavedEvent;
+
+@Component
+@ConditionalOnProperty(name = "mobiauto.search.vehicle-model.engine", havingValue = "memory")
+public class InMemoryVehicleModelSearch implements VehicleModelSearch {
+    private static final int CANDIDATE_CHUNK_SIZE = 500;
+    private static final int MIN_INFIX_LENGTH = 3;
+
+    private final OfferRepository offerRepository;
+    private final VehicleRepository vehicleRepository;
+    private final Map<Long, String> models = new ConcurrentHashMap<>();
+    private final Map<String, Set<Long>> postings = new ConcurrentHashMap<>();
+
+    public InMemoryVehicleModelSearch(OfferRepository offerRepository, VehicleRepository vehicleRepository) {
+        this.offerRepository = offerRepository;
+        this.vehicleRepository = vehicleRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        vehicleRepository.findAll().forEach(this::index);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onVehicleSaved(VehicleSavedEvent event) {
+        this.index(event.vehicle());
+    }
+
+    void index(Vehicle vehicle) {
+        String model = normalize(vehicle.getModel().getValue());
+        String previous = models.put(vehicle.getId(), model);
+
+        if (previous != null && !previous.equals(model)) {
+            trigrams(previous).forEach(trigram -> postings.getOrDefault(trigram, Set.of()).remove(vehicle.getId()));
+        }
+        trigrams(model).forEach(trigram -> postings
+                .computeIfAbsent(trigram, key -> ConcurrentHashMap.newKeySet())
+                .add(vehicle.getId()));
+    }
+
+    @Override
+    public List<Long> searchActiveOfferIds(String term, int limit) {
+        String normalized = normalize(term);
+        List<Long> candidates = this.candidates(normalized).stream()
+                .filter(id -> matches(models.getOrDefault(id, ""), normalized))
+                .sorted(Comparator
+                        .comparing((Long id) -> !models.get(id).startsWith(normalized))
+                        .thenComparing(id -> models.get(id).length())
+                        .thenComparing(Comparator.naturalOrder()))
+                .toList();
+
+        List<Long> offerIds = new ArrayList<>(limit);
+        for (int from = 0; from < candidates.size() && offerIds.size() < limit; from += CANDIDATE_CHUNK_SIZE) {
+            List<Long> chunk = candidates.subList(from, Math.min(from + CANDIDATE_CHUNK_SIZE, candidates.size()));
+            Map<Long, List<Long>> offersByVehicle = new HashMap<>();
+            for (Object[] row : offerRepository.findActiveIdsInActiveStoresByVehicleIds(chunk)) {
+                offersByVehicle.computeIfAbsent((Long) row[0], key -> new ArrayList<>()).add((Long) row[1]);
+            }
+
+            for (Long vehicleId : chunk) {
+                for (Long offerId : offersByVehicle.getOrDefault(vehicleId, List.of())) {
+                    if (offerIds.size() == limit) {
+                        return offerIds;
+                    }
+                    offerIds.add(offerId);
+                }
+            }
+        }
+        return offerIds;
+    }
+
+    private Set<Long> candidates(String term) {
+        if (term.length() < MIN_INFIX_LENGTH) {
+            return models.keySet();
+        }
+
+        Set<Long> candidates = null;
+        for (String trigram : trigrams(term)) {
+            Set<Long> posting = postings.getOrDefault(trigram, Set.of());
+            if (candidates == null) {
+                candidates = new HashSet<>(posting);
+            } else {
+                candidates.retainAll(posting);
+            }
+            if (candidates.isEmpty()) {
+                break;
+            }
+        }
+        return candidates;
+    }
+
+    // Shorter terms have no trigram to look up, so they only match model prefixes.
+    private static boolean matches(String model, String term) {
+        return term.length() < MIN_INFIX_LENGTH ? model.startsWith(term) : model.contains(term);
+    }
+
+    private static Set<String> trigrams(String value) {
+        Set<String> trigrams = new HashSet<>();
+        for (int i = 0; i + 3 <= value.length(); i++) {
+            trigrams.add(value.substring(i, i + 3));
+        }
+        return trigrams;
+    }
+
+    private static String normalize(String value) {
+        return value.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,264 @@
+package com.gustavo.mobiauto_backend.infra.search;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.gustavo.mobiauto_backend.infra.repositories.OfferRepository;
+import com.gustavo.mobiauto_backend.model.vehicle.Vehicle;
+import com.gustavo.mobiauto_backend.model.vehicle.VehicleType;
+import com.gustavo.mobiauto_backend.service.events.OfferSavedEvent;
+import com.gustavo.mobiauto_backend.service.events.VehicleSavedEvent;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+public class OfferFacetIndex implements DisposableBean {
+    public static final int RELEASE_YEAR_BUCKET_SIZE = 5;
+
+    private final OfferRepository offerRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration reconcileInterval;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private Index current = new Index();
+    // Non-null while a rebuild streams, so changes committed meanwhile are replayed onto the rebuilt index.
+    private List<Consumer<Index>> pending;
+
+    private volatile ScheduledExecutorService scheduler;
+
+    public OfferFacetIndex(
+            OfferRepository offerRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${mobiauto.offers.facets.reconcile-interval:15m}") Duration reconcileInterval) {
+        this.offerRepository = offerRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.reconcileInterval = reconcileInterval;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        this.rebuild();
+
+        if (reconcileInterval.isZero() || reconcileInterval.isNegative()) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("offer-facets-"));
+        scheduler.scheduleWithFixedDelay(this::reconcile, reconcileInterval.toMillis(), reconcileInterval.toMillis(),
+                TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void destroy() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    // Counts keep being served from the current index while the new one is loaded.
+    public synchronized void rebuild() {
+        lock.writeLock().lock();
+        try {
+            pending = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Index rebuilt = null;
+        try {
+            rebuilt = transactionTemplate.execute(status -> {
+                Index index = new Index();
+                try (Stream<Object[]> rows = offerRepository.streamFacetRows()) {
+                    rows.forEach(row -> index.index(
+                            (Long) row[0], (Long) row[1], (Boolean) row[2], (VehicleType) row[3],
+                            (Integer) row[4], (String) row[5]));
+                }
+                return index;
+            });
+        } finally {
+            lock.writeLock().lock();
+            try {
+                if (rebuilt != null) {
+                    for (Consumer<Index> change : pending) {
+                        change.accept(rebuilt);
+                    }
+                    current = rebuilt;
+                }
+                pending = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOfferSaved(OfferSavedEvent event) {
+        this.apply(index -> index.index(event.offerId(), event.vehicleId(), event.active(), event.type(),
+                event.releaseYear(), event.color()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onVehicleSaved(VehicleSavedEvent event) {
+        Vehicle vehicle = event.vehicle();
+        Document document = new Document(
+                vehicle.getType(),
+                releaseYearBucket(vehicle.getReleaseYear().getValue()),
+                vehicle.getColor().getValue());
+
+        this.apply(index -> index.updateVehicle(vehicle.getId(), document));
+    }
+
+    public FacetCounts count(FacetFilter filter) {
+        lock.readLock().lock();
+        try {
+            return current.count(filter);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public static int releaseYearBucket(int releaseYear) {
+        return releaseYear - Math.floorMod(releaseYear, RELEASE_YEAR_BUCKET_SIZE);
+    }
+
+    private void apply(Consumer<Index> change) {
+        lock.writeLock().lock();
+        try {
+            change.accept(current);
+            if (pending != null) {
+                pending.add(change);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void reconcile() {
+        try {
+            this.rebuild();
+        } catch (RuntimeException exception) {
+            log.error("Could not rebuild the offer facet index", exception);
+        }
+    }
+
+    private static final class Index {
+        private final Map<Long, Integer> ordinalsByOffer = new HashMap<>();
+        private final Map<Long, Integer> ordinalsByVehicle = new HashMap<>();
+        private final List<Document> documents = new ArrayList<>();
+
+        private final BitSet active = new BitSet();
+        private final Map<VehicleType, BitSet> types = new EnumMap<>(VehicleType.class);
+        private final Map<Integer, BitSet> releaseYearBuckets = new TreeMap<>();
+        private final Map<String, BitSet> colors = new TreeMap<>();
+
+        void index(Long offerId, Long vehicleId, boolean isActive, VehicleType type, int releaseYear,
+                String color) {
+            Integer ordinal = ordinalsByOffer.get(offerId);
+            if (ordinal == null) {
+                ordinal = documents.size();
+                documents.add(null);
+                ordinalsByOffer.put(offerId, ordinal);
+            }
+            ordinalsByVehicle.put(vehicleId, ordinal);
+
+            active.set(ordinal, isActive);
+            this.update(ordinal, new Document(type, releaseYearBucket(releaseYear), color));
+        }
+
+        void updateVehicle(Long vehicleId, Document document) {
+            Integer ordinal = ordinalsByVehicle.get(vehicleId);
+            if (ordinal != null) {
+                this.update(ordinal, document);
+            }
+        }
+
+        FacetCounts count(FacetFilter filter) {
+            BitSet type = filter.type() != null ? types.getOrDefault(filter.type(), new BitSet()) : null;
+            BitSet releaseYear = filter.releaseYear() != null
+                    ? releaseYearBuckets.getOrDefault(releaseYearBucket(filter.releaseYear()), new BitSet())
+                    : null;
+            BitSet color = filter.color() != null ? colors.getOrDefault(filter.color(), new BitSet()) : null;
+
+            return new FacetCounts(
+                    intersect(type, releaseYear, color).cardinality(),
+                    counts(types, intersect(releaseYear, color)),
+                    counts(releaseYearBuckets, intersect(type, color)),
+                    counts(colors, intersect(type, releaseYear)));
+        }
+
+        private void update(int ordinal, Document document) {
+            Document previous = documents.get(ordinal);
+            if (document.equals(previous)) {
+                return;
+            }
+
+            if (previous != null) {
+                types.get(previous.type()).clear(ordinal);
+                releaseYearBuckets.get(previous.releaseYearBucket()).clear(ordinal);
+                colors.get(previous.color()).clear(ordinal);
+            }
+            types.computeIfAbsent(document.type(), key -> new BitSet()).set(ordinal);
+            releaseYearBuckets.computeIfAbsent(document.releaseYearBucket(), key -> new BitSet()).set(ordinal);
+            colors.computeIfAbsent(document.color(), key -> new BitSet()).set(ordinal);
+            documents.set(ordinal, document);
+        }
+
+        private BitSet intersect(BitSet... filters) {
+            BitSet result = (BitSet) active.clone();
+            for (BitSet filter : filters) {
+                if (filter != null) {
+                    result.and(filter);
+                }
+            }
+            return result;
+        }
+
+        private static <K> Map<K, Long> counts(Map<K, BitSet> facet, BitSet matching) {
+            Map<K, Long> counts = new LinkedHashMap<>();
+            facet.forEach((value, offers) -> {
+                BitSet intersection = (BitSet) offers.clone();
+                intersection.and(matching);
+                int count = intersection.cardinality();
+                if (count > 0) {
+                    counts.put(value, (long) count);
+                }
+            });
+            return counts;
+        }
+    }
+
+    private record Document(VehicleType type, int releaseYearBucket, String color) {
+    }
+
+    public record FacetFilter(VehicleType type, Integer releaseYear, String color) {
+    }
+
+    public record FacetCounts(long total, Map<VehicleType, Long> types, Map<Integer, Long> releaseYearBuckets,
+            Map<String, Long> colors) {
+    }
+}
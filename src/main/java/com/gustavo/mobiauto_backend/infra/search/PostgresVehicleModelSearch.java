@@ -0,0 +1,64 @@
+package com.gustavo.mobiauto_backend.infra.search;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.gustavo.mobiauto_backend.infra.repositories.OfferRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "mobiauto.search.vehicle-model.engine", havingValue = "postgres", matchIfMissing = true)
+public class PostgresVehicleModelSearch implements VehicleModelSearch {
+    private static final int MIN_INFIX_LENGTH = 3;
+
+    private final OfferRepository offerRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final int maxCandidates;
+
+    public PostgresVehicleModelSearch(
+            OfferRepository offerRepository,
+            JdbcTemplate jdbcTemplate,
+            @Value("${mobiauto.search.vehicle-model.max-candidates:1000}") int maxCandidates) {
+        this.offerRepository = offerRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.maxCandidates = maxCandidates;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void createTrigramIndex() {
+        try {
+            jdbcTemplate.execute("CREATE EXTENSION IF NOT EXISTS pg_trgm");
+            jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_vehicles_model_trgm "
+                    + "ON vehicles USING gin (lower(model) gin_trgm_ops)");
+            jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_vehicles_model_prefix "
+                    + "ON vehicles (lower(model) text_pattern_ops)");
+        } catch (DataAccessException exception) {
+            log.warn("Could not create the indexes on vehicles.model, model search will scan", exception);
+        }
+    }
+
+    @Override
+    public List<Long> searchActiveOfferIds(String term, int limit) {
+        String escaped = term.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+        List<Long> ids = new ArrayList<>(
+                offerRepository.searchActiveIdsByVehicleModelPrefix(escaped + "%", maxCandidates, limit));
+
+        // An infix pattern shorter than a trigram gives the GIN index nothing to look up, so short terms only
+        // match model prefixes, like the in-memory engine.
+        if (ids.size() < limit && term.length() >= MIN_INFIX_LENGTH) {
+            ids.addAll(offerRepository.searchActiveIdsByVehicleModelInfix(
+                    "%" + escaped + "%", escaped + "%", maxCandidates, limit - ids.size()));
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,8 @@
+package com.gustavo.mobiauto_backend.infra.search;
+
+import java.util.List;
+
+public interface VehicleModelSearch {
+
+    List<Long> searchActiveOfferIds(String term, int limit);
+}
@@ -0,0 +1,53 @@
+package com.gustavo.mobiauto_backend.infra.security;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import com.gustavo.mobiauto_backend.infra.exceptions.PasswordHashingBusyException;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+
+@Component
+public class PasswordHashingExecutor implements DisposableBean {
+    private final ThreadPoolExecutor threadPool;
+    private final ExecutorService executor;
+
+    public PasswordHashingExecutor(
+            MeterRegistry meterRegistry,
+            @Value("${mobiauto.security.password-hashing.threads:4}") int threads,
+            @Value("${mobiauto.security.password-hashing.queue-capacity:100}") int queueCapacity) {
+        this.threadPool = new ThreadPoolExecutor(
+                threads,
+                threads,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("password-hashing-"),
+                new ThreadPoolExecutor.AbortPolicy());
+        this.executor = ExecutorServiceMetrics.monitor(meterRegistry, threadPool, "passwordHashing");
+    }
+
+    public <T> CompletableFuture<T> submit(Supplier<T> task) {
+        try {
+            return CompletableFuture.supplyAsync(task, executor);
+        } catch (RejectedExecutionException exception) {
+            throw new PasswordHashingBusyException();
+        }
+    }
+
+    @Override
+    public void destroy() {
+        threadPool.shutdown();
+    }
+}
@@ -0,0 +1,50 @@
+package com.gustavo.mobiauto_backend.infra.security;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.gustavo.mobiauto_backend.model.user.User;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+@Component
+public class PrincipalCache {
+    private final Cache<String, User> cache;
+
+    public PrincipalCache(
+            MeterRegistry meterRegistry,
+            @Value("${mobiauto.security.principal-cache.max-size:10000}") long maxSize,
+            @Value("${mobiauto.security.principal-cache.ttl:5m}") Duration ttl) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "principals");
+    }
+
+    public User get(String subject, Function<String, User> loader) {
+        return cache.get(subject, loader);
+    }
+
+    public void invalidate(String subject) {
+        cache.invalidate(subject);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    cache.invalidate(subject);
+                }
+            });
+        }
+    }
+}
@@ -22,10 +22,12 @@ public class SecurityFilter extends OncePerRequestFilter {
 
     private final TokenService tokenService;
     private final UserService userService;
+    private final PrincipalCache principalCache;
 
-    public SecurityFilter(TokenService tokenService, UserService userService) {
+    public SecurityFilter(TokenService tokenService, UserService userService, PrincipalCache principalCache) {
         this.tokenService = tokenService;
         this.userService = userService;
+        this.principalCache = principalCache;
     }
 
     @Override
@@ -35,9 +37,9 @@ public class SecurityFilter extends OncePerRequestFilter {
             @NonNull FilterChain filterChain)
             throws ServletException, IOException {
         var token = this.recoverToken(request);
-        if (token != null) {
-            var email = this.tokenService.validateToken(token);
-            UserDetails user = userService.findByEmail(email);
+        var email = token != null ? this.tokenService.validateToken(token) : null;
+        if (email != null) {
+            UserDetails user = principalCache.get(email, userService::findByEmail);
 
             var authentication = new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities());
             SecurityContextHolder.getContext().setAuthentication(authentication);
@@ -1,32 +1,49 @@
 package com.gustavo.mobiauto_backend.model.offer;
 
+import java.time.Instant;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+import com.gustavo.mobiauto_backend.infra.persistence.CacheRegions;
+import com.gustavo.mobiauto_backend.infra.persistence.PooledSequence;
 import com.gustavo.mobiauto_backend.model.store.Store;
 import com.gustavo.mobiauto_backend.model.user.User;
 import com.gustavo.mobiauto_backend.model.vehicle.Vehicle;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
-@Table(name = "offers")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.OFFER)
+@Table(name = "offers", indexes = {
+        @Index(name = "idx_offers_store_active_id", columnList = "store_id, active, id"),
+        @Index(name = "idx_offers_client_active_id", columnList = "client_id, active, id"),
+        @Index(name = "idx_offers_status_active_id", columnList = "status, active, id"),
+        @Index(name = "idx_offers_active_id", columnList = "active, id"),
+        @Index(name = "idx_offers_assistant_status", columnList = "assistant_id, status")
+})
 @NoArgsConstructor
 @Getter
 @Setter
 public class Offer {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @PooledSequence("offers_seq")
     @Column(name = "id")
     private Long id;
 
@@ -34,9 +51,26 @@ public class Offer {
     @Column(name = "status", nullable = false)
     private OfferStatus status;
 
+    @Column(name = "created_at")
+    @Setter(AccessLevel.NONE)
+    private Instant createdAt;
+
+    @Column(name = "attended_at")
+    @Setter(AccessLevel.NONE)
+    private Instant attendedAt;
+
+    @Column(name = "completed_at")
+    @Setter(AccessLevel.NONE)
+    private Instant completedAt;
+
     @Column(name = "active")
     private boolean active;
 
+    @Version
+    @Setter(AccessLevel.NONE)
+    @Column(name = "version", nullable = false, columnDefinition = "bigint default 0")
+    private long version;
+
     @ManyToOne
     @JoinColumn(name = "client_id", nullable = false)
     private User client;
@@ -49,12 +83,17 @@ public class Offer {
     @JoinColumn(name = "store_id", nullable = false)
     private Store store;
 
+    @ManyToOne
+    @JoinColumn(name = "assistant_id")
+    private User assistant;
+
     public Offer(OfferStatus status, User client, Vehicle vehicle, Store store) {
         this.status = status;
         this.client = client;
         this.vehicle = vehicle;
         this.store = store;
         this.active = true;
+        this.createdAt = Instant.now();
     }
 
     public Offer(User client, Vehicle vehicle, Store store) {
@@ -63,5 +102,15 @@ public class Offer {
         this.vehicle = vehicle;
         this.store = store;
         this.active = true;
+        this.createdAt = Instant.now();
+    }
+
+    public void transitionTo(OfferStatus next, Instant at) {
+        this.status = next;
+        if (next == OfferStatus.ATTENDED) {
+            this.attendedAt = at;
+        } else if (next == OfferStatus.COMPLETED) {
+            this.completedAt = at;
+        }
     }
 }
@@ -0,0 +1,48 @@
+package com.gustavo.mobiauto_backend.model.offer;
+
+import java.time.Instant;
+
+import com.gustavo.mobiauto_backend.infra.persistence.PooledSequence;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Table(name = "offer_events", indexes = {
+        @Index(name = "idx_offer_events_offer_occurred", columnList = "offer_id, occurred_at, id")
+})
+@NoArgsConstructor
+@Getter
+public class OfferEvent {
+    @Id
+    @PooledSequence("offer_events_seq")
+    @Column(name = "id")
+    private Long id;
+
+    @Column(name = "offer_id", nullable = false)
+    private Long offerId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "type", nullable = false, length = 32)
+    private OfferEventType type;
+
+    @Column(name = "occurred_at", nullable = false)
+    private Instant occurredAt;
+
+    @Column(name = "payload", nullable = false, length = 2048)
+    private byte[] payload;
+
+    public OfferEvent(Long offerId, OfferEventType type, Instant occurredAt, byte[] payload) {
+        this.offerId = offerId;
+        this.type = type;
+        this.occurredAt = occurredAt;
+        this.payload = payload;
+    }
+}
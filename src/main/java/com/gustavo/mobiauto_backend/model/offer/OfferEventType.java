@@ -0,0 +1,10 @@
+package com.gustavo.mobiauto_backend.model.offer;
+
+public enum OfferEventType {
+    CREATED,
+    UPDATED,
+    DEACTIVATED,
+    REACTIVATED,
+    STATUS_CHANGED,
+    REASSIGNED
+}
@@ -0,0 +1,42 @@
+package com.gustavo.mobiauto_backend.model.offer;
+
+import java.time.Instant;
+
+import com.gustavo.mobiauto_backend.model.vehicle.Vehicle;
+import com.gustavo.mobiauto_backend.model.vehicle.VehicleType;
+
+public record OfferSnapshot(
+        Long offerId,
+        OfferStatus status,
+        boolean active,
+        Long clientId,
+        Long storeId,
+        Long assistantId,
+        Long vehicleId,
+        VehicleType vehicleType,
+        String vehicleModel,
+        int releaseYear,
+        String color,
+        Instant createdAt,
+        Instant attendedAt,
+        Instant completedAt) {
+
+    public static OfferSnapshot of(Offer offer) {
+        Vehicle vehicle = offer.getVehicle();
+        return new OfferSnapshot(
+                offer.getId(),
+                offer.getStatus(),
+                offer.isActive(),
+                offer.getClient().getId(),
+                offer.getStore().getId(),
+                offer.getAssistant() != null ? offer.getAssistant().getId() : null,
+                vehicle.getId(),
+                vehicle.getType(),
+                vehicle.getModel().getValue(),
+                vehicle.getReleaseYear().getValue(),
+                vehicle.getColor().getValue(),
+                offer.getCreatedAt(),
+                offer.getAttendedAt(),
+                offer.getCompletedAt());
+    }
+}
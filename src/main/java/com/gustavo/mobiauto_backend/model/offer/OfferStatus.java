@@ -11,4 +11,12 @@ public enum OfferStatus {
     COMPLETED("concluida");
 
     private final String description;
+
+    public boolean canTransitionTo(OfferStatus next) {
+        return switch (this) {
+            case NEW -> next == ATTENDED;
+            case ATTENDED -> next == COMPLETED;
+            case COMPLETED -> false;
+        };
+    }
 }
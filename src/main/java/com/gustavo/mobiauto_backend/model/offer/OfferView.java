@@ -0,0 +1,44 @@
+package com.gustavo.mobiauto_backend.model.offer;
+
+import java.time.Instant;
+
+import com.gustavo.mobiauto_backend.model.user.UserView;
+import com.gustavo.mobiauto_backend.model.vehicle.Vehicle;
+
+public record OfferView(
+        Long id,
+        OfferStatus status,
+        boolean active,
+        UserView client,
+        String vehicleModel,
+        String vehicleColor,
+        int releaseYear,
+        String vehicleType,
+        String storeCnpj,
+        String storeName,
+        Long assistantId,
+        Instant createdAt,
+        Instant attendedAt,
+        Instant completedAt,
+        long version) {
+
+    public static OfferView of(Offer offer) {
+        Vehicle vehicle = offer.getVehicle();
+        return new OfferView(
+                offer.getId(),
+                offer.getStatus(),
+                offer.isActive(),
+                UserView.of(offer.getClient()),
+                vehicle.getModel().getValue(),
+                vehicle.getColor().getValue(),
+                vehicle.getReleaseYear().getValue(),
+                vehicle.getType().getValue(),
+                offer.getStore().getCnpj().getValue(),
+                offer.getStore().getCompanyName().getValue(),
+                offer.getAssistant() != null ? offer.getAssistant().getId() : null,
+                offer.getCreatedAt(),
+                offer.getAttendedAt(),
+                offer.getCompletedAt(),
+                offer.getVersion());
+    }
+}
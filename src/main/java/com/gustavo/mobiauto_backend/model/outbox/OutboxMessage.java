@@ -0,0 +1,66 @@
+package com.gustavo.mobiauto_backend.model.outbox;
+
+import java.time.Instant;
+
+import com.gustavo.mobiauto_backend.infra.persistence.PooledSequence;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Entity
+@Table(name = "outbox_messages", indexes = {
+        @Index(name = "idx_outbox_messages_published_id", columnList = "published_at, id")
+})
+@NoArgsConstructor
+@Getter
+public class OutboxMessage {
+    @Id
+    @PooledSequence("outbox_messages_seq")
+    @Column(name = "id")
+    private Long id;
+
+    @Column(name = "aggregate_type", nullable = false, length = 32)
+    private String aggregateType;
+
+    @Column(name = "aggregate_id", nullable = false)
+    private Long aggregateId;
+
+    @Column(name = "event_type", nullable = false, length = 64)
+    private String eventType;
+
+    @Column(name = "payload", nullable = false, length = 4096)
+    private String payload;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    @Setter
+    @Column(name = "published_at")
+    private Instant publishedAt;
+
+    @Setter
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Setter
+    @Column(name = "next_attempt_at")
+    private Instant nextAttemptAt;
+
+    @Setter
+    @Column(name = "dead_at")
+    private Instant deadAt;
+
+    public OutboxMessage(String aggregateType, Long aggregateId, String eventType, String payload) {
+        this.aggregateType = aggregateType;
+        this.aggregateId = aggregateId;
+        this.eventType = eventType;
+        this.payload = payload;
+        this.createdAt = Instant.now();
+    }
+}
@@ -2,29 +2,37 @@ package com.gustavo.mobiauto_backend.model.store;
 
 import java.util.List;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+import com.gustavo.mobiauto_backend.infra.persistence.CacheRegions;
+import com.gustavo.mobiauto_backend.infra.persistence.PooledSequence;
 import com.gustavo.mobiauto_backend.model.offer.Offer;
 
 import jakarta.persistence.AttributeOverride;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Embedded;
 import jakarta.persistence.Entity;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
-@Table(name = "stores")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.STORE)
+@Table(name = "stores", indexes = @Index(name = "idx_stores_active_id", columnList = "active, id"))
 @Getter
 @NoArgsConstructor
 public class Store {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @PooledSequence("stores_seq")
     @Column(name = "id")
     private Long id;
 
@@ -41,7 +49,12 @@ public class Store {
     @Setter
     private boolean active;
 
+    @Version
+    @Column(name = "version", nullable = false, columnDefinition = "bigint default 0")
+    private long version;
+
     @OneToMany(mappedBy = "store", cascade = CascadeType.ALL)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.STORE_OFFERS)
     private List<Offer> offers;
 
     public Store(String storeName, String cnpj) {
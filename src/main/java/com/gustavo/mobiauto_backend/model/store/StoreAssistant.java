@@ -0,0 +1,51 @@
+package com.gustavo.mobiauto_backend.model.store;
+
+import java.time.Instant;
+
+import com.gustavo.mobiauto_backend.infra.persistence.PooledSequence;
+import com.gustavo.mobiauto_backend.model.user.User;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Entity
+@Table(name = "store_assistants", uniqueConstraints = @UniqueConstraint(
+        name = "uk_store_assistants_store_user", columnNames = { "store_id", "user_id" }))
+@Getter
+@NoArgsConstructor
+public class StoreAssistant {
+    @Id
+    @PooledSequence("store_assistants_seq")
+    @Column(name = "id")
+    private Long id;
+
+    @ManyToOne
+    @JoinColumn(name = "store_id", nullable = false)
+    private Store store;
+
+    @ManyToOne
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @Column(name = "active")
+    @Setter
+    private boolean active;
+
+    @Column(name = "last_assigned_at")
+    @Setter
+    private Instant lastAssignedAt;
+
+    public StoreAssistant(Store store, User user) {
+        this.store = store;
+        this.user = user;
+        this.active = true;
+    }
+}
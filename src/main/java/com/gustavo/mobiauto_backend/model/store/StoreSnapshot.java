@@ -0,0 +1,12 @@
+package com.gustavo.mobiauto_backend.model.store;
+
+public record StoreSnapshot(Long storeId, String companyName, String cnpj, boolean active) {
+
+    public static StoreSnapshot of(Store store) {
+        return new StoreSnapshot(
+                store.getId(),
+                store.getCompanyName().getValue(),
+                store.getCnpj().getValue(),
+                store.isActive());
+    }
+}
@@ -0,0 +1,13 @@
+package com.gustavo.mobiauto_backend.model.store;
+
+public record StoreView(Long id, String companyName, String cnpj, boolean active, long version) {
+
+    public static StoreView of(Store store) {
+        return new StoreView(
+                store.getId(),
+                store.getCompanyName().getValue(),
+                store.getCnpj().getValue(),
+                store.isActive(),
+                store.getVersion());
+    }
+}
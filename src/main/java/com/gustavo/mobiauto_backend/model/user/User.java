@@ -3,29 +3,37 @@ package com.gustavo.mobiauto_backend.model.user;
 import java.util.Collection;
 import java.util.List;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
+import com.gustavo.mobiauto_backend.infra.persistence.CacheRegions;
+import com.gustavo.mobiauto_backend.infra.persistence.PooledSequence;
+
 import jakarta.persistence.AttributeOverride;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Embedded;
 import jakarta.persistence.Entity;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.USER)
 @Table(name = "users")
 @NoArgsConstructor
 @Getter
 @Setter
 public class User implements UserDetails {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @PooledSequence("users_seq")
     @Column(name = "id")
     private Long id;
 
@@ -43,6 +51,11 @@ public class User implements UserDetails {
     @Column(name = "active")
     private boolean active;
 
+    @Version
+    @Setter(AccessLevel.NONE)
+    @Column(name = "version", nullable = false, columnDefinition = "bigint default 0")
+    private long version;
+
     public User(UserName name, UserEmail email, UserPassword password) {
         this.name = name;
         this.email = email;
@@ -1,5 +1,7 @@
 package com.gustavo.mobiauto_backend.model.user;
 
+import org.springframework.security.crypto.password.PasswordEncoder;
+
 import com.gustavo.mobiauto_backend.common.helpers.CryptoUtils;
 
 import jakarta.persistence.Embeddable;
@@ -16,10 +18,25 @@ public class UserPassword {
         setValue(value);
     }
 
+    public static UserPassword encode(String rawPassword, PasswordEncoder passwordEncoder) {
+        validate(rawPassword);
+        return hashed(passwordEncoder.encode(rawPassword));
+    }
+
+    public static UserPassword hashed(String hash) {
+        UserPassword password = new UserPassword();
+        password.value = hash;
+        return password;
+    }
+
     public void setValue(String value) {
-        if (value == null || value.length() < 4) {
+        validate(value);
+        this.value = CryptoUtils.encryptPassword(value);
+    }
+
+    private static void validate(String rawPassword) {
+        if (rawPassword == null || rawPassword.length() < 4) {
             throw new IllegalArgumentException("Password should be at least 4 characters long.");
         }
-        this.value = CryptoUtils.encryptPassword(value);
     }
 }
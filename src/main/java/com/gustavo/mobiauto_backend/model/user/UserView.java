@@ -0,0 +1,13 @@
+package com.gustavo.mobiauto_backend.model.user;
+
+public record UserView(Long id, String fullName, String email, boolean active, long version) {
+
+    public static UserView of(User user) {
+        return new UserView(
+                user.getId(),
+                user.getFullName(),
+                user.getEmail().getValue(),
+                user.isActive(),
+                user.getVersion());
+    }
+}
@@ -1,25 +1,36 @@
 package com.gustavo.mobiauto_backend.model.vehicle;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+import com.gustavo.mobiauto_backend.infra.persistence.CacheRegions;
+import com.gustavo.mobiauto_backend.infra.persistence.PooledSequence;
+
 import jakarta.persistence.AttributeOverride;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Embedded;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "vehicles")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.VEHICLE)
+@Table(name = "vehicles", indexes = {
+        @Index(name = "idx_vehicles_type_release_year", columnList = "type, release_year"),
+        @Index(name = "idx_vehicles_model_release_year", columnList = "model, release_year")
+})
 @NoArgsConstructor
 @Getter
 public class Vehicle {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @PooledSequence("vehicles_seq")
     @Column(name = "id")
     private Long id;
 
@@ -3,18 +3,35 @@ package com.gustavo.mobiauto_backend.service;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
+import com.gustavo.mobiauto_backend.infra.exceptions.PasswordHashingBusyException;
+import com.gustavo.mobiauto_backend.infra.security.PasswordHashingExecutor;
 import com.gustavo.mobiauto_backend.model.user.User;
 import com.gustavo.mobiauto_backend.service.exceptions.DeactivatedUserException;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
 @Service
 public class AuthService implements UserDetailsService {
 
     private final UserService userService;
+    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingExecutor passwordHashingExecutor;
+    private final Counter rehashesBusy;
+    private final Counter rehashesFailed;
 
-    public AuthService(UserService userService) {
+    public AuthService(UserService userService, PasswordEncoder passwordEncoder,
+            PasswordHashingExecutor passwordHashingExecutor, MeterRegistry meterRegistry) {
         this.userService = userService;
+        this.passwordEncoder = passwordEncoder;
+        this.passwordHashingExecutor = passwordHashingExecutor;
+        this.rehashesBusy = meterRegistry.counter("auth.password.rehash.skipped", "reason", "busy");
+        this.rehashesFailed = meterRegistry.counter("auth.password.rehash.skipped", "reason", "failed");
     }
 
     @Override
@@ -28,4 +45,23 @@ public class AuthService implements UserDetailsService {
         return user;
     }
 
+    public void rehashPasswordIfOutdated(User user, String rawPassword) {
+        if (!passwordEncoder.upgradeEncoding(user.getPassword())) {
+            return;
+        }
+
+        // A skipped rehash is retried by the next successful login.
+        try {
+            passwordHashingExecutor.submit(
+                    () -> userService.rehashPassword(user, passwordEncoder.encode(rawPassword)))
+                    .exceptionally(exception -> {
+                        rehashesFailed.increment();
+                        log.warn("Could not rehash the password of user {}", user.getId(), exception);
+                        return false;
+                    });
+        } catch (PasswordHashingBusyException exception) {
+            rehashesBusy.increment();
+            log.warn("Skipped rehashing the password of user {}, password hashing is saturated", user.getId());
+        }
+    }
 }
@@ -0,0 +1,267 @@
+package com.gustavo.mobiauto_backend.service;
+
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.gustavo.mobiauto_backend.infra.exceptions.StoreAssistantNotFoundException;
+import com.gustavo.mobiauto_backend.infra.repositories.OfferRepository;
+import com.gustavo.mobiauto_backend.infra.repositories.StoreAssistantRepository;
+import com.gustavo.mobiauto_backend.model.offer.Offer;
+import com.gustavo.mobiauto_backend.model.offer.OfferStatus;
+import com.gustavo.mobiauto_backend.model.store.StoreAssistant;
+import com.gustavo.mobiauto_backend.model.user.User;
+import com.gustavo.mobiauto_backend.service.events.OfferSavedEvent;
+import com.gustavo.mobiauto_backend.service.events.StoreAssistantSavedEvent;
+import com.gustavo.mobiauto_backend.service.events.UserSavedEvent;
+import com.gustavo.mobiauto_backend.service.exceptions.DeactivatedUserException;
+
+@Service
+public class OfferAssignmentService {
+    private static final Comparator<Candidate> LEAST_LOADED = Comparator
+            .comparingLong(Candidate::attended)
+            .thenComparing(Candidate::lastAssignedAt, Comparator.nullsFirst(Comparator.naturalOrder()))
+            .thenComparing(Candidate::userId);
+
+    private final StoreAssistantRepository storeAssistantRepository;
+    private final OfferRepository offerRepository;
+    private final Map<Long, StoreQueue> queues = new ConcurrentHashMap<>();
+    private final Map<Long, Assignment> attendedOffers = new ConcurrentHashMap<>();
+
+    public OfferAssignmentService(StoreAssistantRepository storeAssistantRepository,
+            OfferRepository offerRepository) {
+        this.storeAssistantRepository = storeAssistantRepository;
+        this.offerRepository = offerRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        for (Object[] row : offerRepository.findAssignedIdsByStatus(OfferStatus.ATTENDED)) {
+            Assignment assignment = new Assignment((Long) row[1], (Long) row[2]);
+            attendedOffers.put((Long) row[0], assignment);
+            this.queue(assignment.storeId()).adjust(assignment.userId(), 1);
+        }
+
+        for (StoreAssistant assistant : storeAssistantRepository.findAllAvailable()) {
+            this.queue(assistant.getStore().getId())
+                    .put(assistant.getId(), assistant.getUser().getId(), assistant.getLastAssignedAt());
+        }
+    }
+
+    @Transactional
+    public void assign(Offer offer) {
+        StoreQueue queue = queues.get(offer.getStore().getId());
+        if (queue == null) {
+            return;
+        }
+
+        Turn turn;
+        while ((turn = queue.next()) != null) {
+            Candidate candidate = turn.candidate();
+            StoreAssistant assistant = storeAssistantRepository.findById(candidate.assistantId()).orElse(null);
+            if (assistant != null && assistant.isActive() && assistant.getUser().isActive()) {
+                assistant.setLastAssignedAt(candidate.lastAssignedAt());
+                offer.setAssistant(assistant.getUser());
+                this.restoreOnRollback(queue, turn);
+                return;
+            }
+            queue.remove(candidate.userId());
+        }
+    }
+
+    // The assistant has to be picked before the offer is inserted, so the turn is taken now and given back if
+    // the transaction does not commit.
+    private void restoreOnRollback(StoreQueue queue, Turn turn) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    queue.restore(turn);
+                }
+            }
+        });
+    }
+
+    public User getAvailableAssistant(Long storeId, Long userId) {
+        StoreAssistant assistant = storeAssistantRepository.findByStoreAndUser(storeId, userId)
+                .filter(StoreAssistant::isActive)
+                .orElseThrow(() -> new StoreAssistantNotFoundException(storeId, userId));
+
+        if (!assistant.getUser().isActive()) {
+            throw new DeactivatedUserException(userId);
+        }
+        return assistant.getUser();
+    }
+
+    public void reassigned(Offer offer, Long fromUserId, Long toUserId) {
+        if (offer.getStatus() != OfferStatus.ATTENDED) {
+            return;
+        }
+
+        Long offerId = offer.getId();
+        Long storeId = offer.getStore().getId();
+        Assignment from = fromUserId != null ? new Assignment(storeId, fromUserId) : null;
+        Assignment to = new Assignment(storeId, toUserId);
+
+        if (this.move(offerId, from, to) && TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        move(offerId, to, from);
+                    }
+                }
+            });
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAssistantSaved(StoreAssistantSavedEvent event) {
+        StoreQueue queue = this.queue(event.storeId());
+        if (event.active()) {
+            queue.put(event.assistantId(), event.userId(), event.lastAssignedAt());
+        } else {
+            queue.remove(event.userId());
+        }
+    }
+
+    // assign() drops candidates whose user turned out inactive; reactivation is what brings them back.
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserSaved(UserSavedEvent event) {
+        if (!event.active()) {
+            queues.values().forEach(queue -> queue.remove(event.userId()));
+            return;
+        }
+
+        for (StoreAssistant assistant : storeAssistantRepository.findAvailableByUser(event.userId())) {
+            this.queue(assistant.getStore().getId())
+                    .put(assistant.getId(), event.userId(), assistant.getLastAssignedAt());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOfferSaved(OfferSavedEvent event) {
+        // Assistant changes are applied by reassigned() while the offer row is locked; events may arrive out of
+        // order, so here they only decide whether the offer counts as attended.
+        if (event.active() && event.status() == OfferStatus.ATTENDED && event.assistantId() != null) {
+            this.move(event.offerId(), null, new Assignment(event.storeId(), event.assistantId()));
+        } else {
+            Assignment previous = attendedOffers.remove(event.offerId());
+            if (previous != null) {
+                this.queue(previous.storeId()).adjust(previous.userId(), -1);
+            }
+        }
+    }
+
+    private boolean move(Long offerId, Assignment from, Assignment to) {
+        boolean moved;
+        if (from == null) {
+            moved = attendedOffers.putIfAbsent(offerId, to) == null;
+        } else if (to == null) {
+            moved = attendedOffers.remove(offerId, from);
+        } else {
+            moved = attendedOffers.replace(offerId, from, to);
+        }
+
+        if (moved && from != null) {
+            this.queue(from.storeId()).adjust(from.userId(), -1);
+        }
+        if (moved && to != null) {
+            this.queue(to.storeId()).adjust(to.userId(), 1);
+        }
+        return moved;
+    }
+
+    private StoreQueue queue(Long storeId) {
+        return queues.computeIfAbsent(storeId, id -> new StoreQueue());
+    }
+
+    private record Assignment(Long storeId, Long userId) {
+    }
+
+    private record Candidate(Long assistantId, Long userId, long attended, Instant lastAssignedAt) {
+        Candidate assignedAt(Instant instant) {
+            return new Candidate(assistantId, userId, attended, instant);
+        }
+
+        Candidate withAttended(long count) {
+            return new Candidate(assistantId, userId, count, lastAssignedAt);
+        }
+    }
+
+    private record Turn(Candidate candidate, Instant previousAssignedAt) {
+    }
+
+    private static final class StoreQueue {
+        private final TreeSet<Candidate> ordered = new TreeSet<>(LEAST_LOADED);
+        private final Map<Long, Candidate> candidates = new HashMap<>();
+        private final Map<Long, Long> attended = new HashMap<>();
+
+        private Instant lastIssued = Instant.EPOCH;
+
+        synchronized Turn next() {
+            Candidate first = ordered.pollFirst();
+            if (first == null) {
+                return null;
+            }
+
+            // Stamped under the lock and strictly increasing, so concurrent callers rotate instead of tying.
+            Instant now = Instant.now();
+            lastIssued = now.isAfter(lastIssued) ? now : lastIssued.plusNanos(1);
+            Candidate assigned = first.assignedAt(lastIssued);
+            this.replace(assigned);
+            return new Turn(assigned, first.lastAssignedAt());
+        }
+
+        synchronized void restore(Turn turn) {
+            Candidate current = candidates.get(turn.candidate().userId());
+            // A later turn or a re-enqueue already moved the candidate on; leave that state alone.
+            if (current != null && current.lastAssignedAt().equals(turn.candidate().lastAssignedAt())) {
+                ordered.remove(current);
+                this.replace(current.assignedAt(turn.previousAssignedAt()));
+            }
+        }
+
+        synchronized void put(Long assistantId, Long userId, Instant lastAssignedAt) {
+            this.remove(userId);
+            this.replace(new Candidate(assistantId, userId, attended.getOrDefault(userId, 0L), lastAssignedAt));
+        }
+
+        synchronized void remove(Long userId) {
+            Candidate candidate = candidates.remove(userId);
+            if (candidate != null) {
+                ordered.remove(candidate);
+            }
+        }
+
+        synchronized void adjust(Long userId, long delta) {
+            long count = attended.merge(userId, delta, Long::sum);
+            Candidate candidate = candidates.get(userId);
+            if (candidate != null) {
+                ordered.remove(candidate);
+                this.replace(candidate.withAttended(count));
+            }
+        }
+
+        private void replace(Candidate candidate) {
+            ordered.add(candidate);
+            candidates.put(candidate.userId(), candidate);
+        }
+    }
+}
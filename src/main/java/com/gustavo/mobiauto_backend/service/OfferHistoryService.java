@@ -0,0 +1,31 @@
+package com.gustavo.mobiauto_backend.service;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.springframework.stereotype.Service;
+
+import com.gustavo.mobiauto_backend.infra.events.OfferEventStore;
+import com.gustavo.mobiauto_backend.infra.events.OfferSnapshotCodec;
+import com.gustavo.mobiauto_backend.infra.exceptions.OfferNotFoundException;
+import com.gustavo.mobiauto_backend.model.offer.OfferEvent;
+import com.gustavo.mobiauto_backend.model.offer.OfferSnapshot;
+
+@Service
+public class OfferHistoryService {
+    private final OfferEventStore offerEventStore;
+
+    public OfferHistoryService(OfferEventStore offerEventStore) {
+        this.offerEventStore = offerEventStore;
+    }
+
+    public List<OfferEvent> getHistory(Long offerId) {
+        return offerEventStore.findByOffer(offerId);
+    }
+
+    public OfferSnapshot replay(Long offerId, Instant at) {
+        OfferEvent event = offerEventStore.findLatestAt(offerId, at != null ? at : Instant.now())
+                .orElseThrow(() -> new OfferNotFoundException(offerId));
+        return OfferSnapshotCodec.decode(offerId, event.getPayload());
+    }
+}
@@ -0,0 +1,232 @@
+package com.gustavo.mobiauto_backend.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gustavo.mobiauto_backend.controller.dto.OfferImportResultDto;
+import com.gustavo.mobiauto_backend.controller.requests.OfferImportRequest;
+import com.gustavo.mobiauto_backend.infra.outbox.Outbox;
+import com.gustavo.mobiauto_backend.infra.repositories.OfferRepository;
+import com.gustavo.mobiauto_backend.model.offer.Offer;
+import com.gustavo.mobiauto_backend.model.offer.OfferEventType;
+import com.gustavo.mobiauto_backend.model.offer.OfferSnapshot;
+import com.gustavo.mobiauto_backend.model.store.Store;
+import com.gustavo.mobiauto_backend.model.user.User;
+import com.gustavo.mobiauto_backend.model.vehicle.Vehicle;
+import com.gustavo.mobiauto_backend.service.events.OfferChangedEvent;
+import com.gustavo.mobiauto_backend.service.events.OfferSavedEvent;
+import com.gustavo.mobiauto_backend.service.exceptions.DeactivatedStoreException;
+
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Service
+public class OfferImportService {
+    private final StoreService storeService;
+    private final UserService userService;
+    private final VehicleService vehicleService;
+    private final OfferAssignmentService offerAssignmentService;
+    private final OfferRepository offerRepository;
+    private final Outbox outbox;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    public OfferImportService(StoreService storeService, UserService userService, VehicleService vehicleService,
+            OfferAssignmentService offerAssignmentService, OfferRepository offerRepository, Outbox outbox,
+            ObjectMapper objectMapper, ApplicationEventPublisher eventPublisher, EntityManager entityManager,
+            PlatformTransactionManager transactionManager,
+            @Value("${mobiauto.offers.import.chunk-size:500}") int chunkSize) {
+        this.storeService = storeService;
+        this.userService = userService;
+        this.vehicleService = vehicleService;
+        this.offerAssignmentService = offerAssignmentService;
+        this.offerRepository = offerRepository;
+        this.outbox = outbox;
+        this.objectMapper = objectMapper;
+        this.eventPublisher = eventPublisher;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+    }
+
+    public Store resolveStore(Long storeId) {
+        Store store = storeService.getStore(storeId);
+
+        if (!store.isActive()) {
+            throw new DeactivatedStoreException(storeId);
+        }
+
+        return store;
+    }
+
+    public void importOffers(Store store, Reader ndjson, Consumer<List<OfferImportResultDto>> report)
+            throws IOException {
+        BufferedReader reader = new BufferedReader(ndjson);
+        List<Row> chunk = new ArrayList<>(chunkSize);
+        long rowNumber = 0;
+        String line;
+
+        while ((line = reader.readLine()) != null) {
+            if (line.isBlank()) {
+                continue;
+            }
+
+            chunk.add(this.parse(++rowNumber, line));
+            if (chunk.size() == chunkSize) {
+                report.accept(this.importChunk(store, chunk));
+                chunk.clear();
+            }
+        }
+
+        if (!chunk.isEmpty()) {
+            report.accept(this.importChunk(store, chunk));
+        }
+    }
+
+    private Row parse(long rowNumber, String line) {
+        try {
+            return new Row(rowNumber, objectMapper.readValue(line, OfferImportRequest.class), null);
+        } catch (JsonProcessingException exception) {
+            return new Row(rowNumber, null, "Malformed row: " + exception.getOriginalMessage());
+        }
+    }
+
+    private List<OfferImportResultDto> importChunk(Store store, List<Row> chunk) {
+        Map<Long, User> clients;
+        try {
+            clients = userService.findUsers(chunk.stream()
+                    .filter(row -> row.request() != null && row.request().getClientId() != null)
+                    .map(row -> row.request().getClientId())
+                    .collect(Collectors.toSet()))
+                    .stream()
+                    .collect(Collectors.toMap(User::getId, Function.identity()));
+        } catch (RuntimeException exception) {
+            // The response is already streaming; report the chunk as failed rather than cut the stream short.
+            log.warn("Could not load the clients of a chunk of {} rows", chunk.size(), exception);
+            return chunk.stream()
+                    .map(row -> OfferImportResultDto.rejected(row.number(), "Failed to persist row"))
+                    .toList();
+        }
+
+        List<OfferImportResultDto> results = new ArrayList<>(chunk.size());
+        List<Pending> pending = new ArrayList<>();
+
+        for (Row row : chunk) {
+            String error = row.error();
+            if (error == null) {
+                try {
+                    User client = this.client(row.request(), clients);
+                    vehicleService.buildVehicle(row.request());
+                    pending.add(new Pending(row.number(), row.request(), client));
+                    continue;
+                } catch (IllegalArgumentException exception) {
+                    error = exception.getMessage();
+                } catch (RuntimeException exception) {
+                    log.warn("Could not read import row {}", row.number(), exception);
+                    error = "Invalid row";
+                }
+            }
+            results.add(OfferImportResultDto.rejected(row.number(), error));
+        }
+
+        if (!pending.isEmpty()) {
+            try {
+                results.addAll(this.persist(store, pending));
+            } catch (RuntimeException exception) {
+                // One bad row rolls back the whole chunk; retry row by row so the valid ones still go in.
+                log.warn("Could not import a chunk of {} rows, retrying them one at a time", pending.size(),
+                        exception);
+                entityManager.clear();
+                for (Pending row : pending) {
+                    results.add(this.persistOne(store, row));
+                }
+            } finally {
+                // If the caller keeps a persistence context open, every chunk shares it; detach the chunk so
+                // memory and dirty checking stay bounded by the chunk size instead of the file size.
+                entityManager.clear();
+            }
+        }
+
+        results.sort(Comparator.comparingLong(OfferImportResultDto::getRow));
+        return results;
+    }
+
+    private OfferImportResultDto persistOne(Store store, Pending row) {
+        try {
+            return this.persist(store, List.of(row)).get(0);
+        } catch (RuntimeException exception) {
+            log.warn("Could not import row {}", row.number(), exception);
+            return OfferImportResultDto.rejected(row.number(), "Failed to persist row");
+        } finally {
+            entityManager.clear();
+        }
+    }
+
+    private List<OfferImportResultDto> persist(Store store, List<Pending> rows) {
+        List<Vehicle> vehicles = new ArrayList<>(rows.size());
+        List<Offer> offers = new ArrayList<>(rows.size());
+        for (Pending row : rows) {
+            Vehicle vehicle = vehicleService.buildVehicle(row.request());
+            vehicles.add(vehicle);
+            offers.add(new Offer(row.client(), vehicle, store));
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            vehicleService.createVehicles(vehicles);
+            offers.forEach(offerAssignmentService::assign);
+            offerRepository.saveAll(offers);
+            offers.forEach(offer -> {
+                outbox.append("offer", offer.getId(), "OfferRegistered", OfferSnapshot.of(offer));
+                eventPublisher.publishEvent(OfferSavedEvent.of(offer));
+                eventPublisher.publishEvent(OfferChangedEvent.of(OfferEventType.CREATED, offer));
+            });
+        });
+
+        List<OfferImportResultDto> results = new ArrayList<>(rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            results.add(OfferImportResultDto.created(rows.get(i).number(), offers.get(i).getId()));
+        }
+        return results;
+    }
+
+    private User client(OfferImportRequest request, Map<Long, User> clients) {
+        if (request.getClientId() == null) {
+            throw new IllegalArgumentException("Client id cannot be null");
+        }
+
+        User client = clients.get(request.getClientId());
+        if (client == null) {
+            throw new IllegalArgumentException("User with id " + request.getClientId() + " not found.");
+        }
+        if (!client.isActive()) {
+            throw new IllegalArgumentException("User with id " + request.getClientId() + " is deactivated.");
+        }
+        return client;
+    }
+
+    private record Row(long number, OfferImportRequest request, String error) {
+    }
+
+    private record Pending(long number, OfferImportRequest request, User client) {
+    }
+}
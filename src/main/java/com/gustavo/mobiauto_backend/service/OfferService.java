@@ -1,18 +1,58 @@
 package com.gustavo.mobiauto_backend.service;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.gustavo.mobiauto_backend.common.helpers.Pagination;
+import com.gustavo.mobiauto_backend.controller.requests.OfferFacetRequest;
+import com.gustavo.mobiauto_backend.controller.requests.OfferSearchRequest;
 import com.gustavo.mobiauto_backend.controller.requests.VehicleRequest;
+import com.gustavo.mobiauto_backend.infra.cache.CacheNames;
+import com.gustavo.mobiauto_backend.infra.cache.LookupCaches;
 import com.gustavo.mobiauto_backend.infra.exceptions.OfferNotFoundException;
+import com.gustavo.mobiauto_backend.infra.outbox.Outbox;
 import com.gustavo.mobiauto_backend.infra.repositories.OfferRepository;
+import com.gustavo.mobiauto_backend.infra.repositories.OfferSpecifications;
+import com.gustavo.mobiauto_backend.infra.repositories.OfferSpecifications.OfferFilter;
+import com.gustavo.mobiauto_backend.infra.search.OfferFacetIndex;
+import com.gustavo.mobiauto_backend.infra.search.OfferFacetIndex.FacetCounts;
+import com.gustavo.mobiauto_backend.infra.search.OfferFacetIndex.FacetFilter;
+import com.gustavo.mobiauto_backend.infra.search.VehicleModelSearch;
 import com.gustavo.mobiauto_backend.model.offer.Offer;
+import com.gustavo.mobiauto_backend.model.offer.OfferEventType;
+import com.gustavo.mobiauto_backend.model.offer.OfferSnapshot;
+import com.gustavo.mobiauto_backend.model.offer.OfferStatus;
+import com.gustavo.mobiauto_backend.model.offer.OfferView;
 import com.gustavo.mobiauto_backend.model.store.Store;
 import com.gustavo.mobiauto_backend.model.user.User;
 import com.gustavo.mobiauto_backend.model.vehicle.Vehicle;
+import com.gustavo.mobiauto_backend.model.vehicle.VehicleType;
+import com.gustavo.mobiauto_backend.service.OfferSlaService.StoreSlaSnapshot;
+import com.gustavo.mobiauto_backend.service.events.OfferChangedEvent;
+import com.gustavo.mobiauto_backend.service.events.OfferSavedEvent;
+import com.gustavo.mobiauto_backend.service.events.OfferStatusChangedEvent;
 import com.gustavo.mobiauto_backend.service.exceptions.AlreadyActiveException;
 import com.gustavo.mobiauto_backend.service.exceptions.AlreadyDeactivatedException;
+import com.gustavo.mobiauto_backend.service.exceptions.AssistantMismatchException;
 import com.gustavo.mobiauto_backend.service.exceptions.DeactivatedOfferException;
+import com.gustavo.mobiauto_backend.service.exceptions.DeactivatedStoreException;
+import com.gustavo.mobiauto_backend.service.exceptions.InvalidStatusTransitionException;
+import com.gustavo.mobiauto_backend.service.exceptions.VersionMismatchException;
 
 @Service
 @Transactional(readOnly = true)
@@ -21,13 +61,30 @@ public class OfferService {
         private final StoreService storeService;
         private final UserService userService;
         private final VehicleService vehicleService;
+        private final VehicleModelSearch vehicleModelSearch;
+        private final OfferFacetIndex offerFacetIndex;
+        private final OfferAssignmentService offerAssignmentService;
+        private final OfferSlaService offerSlaService;
+        private final Outbox outbox;
+        private final ApplicationEventPublisher eventPublisher;
+        private final LookupCaches lookupCaches;
 
         public OfferService(StoreService storeService, UserService userService,
-                        OfferRepository offerRepository, VehicleService vehicleService) {
+                        OfferRepository offerRepository, VehicleService vehicleService,
+                        VehicleModelSearch vehicleModelSearch, OfferFacetIndex offerFacetIndex,
+                        OfferAssignmentService offerAssignmentService, OfferSlaService offerSlaService,
+                        Outbox outbox, ApplicationEventPublisher eventPublisher, LookupCaches lookupCaches) {
                 this.storeService = storeService;
                 this.userService = userService;
                 this.offerRepository = offerRepository;
                 this.vehicleService = vehicleService;
+                this.vehicleModelSearch = vehicleModelSearch;
+                this.offerFacetIndex = offerFacetIndex;
+                this.offerAssignmentService = offerAssignmentService;
+                this.offerSlaService = offerSlaService;
+                this.outbox = outbox;
+                this.eventPublisher = eventPublisher;
+                this.lookupCaches = lookupCaches;
         }
 
         @Transactional
@@ -38,9 +95,11 @@ public class OfferService {
                 Vehicle vehicle = vehicleService.createVehicle(request);
 
                 Offer offer = new Offer(client, vehicle, store);
+                offerAssignmentService.assign(offer);
                 offer = offerRepository.save(offer);
+                outbox.append("offer", offer.getId(), "OfferRegistered", OfferSnapshot.of(offer));
 
-                return offer;
+                return this.saved(OfferEventType.CREATED, offer);
         }
 
         public Offer getOffer(Long id) {
@@ -48,6 +107,70 @@ public class OfferService {
                                 .orElseThrow(() -> new OfferNotFoundException(id));
         }
 
+        @Cacheable(cacheNames = CacheNames.OFFERS, sync = true)
+        public OfferView getOfferView(Long id) {
+                return OfferView.of(this.getOffer(id));
+        }
+
+        public List<Offer> getOffers(Collection<Long> ids) {
+                return offerRepository.findAllWithDetailsByIdIn(ids);
+        }
+
+        public List<Offer> searchOffers(OfferSearchRequest request, Long after, int limit, Sort.Direction direction) {
+                OfferFilter filter = new OfferFilter(
+                                request.getStoreId(),
+                                request.getClientId(),
+                                request.getStatus() != null ? OfferStatus.valueOf(request.getStatus().toUpperCase()) : null,
+                                request.getActive(),
+                                request.getType() != null ? VehicleType.valueOf(request.getType().toUpperCase()) : null,
+                                request.getModel(),
+                                request.getMinReleaseYear(),
+                                request.getMaxReleaseYear());
+                Limit pageLimit = Pagination.limit(limit);
+
+                return offerRepository.findBy(OfferSpecifications.search(filter, after, direction),
+                                query -> query.sortBy(Sort.by(direction, "id")).limit(pageLimit.max()).all());
+        }
+
+        public List<Offer> searchOffersByModel(String term, int limit) {
+                if (term == null || term.isBlank()) {
+                        throw new IllegalArgumentException("Search term cannot be empty.");
+                }
+
+                List<Long> ids = vehicleModelSearch.searchActiveOfferIds(
+                                term.trim().toLowerCase(Locale.ROOT), Pagination.limit(limit).max());
+                if (ids.isEmpty()) {
+                        return List.of();
+                }
+
+                Map<Long, Offer> offers = offerRepository.findAllWithDetailsByIdIn(ids).stream()
+                                .collect(Collectors.toMap(Offer::getId, Function.identity()));
+                return ids.stream()
+                                .map(offers::get)
+                                .filter(Objects::nonNull)
+                                .toList();
+        }
+
+        public FacetCounts getOfferFacets(OfferFacetRequest request) {
+                return offerFacetIndex.count(new FacetFilter(
+                                request.getType() != null ? VehicleType.valueOf(request.getType().toUpperCase()) : null,
+                                request.getReleaseYear(),
+                                request.getColor()));
+        }
+
+        public void streamActiveOffers(Long storeId, Long after, int limit, Consumer<Stream<Offer>> action) {
+                Store store = storeService.getStore(storeId);
+
+                if (!store.isActive()) {
+                        throw new DeactivatedStoreException(storeId);
+                }
+
+                try (Stream<Offer> offers = offerRepository.streamActiveByStore(
+                                storeId, Pagination.cursor(after), Pagination.limit(limit))) {
+                        action.accept(offers);
+                }
+        }
+
         @Transactional
         public Offer deactivateOffer(Long id) {
                 Offer offer = this.getOffer(id);
@@ -58,12 +181,22 @@ public class OfferService {
 
                 offer.setActive(false);
                 offer = offerRepository.save(offer);
-                return offer;
+                return this.saved(OfferEventType.DEACTIVATED, offer);
         }
 
         @Transactional
         public Offer updateOffer(Long id, VehicleRequest request) {
-                Offer offer = this.getOffer(id);
+                return this.updateOffer(id, request, null);
+        }
+
+        @Transactional
+        public Offer updateOffer(Long id, VehicleRequest request, Long expectedVersion) {
+                Offer offer = offerRepository.findForUpdateById(id)
+                                .orElseThrow(() -> new OfferNotFoundException(id));
+
+                if (expectedVersion != null && expectedVersion != offer.getVersion()) {
+                        throw new VersionMismatchException(Offer.class, id, expectedVersion);
+                }
 
                 if (!offer.isActive()) {
                         throw new DeactivatedOfferException(id);
@@ -73,7 +206,67 @@ public class OfferService {
                 offer.setVehicle(updatedVehicle);
 
                 offer = offerRepository.save(offer);
-                return offer;
+                return this.saved(OfferEventType.UPDATED, offer);
+        }
+
+        @Transactional
+        public Offer transitionOffer(Long id, String status, Long expectedVersion) {
+                if (status == null || status.isBlank()) {
+                        throw new IllegalArgumentException("Status cannot be empty.");
+                }
+                OfferStatus next = OfferStatus.valueOf(status.trim().toUpperCase());
+
+                Offer offer = offerRepository.findForUpdateById(id)
+                                .orElseThrow(() -> new OfferNotFoundException(id));
+
+                if (expectedVersion != null && expectedVersion != offer.getVersion()) {
+                        throw new VersionMismatchException(Offer.class, id, expectedVersion);
+                }
+
+                if (!offer.isActive()) {
+                        throw new DeactivatedOfferException(id);
+                }
+
+                if (!offer.getStatus().canTransitionTo(next)) {
+                        throw new InvalidStatusTransitionException(id, offer.getStatus(), next);
+                }
+
+                offer.transitionTo(next, Instant.now());
+                offer = offerRepository.save(offer);
+
+                eventPublisher.publishEvent(OfferStatusChangedEvent.of(offer));
+                return this.saved(OfferEventType.STATUS_CHANGED, offer);
+        }
+
+        public StoreSlaSnapshot getOfferSla(Long storeId) {
+                storeService.getStore(storeId);
+                return offerSlaService.snapshot(storeId);
+        }
+
+        @Transactional
+        public Offer reassignOffer(Long id, Long fromAssistantId, Long toAssistantId) {
+                if (toAssistantId == null) {
+                        throw new IllegalArgumentException("Target assistant cannot be empty.");
+                }
+
+                // The forced version bump makes a concurrent reassignment of the same offer fail at commit.
+                Offer offer = offerRepository.findForUpdateById(id)
+                                .orElseThrow(() -> new OfferNotFoundException(id));
+                if (!offer.isActive()) {
+                        throw new DeactivatedOfferException(id);
+                }
+
+                Long currentAssistantId = offer.getAssistant() != null ? offer.getAssistant().getId() : null;
+                if (!Objects.equals(currentAssistantId, fromAssistantId)) {
+                        throw new AssistantMismatchException(id, fromAssistantId);
+                }
+
+                User assistant = offerAssignmentService.getAvailableAssistant(offer.getStore().getId(), toAssistantId);
+                offer.setAssistant(assistant);
+                offer = offerRepository.save(offer);
+                offerAssignmentService.reassigned(offer, fromAssistantId, toAssistantId);
+
+                return this.saved(OfferEventType.REASSIGNED, offer);
         }
 
         @Transactional
@@ -87,6 +280,15 @@ public class OfferService {
 
                 offer.setActive(true);
                 offer = offerRepository.save(offer);
+                return this.saved(OfferEventType.REACTIVATED, offer);
+        }
+
+        // Evicted rather than written through: the view reads the lazy client and store, which are out of reach
+        // once the transaction has committed.
+        private Offer saved(OfferEventType type, Offer offer) {
+                lookupCaches.evictAfterCommit(CacheNames.OFFERS, offer.getId());
+                eventPublisher.publishEvent(OfferSavedEvent.of(offer));
+                eventPublisher.publishEvent(OfferChangedEvent.of(type, offer));
                 return offer;
         }
-}
\ No newline at end of file
+}
@@ -0,0 +1,235 @@
+package com.gustavo.mobiauto_backend.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.gustavo.mobiauto_backend.infra.repositories.OfferRepository;
+import com.gustavo.mobiauto_backend.model.offer.OfferStatus;
+import com.gustavo.mobiauto_backend.service.events.OfferStatusChangedEvent;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Service
+public class OfferSlaService implements DisposableBean {
+    public static final List<Duration> BUCKET_BOUNDS = List.of(
+            Duration.ofMinutes(5),
+            Duration.ofMinutes(15),
+            Duration.ofHours(1),
+            Duration.ofHours(4),
+            Duration.ofHours(12),
+            Duration.ofDays(1),
+            Duration.ofDays(3),
+            Duration.ofDays(7));
+
+    private static final long[] BOUND_SECONDS = BUCKET_BOUNDS.stream().mapToLong(Duration::toSeconds).toArray();
+    // A change replayed after a rebuild that is older than this would belong to a transaction that ran longer
+    // than it, so the rebuild's own read is trusted for it.
+    private static final Duration REPLAY_WINDOW = Duration.ofMinutes(10);
+
+    private final OfferRepository offerRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration reconcileInterval;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private volatile Map<Long, StoreSla> stores = new ConcurrentHashMap<>();
+    // Non-null while a rebuild streams, so changes committed meanwhile are replayed onto the rebuilt histograms.
+    private volatile Queue<OfferStatusChangedEvent> pending;
+
+    private volatile ScheduledExecutorService scheduler;
+
+    public OfferSlaService(
+            OfferRepository offerRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${mobiauto.offers.sla.reconcile-interval:1h}") Duration reconcileInterval) {
+        this.offerRepository = offerRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.reconcileInterval = reconcileInterval;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        this.rebuild();
+
+        if (reconcileInterval.isZero() || reconcileInterval.isNegative()) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("offer-sla-"));
+        scheduler.scheduleWithFixedDelay(this::reconcile, reconcileInterval.toMillis(), reconcileInterval.toMillis(),
+                TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void destroy() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    // Snapshots keep being served from the current histograms while the new ones are loaded.
+    public synchronized void rebuild() {
+        Instant replaySince = Instant.now().minus(REPLAY_WINDOW);
+        Set<Long> attended = new HashSet<>();
+        Set<Long> completed = new HashSet<>();
+
+        lock.writeLock().lock();
+        try {
+            pending = new ConcurrentLinkedQueue<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Map<Long, StoreSla> rebuilt = null;
+        try {
+            rebuilt = transactionTemplate.execute(status -> {
+                Map<Long, StoreSla> loaded = new ConcurrentHashMap<>();
+                try (Stream<Object[]> rows = offerRepository.streamSlaRows()) {
+                    rows.forEach(row -> {
+                        Long offerId = (Long) row[0];
+                        StoreSla sla = store(loaded, (Long) row[1]);
+                        Instant createdAt = (Instant) row[2];
+                        Instant attendedAt = (Instant) row[3];
+                        Instant completedAt = (Instant) row[4];
+
+                        sla.firstAttendance().record(createdAt, attendedAt);
+                        if (!attendedAt.isBefore(replaySince)) {
+                            attended.add(offerId);
+                        }
+                        if (completedAt != null) {
+                            sla.completion().record(createdAt, completedAt);
+                            if (!completedAt.isBefore(replaySince)) {
+                                completed.add(offerId);
+                            }
+                        }
+                    });
+                }
+                return loaded;
+            });
+        } finally {
+            lock.writeLock().lock();
+            try {
+                if (rebuilt != null) {
+                    // Offers only move forward, so a transition the stream already counted is not counted again.
+                    for (OfferStatusChangedEvent event : pending) {
+                        Set<Long> counted = event.status() == OfferStatus.COMPLETED ? completed : attended;
+                        if (!event.changedAt().isBefore(replaySince) && !counted.contains(event.offerId())) {
+                            record(rebuilt, event);
+                        }
+                    }
+                    stores = rebuilt;
+                }
+                pending = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStatusChanged(OfferStatusChangedEvent event) {
+        if (event.createdAt() == null || event.changedAt() == null) {
+            return;
+        }
+
+        lock.readLock().lock();
+        try {
+            record(stores, event);
+            Queue<OfferStatusChangedEvent> buffer = pending;
+            if (buffer != null) {
+                buffer.add(event);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public StoreSlaSnapshot snapshot(Long storeId) {
+        StoreSla sla = stores.get(storeId);
+        if (sla == null) {
+            return new StoreSlaSnapshot(HistogramSnapshot.EMPTY, HistogramSnapshot.EMPTY);
+        }
+        return new StoreSlaSnapshot(sla.firstAttendance().snapshot(), sla.completion().snapshot());
+    }
+
+    private void reconcile() {
+        try {
+            this.rebuild();
+        } catch (RuntimeException exception) {
+            log.error("Could not rebuild the offer SLA histograms", exception);
+        }
+    }
+
+    private static void record(Map<Long, StoreSla> stores, OfferStatusChangedEvent event) {
+        StoreSla sla = store(stores, event.storeId());
+        if (event.status() == OfferStatus.ATTENDED) {
+            sla.firstAttendance().record(event.createdAt(), event.changedAt());
+        } else if (event.status() == OfferStatus.COMPLETED) {
+            sla.completion().record(event.createdAt(), event.changedAt());
+        }
+    }
+
+    private static StoreSla store(Map<Long, StoreSla> stores, Long storeId) {
+        return stores.computeIfAbsent(storeId, id -> new StoreSla(new Histogram(), new Histogram()));
+    }
+
+    public record StoreSlaSnapshot(HistogramSnapshot firstAttendance, HistogramSnapshot completion) {
+    }
+
+    // buckets has one more slot than BUCKET_BOUNDS for durations above the last bound.
+    public record HistogramSnapshot(long count, long totalSeconds, long[] buckets) {
+        static final HistogramSnapshot EMPTY = new HistogramSnapshot(0, 0, new long[BOUND_SECONDS.length + 1]);
+    }
+
+    private record StoreSla(Histogram firstAttendance, Histogram completion) {
+    }
+
+    private static final class Histogram {
+        private final AtomicLongArray buckets = new AtomicLongArray(BOUND_SECONDS.length + 1);
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalSeconds = new LongAdder();
+
+        void record(Instant from, Instant to) {
+            long seconds = Math.max(0, Duration.between(from, to).toSeconds());
+            int bucket = Arrays.binarySearch(BOUND_SECONDS, seconds);
+
+            buckets.incrementAndGet(bucket >= 0 ? bucket : -bucket - 1);
+            count.increment();
+            totalSeconds.add(seconds);
+        }
+
+        HistogramSnapshot snapshot() {
+            long[] counts = new long[buckets.length()];
+            for (int i = 0; i < counts.length; i++) {
+                counts[i] = buckets.get(i);
+            }
+            return new HistogramSnapshot(count.sum(), totalSeconds.sum(), counts);
+        }
+    }
+}
@@ -0,0 +1,315 @@
+package com.gustavo.mobiauto_backend.service;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gustavo.mobiauto_backend.controller.dto.OfferStreamEventDto;
+import com.gustavo.mobiauto_backend.infra.repositories.OfferRepository;
+import com.gustavo.mobiauto_backend.model.offer.Offer;
+import com.gustavo.mobiauto_backend.service.events.OfferChangedEvent;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Service
+public class OfferStreamService implements DisposableBean {
+    private static final int DISPATCH_BATCH_SIZE = 100;
+    private static final Set<DataWithMediaType> HEARTBEAT = SseEmitter.event().comment("heartbeat").build();
+
+    private final StoreService storeService;
+    private final OfferRepository offerRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final int bufferSize;
+    private final Duration timeout;
+
+    private final Map<Long, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final BlockingQueue<OfferChangedEvent> pending;
+    private final ExecutorService dispatcher;
+    private final ThreadPoolExecutor senders;
+    private final ScheduledExecutorService watchdog;
+    private final Duration sendTimeout;
+    private final Counter sent;
+    private final Counter dropped;
+    private final Counter timedOut;
+    private volatile boolean running = true;
+
+    public OfferStreamService(
+            StoreService storeService,
+            OfferRepository offerRepository,
+            ObjectMapper objectMapper,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${mobiauto.offers.stream.buffer-size:256}") int bufferSize,
+            @Value("${mobiauto.offers.stream.queue-capacity:10000}") int queueCapacity,
+            @Value("${mobiauto.offers.stream.senders:8}") int senderThreads,
+            @Value("${mobiauto.offers.stream.send-timeout:10s}") Duration sendTimeout,
+            @Value("${mobiauto.offers.stream.heartbeat:15s}") Duration heartbeat,
+            @Value("${mobiauto.offers.stream.timeout:30m}") Duration timeout) {
+        this.storeService = storeService;
+        this.offerRepository = offerRepository;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.bufferSize = bufferSize;
+        this.timeout = timeout;
+        this.sendTimeout = sendTimeout;
+        this.pending = new LinkedBlockingQueue<>(queueCapacity);
+
+        this.sent = meterRegistry.counter("offer.stream.events.sent");
+        this.dropped = meterRegistry.counter("offer.stream.subscribers.dropped");
+        this.timedOut = meterRegistry.counter("offer.stream.sends.timed.out");
+        meterRegistry.gauge("offer.stream.subscribers", subscriberCount);
+        meterRegistry.gaugeCollectionSize("offer.stream.pending", List.of(), pending);
+
+        this.dispatcher = Executors.newSingleThreadExecutor(new CustomizableThreadFactory("offer-stream-dispatch-"));
+        this.dispatcher.execute(this::dispatchContinuously);
+        // A subscriber has at most one send in flight. A client stuck in a blocking write holds one of these
+        // threads until the container's socket write timeout (server.tomcat.connection-timeout) fails the write.
+        this.senders = new ThreadPoolExecutor(senderThreads, senderThreads, 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), new CustomizableThreadFactory("offer-stream-send-"));
+        this.senders.allowCoreThreadTimeOut(true);
+        meterRegistry.gauge("offer.stream.senders.active", senders, ThreadPoolExecutor::getActiveCount);
+        this.watchdog = Executors.newSingleThreadScheduledExecutor(
+                new CustomizableThreadFactory("offer-stream-watchdog-"));
+        this.watchdog.scheduleWithFixedDelay(this::heartbeat, heartbeat.toMillis(), heartbeat.toMillis(),
+                TimeUnit.MILLISECONDS);
+        this.watchdog.scheduleWithFixedDelay(this::expireStalledSends, sendTimeout.toMillis(), sendTimeout.toMillis(),
+                TimeUnit.MILLISECONDS);
+    }
+
+    public SseEmitter subscribe(Long storeId) {
+        storeService.getStore(storeId);
+        return this.register(storeId, new SseEmitter(timeout.toMillis()));
+    }
+
+    SseEmitter register(Long storeId, SseEmitter emitter) {
+        Subscriber subscriber = new Subscriber(storeId, emitter);
+        emitter.onCompletion(subscriber::close);
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(exception -> subscriber.close());
+
+        subscribers.compute(storeId, (id, store) -> {
+            Set<Subscriber> members = store != null ? store : ConcurrentHashMap.newKeySet();
+            members.add(subscriber);
+            return members;
+        });
+        subscriberCount.incrementAndGet();
+        return emitter;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOfferChanged(OfferChangedEvent event) {
+        Long storeId = event.snapshot().storeId();
+        if (!subscribers.containsKey(storeId)) {
+            return;
+        }
+
+        if (!pending.offer(event)) {
+            // The delta is lost for everyone watching this store, so make them reconnect and reload.
+            subscribers.getOrDefault(storeId, Set.of()).forEach(Subscriber::drop);
+        }
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        running = false;
+        dispatcher.shutdown();
+        dispatcher.awaitTermination(5, TimeUnit.SECONDS);
+        watchdog.shutdown();
+        subscribers.values().forEach(store -> store.forEach(Subscriber::abandon));
+        senders.shutdown();
+        if (!senders.awaitTermination(5, TimeUnit.SECONDS)) {
+            senders.shutdownNow();
+        }
+    }
+
+    private void dispatchContinuously() {
+        List<OfferChangedEvent> batch = new ArrayList<>(DISPATCH_BATCH_SIZE);
+        while (running) {
+            try {
+                OfferChangedEvent first = pending.poll(1, TimeUnit.SECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                pending.drainTo(batch, DISPATCH_BATCH_SIZE - 1);
+                this.dispatch(batch);
+                batch.clear();
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void dispatch(List<OfferChangedEvent> batch) {
+        try {
+            List<OfferStreamEventDto> events = transactionTemplate.execute(status -> {
+                Map<Long, Offer> offers = offerRepository.findAllWithDetailsByIdIn(batch.stream()
+                        .map(event -> event.snapshot().offerId())
+                        .collect(Collectors.toSet()))
+                        .stream()
+                        .collect(Collectors.toMap(Offer::getId, Function.identity()));
+                return batch.stream()
+                        .map(event -> OfferStreamEventDto.of(event, offers.get(event.snapshot().offerId())))
+                        .toList();
+            });
+
+            for (int i = 0; i < batch.size(); i++) {
+                Set<DataWithMediaType> payload = SseEmitter.event()
+                        .name(events.get(i).getType().name())
+                        .data(objectMapper.writeValueAsString(events.get(i)))
+                        .build();
+                subscribers.getOrDefault(batch.get(i).snapshot().storeId(), Set.of())
+                        .forEach(subscriber -> subscriber.push(payload));
+            }
+        } catch (JsonProcessingException | RuntimeException exception) {
+            log.error("Could not dispatch {} offer stream events", batch.size(), exception);
+        }
+    }
+
+    private void heartbeat() {
+        subscribers.values().forEach(store -> store.forEach(subscriber -> subscriber.push(HEARTBEAT)));
+    }
+
+    private void expireStalledSends() {
+        long deadline = System.nanoTime() - sendTimeout.toNanos();
+        subscribers.values().forEach(store -> store.forEach(subscriber -> subscriber.expireIfSendingSince(deadline)));
+    }
+
+    private final class Subscriber implements Runnable {
+        private final Long storeId;
+        private final SseEmitter emitter;
+        private final BlockingQueue<Set<DataWithMediaType>> buffer;
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+        private volatile long sendingSince;
+        private volatile boolean abandoned;
+        private final AtomicBoolean completed = new AtomicBoolean();
+
+        Subscriber(Long storeId, SseEmitter emitter) {
+            this.storeId = storeId;
+            this.emitter = emitter;
+            this.buffer = new ArrayBlockingQueue<>(bufferSize);
+        }
+
+        void push(Set<DataWithMediaType> payload) {
+            if (closed.get()) {
+                return;
+            }
+            if (!buffer.offer(payload)) {
+                this.drop();
+                return;
+            }
+            this.schedule();
+        }
+
+        // The emitter's send and complete share a lock, so only the sender completes it, once no send is in
+        // flight; completing from here would park this thread behind a client stuck in a blocking write.
+        void drop() {
+            if (this.abandon()) {
+                dropped.increment();
+            }
+        }
+
+        boolean abandon() {
+            if (!this.close()) {
+                return false;
+            }
+            abandoned = true;
+            this.schedule();
+            return true;
+        }
+
+        // Stops fanning out to the client right away; its stuck write is failed by the container's write timeout.
+        void expireIfSendingSince(long deadline) {
+            long since = sendingSince;
+            if (since == 0 || since - deadline > 0 || !this.close()) {
+                return;
+            }
+            timedOut.increment();
+            dropped.increment();
+            abandoned = true;
+        }
+
+        boolean close() {
+            if (!closed.compareAndSet(false, true)) {
+                return false;
+            }
+            subscribers.computeIfPresent(storeId, (id, store) -> {
+                store.remove(this);
+                return store.isEmpty() ? null : store;
+            });
+            subscriberCount.decrementAndGet();
+            buffer.clear();
+            return true;
+        }
+
+        @Override
+        public void run() {
+            try {
+                Set<DataWithMediaType> payload;
+                while (!closed.get() && (payload = buffer.poll()) != null) {
+                    sendingSince = System.nanoTime();
+                    emitter.send(payload);
+                    sendingSince = 0;
+                    if (payload != HEARTBEAT) {
+                        sent.increment();
+                    }
+                }
+                if (abandoned && completed.compareAndSet(false, true)) {
+                    emitter.complete();
+                }
+            } catch (IOException | IllegalStateException exception) {
+                this.close();
+            } finally {
+                sendingSince = 0;
+                scheduled.set(false);
+            }
+
+            // Re-check after releasing the flag: a drop may have raced with the end of this run.
+            if (abandoned ? !completed.get() : !closed.get() && !buffer.isEmpty()) {
+                this.schedule();
+            }
+        }
+
+        private void schedule() {
+            if (scheduled.compareAndSet(false, true)) {
+                senders.execute(this);
+            }
+        }
+    }
+}
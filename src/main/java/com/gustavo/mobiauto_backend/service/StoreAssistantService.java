@@ -0,0 +1,83 @@
+package com.gustavo.mobiauto_backend.service;
+
+import java.util.List;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.gustavo.mobiauto_backend.infra.exceptions.StoreAssistantNotFoundException;
+import com.gustavo.mobiauto_backend.infra.repositories.StoreAssistantRepository;
+import com.gustavo.mobiauto_backend.model.store.Store;
+import com.gustavo.mobiauto_backend.model.store.StoreAssistant;
+import com.gustavo.mobiauto_backend.model.user.User;
+import com.gustavo.mobiauto_backend.service.events.StoreAssistantSavedEvent;
+import com.gustavo.mobiauto_backend.service.exceptions.AlreadyActiveException;
+import com.gustavo.mobiauto_backend.service.exceptions.AlreadyDeactivatedException;
+import com.gustavo.mobiauto_backend.service.exceptions.DeactivatedStoreException;
+import com.gustavo.mobiauto_backend.service.exceptions.DeactivatedUserException;
+
+@Service
+@Transactional(readOnly = true)
+public class StoreAssistantService {
+    private final StoreAssistantRepository storeAssistantRepository;
+    private final StoreService storeService;
+    private final UserService userService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public StoreAssistantService(StoreAssistantRepository storeAssistantRepository, StoreService storeService,
+            UserService userService, ApplicationEventPublisher eventPublisher) {
+        this.storeAssistantRepository = storeAssistantRepository;
+        this.storeService = storeService;
+        this.userService = userService;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Transactional
+    public StoreAssistant addAssistant(Long storeId, Long userId) {
+        Store store = storeService.getStore(storeId);
+        if (!store.isActive()) {
+            throw new DeactivatedStoreException(storeId);
+        }
+
+        User user = userService.findUser(userId);
+        if (!user.isActive()) {
+            throw new DeactivatedUserException(userId);
+        }
+
+        StoreAssistant assistant = storeAssistantRepository.findByStoreAndUser(storeId, userId)
+                .orElse(null);
+        if (assistant == null) {
+            assistant = new StoreAssistant(store, user);
+        } else if (assistant.isActive()) {
+            throw new AlreadyActiveException(StoreAssistant.class, assistant.getId());
+        } else {
+            assistant.setActive(true);
+        }
+
+        return this.saved(storeAssistantRepository.save(assistant));
+    }
+
+    public List<StoreAssistant> listAssistants(Long storeId) {
+        storeService.getStore(storeId);
+        return storeAssistantRepository.findActiveByStore(storeId);
+    }
+
+    @Transactional
+    public StoreAssistant removeAssistant(Long storeId, Long userId) {
+        StoreAssistant assistant = storeAssistantRepository.findByStoreAndUser(storeId, userId)
+                .orElseThrow(() -> new StoreAssistantNotFoundException(storeId, userId));
+
+        if (!assistant.isActive()) {
+            throw new AlreadyDeactivatedException(StoreAssistant.class, assistant.getId());
+        }
+
+        assistant.setActive(false);
+        return this.saved(storeAssistantRepository.save(assistant));
+    }
+
+    private StoreAssistant saved(StoreAssistant assistant) {
+        eventPublisher.publishEvent(StoreAssistantSavedEvent.of(assistant));
+        return assistant;
+    }
+}
@@ -1,31 +1,47 @@
 package com.gustavo.mobiauto_backend.service;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.gustavo.mobiauto_backend.common.helpers.Pagination;
 import com.gustavo.mobiauto_backend.controller.requests.StoreRequest;
+import com.gustavo.mobiauto_backend.infra.cache.CacheNames;
+import com.gustavo.mobiauto_backend.infra.cache.LookupCaches;
 import com.gustavo.mobiauto_backend.infra.exceptions.StoreNotFoundException;
+import com.gustavo.mobiauto_backend.infra.outbox.Outbox;
 import com.gustavo.mobiauto_backend.infra.repositories.OfferRepository;
 import com.gustavo.mobiauto_backend.infra.repositories.StoreRepository;
 import com.gustavo.mobiauto_backend.model.store.Cnpj;
 import com.gustavo.mobiauto_backend.model.store.Store;
 import com.gustavo.mobiauto_backend.model.store.StoreName;
+import com.gustavo.mobiauto_backend.model.store.StoreSnapshot;
+import com.gustavo.mobiauto_backend.model.store.StoreView;
 import com.gustavo.mobiauto_backend.service.exceptions.AlreadyActiveException;
 import com.gustavo.mobiauto_backend.service.exceptions.AlreadyDeactivatedException;
 import com.gustavo.mobiauto_backend.service.exceptions.DuplicateException;
 import com.gustavo.mobiauto_backend.service.exceptions.EntityInUseException;
+import com.gustavo.mobiauto_backend.service.exceptions.VersionMismatchException;
 
 @Service
 @Transactional(readOnly = true)
 public class StoreService {
     private final StoreRepository storeRepository;
     private final OfferRepository offerRepository;
+    private final Outbox outbox;
+    private final LookupCaches lookupCaches;
 
-    public StoreService(StoreRepository storeRepository, OfferRepository offerRepository) {
+    public StoreService(StoreRepository storeRepository, OfferRepository offerRepository, Outbox outbox,
+            LookupCaches lookupCaches) {
         this.storeRepository = storeRepository;
         this.offerRepository = offerRepository;
+        this.outbox = outbox;
+        this.lookupCaches = lookupCaches;
     }
 
     @Transactional
@@ -38,10 +54,8 @@ public class StoreService {
         return storeRepository.save(store);
     }
 
-    public List<Store> listActiveStores() {
-        return storeRepository.findAll().stream()
-                .filter(Store::isActive)
-                .toList();
+    public List<Store> listActiveStores(Long after, int limit) {
+        return storeRepository.findActiveAfter(Pagination.cursor(after), Pagination.limit(limit));
     }
 
     public Store getStore(Long id) {
@@ -49,15 +63,46 @@ public class StoreService {
                 .orElseThrow(() -> new StoreNotFoundException(id));
     }
 
+    @Cacheable(cacheNames = CacheNames.STORES, sync = true)
+    public StoreView getStoreView(Long id) {
+        return StoreView.of(this.getStore(id));
+    }
+
+    public List<Store> getStores(Collection<Long> ids) {
+        return storeRepository.findAllById(ids);
+    }
+
+    public long countActiveOffers(Long id) {
+        return offerRepository.countByStoreIdAndActiveTrue(id);
+    }
+
+    public Map<Long, Long> countActiveOffers(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+
+        return offerRepository.countActiveByStoreIds(ids).stream()
+                .collect(Collectors.toMap(row -> (Long) row[0], row -> (Long) row[1]));
+    }
+
     @Transactional
     public Store updateStore(Long id, StoreRequest request) {
+        return this.updateStore(id, request, null);
+    }
+
+    @Transactional
+    public Store updateStore(Long id, StoreRequest request, Long expectedVersion) {
         Store store = this.getStore(id);
 
+        if (expectedVersion != null && expectedVersion != store.getVersion()) {
+            throw new VersionMismatchException(Store.class, id, expectedVersion);
+        }
+
         if (request.getStoreName() != null) {
             store.setCompanyName(new StoreName(request.getStoreName()));
         }
 
-        return storeRepository.save(store);
+        return this.saved(storeRepository.save(store));
     }
 
     @Transactional
@@ -68,15 +113,14 @@ public class StoreService {
             throw new AlreadyDeactivatedException(Store.class, id);
         }
 
-        boolean hasActiveOffers = offerRepository.findAll().stream()
-                .anyMatch(offer -> offer.getStore().getId().equals(id) && offer.isActive());
-
-        if (hasActiveOffers) {
+        if (offerRepository.existsByStoreIdAndActiveTrue(id)) {
             throw new EntityInUseException(Store.class, id);
         }
 
         store.setActive(false);
-        return storeRepository.save(store);
+        store = this.saved(storeRepository.save(store));
+        outbox.append("store", id, "StoreDeactivated", StoreSnapshot.of(store));
+        return store;
     }
 
     @Transactional
@@ -89,6 +133,11 @@ public class StoreService {
         }
 
         store.setActive(true);
-        return storeRepository.save(store);
+        return this.saved(storeRepository.save(store));
+    }
+
+    private Store saved(Store store) {
+        lookupCaches.putAfterCommit(CacheNames.STORES, store.getId(), () -> StoreView.of(store));
+        return store;
     }
 }
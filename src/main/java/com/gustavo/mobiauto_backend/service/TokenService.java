@@ -1,48 +1,164 @@
 package com.gustavo.mobiauto_backend.service;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Date;
+import java.util.HexFormat;
+import java.util.concurrent.TimeUnit;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTVerifier;
 import com.auth0.jwt.algorithms.Algorithm;
 import com.auth0.jwt.exceptions.JWTVerificationException;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import com.gustavo.mobiauto_backend.model.user.User;
 import com.gustavo.mobiauto_backend.service.exceptions.TokenGenerationException;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+
 @Service
 public class TokenService {
     @Value("${mobiauto.jwt.secret}")
     private String secret;
 
+    private volatile SigningKey signingKey;
+
+    private final Cache<String, VerifiedToken> verifiedTokens;
+
+    private static final String ISSUER = "mobiauto-auth-api";
     private static final long TWELVE_HOURS_IN_MILLISECONDS = 43200000;
 
+    public TokenService(
+            MeterRegistry meterRegistry,
+            @Value("${mobiauto.jwt.verified-cache.enabled:false}") boolean verifiedCacheEnabled,
+            @Value("${mobiauto.jwt.verified-cache.max-size:10000}") long verifiedCacheMaxSize) {
+        if (verifiedCacheEnabled) {
+            this.verifiedTokens = Caffeine.newBuilder()
+                    .maximumSize(verifiedCacheMaxSize)
+                    .expireAfter(new UntilTokenExpires())
+                    .recordStats()
+                    .build();
+            CaffeineCacheMetrics.monitor(meterRegistry, verifiedTokens, "verifiedTokens");
+        } else {
+            this.verifiedTokens = null;
+        }
+    }
+
+    @PostConstruct
+    void init() {
+        this.signingKey = SigningKey.of(secret);
+    }
+
+    public synchronized void rotate(String secret) {
+        SigningKey rotated = SigningKey.of(secret);
+        this.secret = secret;
+        this.signingKey = rotated;
+        if (verifiedTokens != null) {
+            verifiedTokens.invalidateAll();
+        }
+    }
+
     public String generateToken(User user) {
         try {
             var now = new Date();
             var twelveHoursFromNow = new Date(now.getTime() + TWELVE_HOURS_IN_MILLISECONDS);
 
             return JWT.create()
-                    .withIssuer("mobiauto-auth-api")
+                    .withIssuer(ISSUER)
                     .withSubject(user.getEmail().getValue())
                     .withIssuedAt(now)
                     .withExpiresAt(twelveHoursFromNow)
-                    .sign(Algorithm.HMAC256(secret));
+                    .sign(this.currentSigningKey().algorithm());
         } catch (Exception exception) {
             throw new TokenGenerationException(user, exception);
         }
     }
 
     public String validateToken(String token) {
+        SigningKey key = this.currentSigningKey();
+
+        if (verifiedTokens == null || token == null) {
+            DecodedJWT decoded = this.verify(key, token);
+            return decoded != null ? decoded.getSubject() : null;
+        }
+
+        String digest = digest(token);
+        VerifiedToken cached = verifiedTokens.getIfPresent(digest);
+        // An entry verified with a key that was rotated out while this call ran is ignored.
+        if (cached != null && cached.key() == key && cached.expiresAt() > System.currentTimeMillis()) {
+            return cached.subject();
+        }
+
+        DecodedJWT decoded = this.verify(key, token);
+        if (decoded == null) {
+            return null;
+        }
+
+        if (decoded.getExpiresAt() != null) {
+            verifiedTokens.put(digest, new VerifiedToken(decoded.getSubject(), decoded.getExpiresAt().getTime(), key));
+        }
+        return decoded.getSubject();
+    }
+
+    private DecodedJWT verify(SigningKey key, String token) {
         try {
-            return JWT.require(Algorithm.HMAC256(secret))
-                    .withIssuer("mobiauto-auth-api")
-                    .build()
-                    .verify(token)
-                    .getSubject();
+            return key.verifier().verify(token);
         } catch (JWTVerificationException exception) {
             return null;
         }
     }
+
+    private SigningKey currentSigningKey() {
+        SigningKey current = this.signingKey;
+        if (current == null) {
+            current = SigningKey.of(secret);
+            this.signingKey = current;
+        }
+        return current;
+    }
+
+    private static String digest(String token) {
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(sha256.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException exception) {
+            throw new IllegalStateException("SHA-256 is not available", exception);
+        }
+    }
+
+    private record SigningKey(Algorithm algorithm, JWTVerifier verifier) {
+        static SigningKey of(String secret) {
+            Algorithm algorithm = Algorithm.HMAC256(secret);
+            return new SigningKey(algorithm, JWT.require(algorithm).withIssuer(ISSUER).build());
+        }
+    }
+
+    private record VerifiedToken(String subject, long expiresAt, SigningKey key) {
+    }
+
+    private static class UntilTokenExpires implements Expiry<String, VerifiedToken> {
+        @Override
+        public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, value.expiresAt() - System.currentTimeMillis()));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
 }
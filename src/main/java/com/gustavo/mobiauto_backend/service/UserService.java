@@ -1,30 +1,53 @@
 package com.gustavo.mobiauto_backend.service;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.gustavo.mobiauto_backend.controller.requests.UserRequest;
+import com.gustavo.mobiauto_backend.infra.cache.CacheNames;
+import com.gustavo.mobiauto_backend.infra.cache.LookupCaches;
 import com.gustavo.mobiauto_backend.infra.exceptions.UserNotFoundException;
 import com.gustavo.mobiauto_backend.infra.repositories.OfferRepository;
 import com.gustavo.mobiauto_backend.infra.repositories.UserRepository;
+import com.gustavo.mobiauto_backend.infra.security.PrincipalCache;
 import com.gustavo.mobiauto_backend.model.user.User;
 import com.gustavo.mobiauto_backend.model.user.UserEmail;
 import com.gustavo.mobiauto_backend.model.user.UserName;
 import com.gustavo.mobiauto_backend.model.user.UserPassword;
+import com.gustavo.mobiauto_backend.model.user.UserView;
+import com.gustavo.mobiauto_backend.service.events.UserSavedEvent;
 import com.gustavo.mobiauto_backend.service.exceptions.AlreadyActiveException;
 import com.gustavo.mobiauto_backend.service.exceptions.AlreadyDeactivatedException;
 import com.gustavo.mobiauto_backend.service.exceptions.DuplicateException;
 import com.gustavo.mobiauto_backend.service.exceptions.EntityInUseException;
+import com.gustavo.mobiauto_backend.service.exceptions.VersionMismatchException;
 
 @Service
 @Transactional(readOnly = true)
 public class UserService {
     private final UserRepository userRepository;
     private final OfferRepository offerRepository;
-
-    public UserService(UserRepository userRepository, OfferRepository offerRepository) {
+    private final PrincipalCache principalCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final LookupCaches lookupCaches;
+    private final PasswordEncoder passwordEncoder;
+
+    public UserService(UserRepository userRepository, OfferRepository offerRepository,
+            PrincipalCache principalCache, ApplicationEventPublisher eventPublisher, LookupCaches lookupCaches,
+            PasswordEncoder passwordEncoder) {
         this.userRepository = userRepository;
         this.offerRepository = offerRepository;
+        this.principalCache = principalCache;
+        this.eventPublisher = eventPublisher;
+        this.lookupCaches = lookupCaches;
+        this.passwordEncoder = passwordEncoder;
     }
 
     @Transactional
@@ -34,10 +57,9 @@ public class UserService {
         }
 
         User user = new User(
-                request.getFirstName(),
-                request.getLastName(),
-                request.getEmail(),
-                request.getPassword());
+                new UserName(request.getFirstName(), request.getLastName()),
+                new UserEmail(request.getEmail()),
+                UserPassword.encode(request.getPassword(), passwordEncoder));
         user = userRepository.save(user);
         return user;
     }
@@ -47,6 +69,15 @@ public class UserService {
                 .orElseThrow(() -> new UserNotFoundException(id));
     }
 
+    @Cacheable(cacheNames = CacheNames.USERS, sync = true)
+    public UserView findUserView(Long id) {
+        return UserView.of(this.findUser(id));
+    }
+
+    public List<User> findUsers(Collection<Long> ids) {
+        return userRepository.findAllById(ids);
+    }
+
     public User findByEmail(String email) {
         return userRepository.findByEmail(email)
                 .orElseThrow(() -> new UserNotFoundException("User with email " + email + " not found."));
@@ -54,8 +85,18 @@ public class UserService {
 
     @Transactional
     public User updateUser(Long id, UserRequest request) {
+        return this.updateUser(id, request, null);
+    }
+
+    @Transactional
+    public User updateUser(Long id, UserRequest request, Long expectedVersion) {
         User user = this.findUser(id);
 
+        if (expectedVersion != null && expectedVersion != user.getVersion()) {
+            throw new VersionMismatchException(User.class, id, expectedVersion);
+        }
+        String previousEmail = user.getEmail().getValue();
+
         if (request.getFirstName() != null || request.getLastName() != null) {
             UserName name = user.getName();
             String firstName = request.getFirstName() != null ? request.getFirstName() : name.getFirstName();
@@ -73,13 +114,29 @@ public class UserService {
         }
 
         if (request.getPassword() != null) {
-            user.setPassword(new UserPassword(request.getPassword()));
+            user.setPassword(UserPassword.encode(request.getPassword(), passwordEncoder));
         }
 
-        user = userRepository.save(user);
+        user = this.saved(userRepository.save(user));
+        principalCache.invalidate(previousEmail);
         return user;
     }
 
+    @Transactional
+    public boolean rehashPassword(User user, String newHash) {
+        User current = userRepository.findById(user.getId()).orElse(null);
+        if (current == null || !Objects.equals(current.getPassword(), user.getPassword())) {
+            return false;
+        }
+
+        // Saved through the entity so only this user's second-level cache entry is refreshed; a password change
+        // committed after this read fails the version check instead of being overwritten.
+        current.setPassword(UserPassword.hashed(newHash));
+        this.saved(userRepository.save(current));
+        principalCache.invalidate(current.getEmail().getValue());
+        return true;
+    }
+
     @Transactional
     public User deactivateUser(Long id) {
         User user = this.findUser(id);
@@ -88,15 +145,14 @@ public class UserService {
             throw new AlreadyDeactivatedException(User.class, id);
         }
 
-        boolean hasActiveOffers = offerRepository.findAll().stream()
-                .anyMatch(offer -> offer.getClient().getId().equals(id) && offer.isActive());
-
-        if (hasActiveOffers) {
+        if (offerRepository.existsByClientIdAndActiveTrue(id)) {
             throw new EntityInUseException(User.class, id);
         }
 
         user.setActive(false);
-        user = userRepository.save(user);
+        user = this.saved(userRepository.save(user));
+        principalCache.invalidate(user.getEmail().getValue());
+        eventPublisher.publishEvent(UserSavedEvent.of(user));
         return user;
     }
 
@@ -110,7 +166,14 @@ public class UserService {
         }
 
         user.setActive(true);
-        user = userRepository.save(user);
+        user = this.saved(userRepository.save(user));
+        principalCache.invalidate(user.getEmail().getValue());
+        eventPublisher.publishEvent(UserSavedEvent.of(user));
+        return user;
+    }
+
+    private User saved(User user) {
+        lookupCaches.putAfterCommit(CacheNames.USERS, user.getId(), () -> UserView.of(user));
         return user;
     }
 }
\ No newline at end of file
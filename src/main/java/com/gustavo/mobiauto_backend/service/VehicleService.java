@@ -1,5 +1,8 @@
 package com.gustavo.mobiauto_backend.service;
 
+import java.util.List;
+
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -11,24 +14,37 @@ import com.gustavo.mobiauto_backend.model.vehicle.VehicleColor;
 import com.gustavo.mobiauto_backend.model.vehicle.VehicleModel;
 import com.gustavo.mobiauto_backend.model.vehicle.VehicleReleaseYear;
 import com.gustavo.mobiauto_backend.model.vehicle.VehicleType;
+import com.gustavo.mobiauto_backend.service.events.VehicleSavedEvent;
 
 @Service
 @Transactional(readOnly = true)
 public class VehicleService {
     private final VehicleRepository vehicleRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public VehicleService(VehicleRepository vehicleRepository) {
+    public VehicleService(VehicleRepository vehicleRepository, ApplicationEventPublisher eventPublisher) {
         this.vehicleRepository = vehicleRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional
     public Vehicle createVehicle(VehicleRequest request) {
-        Vehicle vehicle = new Vehicle(
-                VehicleType.valueOf(request.getType().toUpperCase()),
+        return this.saved(vehicleRepository.save(this.buildVehicle(request)));
+    }
+
+    @Transactional
+    public List<Vehicle> createVehicles(List<Vehicle> vehicles) {
+        List<Vehicle> saved = vehicleRepository.saveAll(vehicles);
+        saved.forEach(this::saved);
+        return saved;
+    }
+
+    public Vehicle buildVehicle(VehicleRequest request) {
+        return new Vehicle(
+                request.getType() != null ? VehicleType.valueOf(request.getType().toUpperCase()) : null,
                 new VehicleModel(request.getModel()),
-                new VehicleReleaseYear(request.getReleaseYear()),
+                request.getReleaseYear() != null ? new VehicleReleaseYear(request.getReleaseYear()) : null,
                 new VehicleColor(request.getColor()));
-        return vehicleRepository.save(vehicle);
     }
 
     public Vehicle getVehicle(Long id) {
@@ -56,6 +72,11 @@ public class VehicleService {
             vehicle.setColor(new VehicleColor(request.getColor()));
         }
 
-        return vehicleRepository.save(vehicle);
+        return this.saved(vehicleRepository.save(vehicle));
+    }
+
+    private Vehicle saved(Vehicle vehicle) {
+        eventPublisher.publishEvent(new VehicleSavedEvent(vehicle));
+        return vehicle;
     }
 }
\ No newline at end of file
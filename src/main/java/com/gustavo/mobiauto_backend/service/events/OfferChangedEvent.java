@@ -0,0 +1,14 @@
+package com.gustavo.mobiauto_backend.service.events;
+
+import java.time.Instant;
+
+import com.gustavo.mobiauto_backend.model.offer.Offer;
+import com.gustavo.mobiauto_backend.model.offer.OfferEventType;
+import com.gustavo.mobiauto_backend.model.offer.OfferSnapshot;
+
+public record OfferChangedEvent(OfferEventType type, Instant occurredAt, OfferSnapshot snapshot) {
+
+    public static OfferChangedEvent of(OfferEventType type, Offer offer) {
+        return new OfferChangedEvent(type, Instant.now(), OfferSnapshot.of(offer));
+    }
+}
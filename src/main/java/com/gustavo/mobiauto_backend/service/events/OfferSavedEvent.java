@@ -0,0 +1,24 @@
+package com.gustavo.mobiauto_backend.service.events;
+
+import com.gustavo.mobiauto_backend.model.offer.Offer;
+import com.gustavo.mobiauto_backend.model.offer.OfferStatus;
+import com.gustavo.mobiauto_backend.model.vehicle.Vehicle;
+import com.gustavo.mobiauto_backend.model.vehicle.VehicleType;
+
+public record OfferSavedEvent(Long offerId, Long vehicleId, Long storeId, Long assistantId, boolean active,
+        OfferStatus status, VehicleType type, int releaseYear, String color) {
+
+    public static OfferSavedEvent of(Offer offer) {
+        Vehicle vehicle = offer.getVehicle();
+        return new OfferSavedEvent(
+                offer.getId(),
+                vehicle.getId(),
+                offer.getStore().getId(),
+                offer.getAssistant() != null ? offer.getAssistant().getId() : null,
+                offer.isActive(),
+                offer.getStatus(),
+                vehicle.getType(),
+                vehicle.getReleaseYear().getValue(),
+                vehicle.getColor().getValue());
+    }
+}
@@ -0,0 +1,19 @@
+package com.gustavo.mobiauto_backend.service.events;
+
+import java.time.Instant;
+
+import com.gustavo.mobiauto_backend.model.offer.Offer;
+import com.gustavo.mobiauto_backend.model.offer.OfferStatus;
+
+public record OfferStatusChangedEvent(Long offerId, Long storeId, OfferStatus status, Instant createdAt,
+        Instant changedAt) {
+
+    public static OfferStatusChangedEvent of(Offer offer) {
+        return new OfferStatusChangedEvent(
+                offer.getId(),
+                offer.getStore().getId(),
+                offer.getStatus(),
+                offer.getCreatedAt(),
+                offer.getStatus() == OfferStatus.COMPLETED ? offer.getCompletedAt() : offer.getAttendedAt());
+    }
+}
@@ -0,0 +1,18 @@
+package com.gustavo.mobiauto_backend.service.events;
+
+import java.time.Instant;
+
+import com.gustavo.mobiauto_backend.model.store.StoreAssistant;
+
+public record StoreAssistantSavedEvent(Long assistantId, Long storeId, Long userId, boolean active,
+        Instant lastAssignedAt) {
+
+    public static StoreAssistantSavedEvent of(StoreAssistant assistant) {
+        return new StoreAssistantSavedEvent(
+                assistant.getId(),
+                assistant.getStore().getId(),
+                assistant.getUser().getId(),
+                assistant.isActive(),
+                assistant.getLastAssignedAt());
+    }
+}
@@ -0,0 +1,10 @@
+package com.gustavo.mobiauto_backend.service.events;
+
+import com.gustavo.mobiauto_backend.model.user.User;
+
+public record UserSavedEvent(Long userId, boolean active) {
+
+    public static UserSavedEvent of(User user) {
+        return new UserSavedEvent(user.getId(), user.isActive());
+    }
+}
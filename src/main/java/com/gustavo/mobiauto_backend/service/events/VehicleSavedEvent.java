@@ -0,0 +1,6 @@
+package com.gustavo.mobiauto_backend.service.events;
+
+import com.gustavo.mobiauto_backend.model.vehicle.Vehicle;
+
+public record VehicleSavedEvent(Vehicle vehicle) {
+}
@@ -0,0 +1,9 @@
+package com.gustavo.mobiauto_backend.service.exceptions;
+
+public class AssistantMismatchException extends RuntimeException {
+    public AssistantMismatchException(Long offerId, Long expectedAssistantId) {
+        super("Offer with ID " + offerId + " is no longer "
+                + (expectedAssistantId != null ? "assigned to user with ID " + expectedAssistantId : "unassigned")
+                + ".");
+    }
+}
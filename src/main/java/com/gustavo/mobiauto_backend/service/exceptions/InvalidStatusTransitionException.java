@@ -0,0 +1,9 @@
+package com.gustavo.mobiauto_backend.service.exceptions;
+
+import com.gustavo.mobiauto_backend.model.offer.OfferStatus;
+
+public class InvalidStatusTransitionException extends RuntimeException {
+    public InvalidStatusTransitionException(Long offerId, OfferStatus from, OfferStatus to) {
+        super("Offer with ID " + offerId + " cannot move from " + from + " to " + to + ".");
+    }
+}
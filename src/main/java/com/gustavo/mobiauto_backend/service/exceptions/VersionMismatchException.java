@@ -0,0 +1,8 @@
+package com.gustavo.mobiauto_backend.service.exceptions;
+
+public class VersionMismatchException extends RuntimeException {
+    public VersionMismatchException(Class<?> classEntity, Long entityId, long expectedVersion) {
+        super(classEntity.getSimpleName() + " with ID " + entityId + " was modified after version "
+                + expectedVersion + ".");
+    }
+}
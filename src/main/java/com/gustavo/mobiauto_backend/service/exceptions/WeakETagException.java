@@ -0,0 +1,7 @@
+package com.gustavo.mobiauto_backend.service.exceptions;
+
+public class WeakETagException extends RuntimeException {
+    public WeakETagException(String ifMatch) {
+        super("If-Match requires a strong ETag, got " + ifMatch + ".");
+    }
+}
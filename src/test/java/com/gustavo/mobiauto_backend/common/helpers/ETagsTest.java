@@ -0,0 +1,40 @@
+package com.gustavo.mobiauto_backend.common.helpers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.gustavo.mobiauto_backend.service.exceptions.WeakETagException;
+
+@DisplayName("ETags Tests")
+class ETagsTest {
+
+    @Test
+    @DisplayName("Should read the version from a strong ETag")
+    void shouldReadTheVersionFromAStrongETag() {
+        assertEquals(3L, ETags.version(ETags.of(3)));
+        assertEquals(3L, ETags.version(" \"3\" "));
+    }
+
+    @Test
+    @DisplayName("Should treat a missing or wildcard If-Match as unconditional")
+    void shouldTreatAMissingOrWildcardIfMatchAsUnconditional() {
+        assertNull(ETags.version(null));
+        assertNull(ETags.version("*"));
+    }
+
+    @Test
+    @DisplayName("Should reject weak ETags")
+    void shouldRejectWeakETags() {
+        assertThrows(WeakETagException.class, () -> ETags.version("W/\"3\""));
+    }
+
+    @Test
+    @DisplayName("Should reject ETags not issued by the API")
+    void shouldRejectETagsNotIssuedByTheApi() {
+        assertThrows(IllegalArgumentException.class, () -> ETags.version("\"abc\""));
+    }
+}
@@ -0,0 +1,166 @@
+package com.gustavo.mobiauto_backend.infra.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.convert.ApplicationConversionService;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import com.gustavo.mobiauto_backend.controller.requests.StoreRequest;
+import com.gustavo.mobiauto_backend.infra.exceptions.StoreNotFoundException;
+import com.gustavo.mobiauto_backend.infra.outbox.Outbox;
+import com.gustavo.mobiauto_backend.infra.repositories.OfferRepository;
+import com.gustavo.mobiauto_backend.infra.repositories.StoreRepository;
+import com.gustavo.mobiauto_backend.model.store.Store;
+import com.gustavo.mobiauto_backend.model.store.StoreView;
+import com.gustavo.mobiauto_backend.service.StoreService;
+
+@SpringJUnitConfig({ LookupCacheConfig.class, LookupCaches.class, StoreService.class, LookupCacheTest.Conversion.class })
+@DisplayName("Lookup cache Tests")
+class LookupCacheTest {
+
+    private static final Long STORE_ID = 1L;
+
+    @MockitoBean
+    private StoreRepository storeRepository;
+
+    @MockitoBean
+    private OfferRepository offerRepository;
+
+    @MockitoBean
+    private Outbox outbox;
+
+    @Autowired
+    private StoreService storeService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @AfterEach
+    void tearDown() {
+        cacheManager.getCache(CacheNames.STORES).clear();
+        reset(storeRepository);
+    }
+
+    @Test
+    @DisplayName("Should serve repeated lookups from the cache")
+    void shouldServeRepeatedLookupsFromTheCache() {
+        when(storeRepository.findById(STORE_ID)).thenReturn(Optional.of(store("Cached Store", 0)));
+
+        StoreView first = storeService.getStoreView(STORE_ID);
+        StoreView second = storeService.getStoreView(STORE_ID);
+
+        assertEquals(first, second);
+        assertEquals(first, cacheManager.getCache(CacheNames.STORES).get(STORE_ID, StoreView.class));
+        verify(storeRepository, times(1)).findById(STORE_ID);
+    }
+
+    @Test
+    @DisplayName("Should load a cold key once when it is requested concurrently")
+    void shouldLoadAColdKeyOnceWhenItIsRequestedConcurrently() throws Exception {
+        Store store = store("Cached Store", 0);
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(storeRepository.findById(STORE_ID)).thenAnswer(invocation -> {
+            loading.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return Optional.of(store);
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<StoreView>> lookups = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                lookups.add(executor.submit(() -> storeService.getStoreView(STORE_ID)));
+            }
+            loading.await(5, TimeUnit.SECONDS);
+            release.countDown();
+
+            for (Future<StoreView> lookup : lookups) {
+                assertEquals(StoreView.of(store), lookup.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        verify(storeRepository, times(1)).findById(STORE_ID);
+    }
+
+    @Test
+    @DisplayName("Should write the updated store through to the cache once the transaction commits")
+    void shouldWriteTheUpdatedStoreThroughToTheCacheOnceTheTransactionCommits() {
+        Store store = store("Cached Store", 0);
+        when(storeRepository.findById(STORE_ID)).thenReturn(Optional.of(store));
+        when(storeRepository.save(any(Store.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        StoreView cached = storeService.getStoreView(STORE_ID);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            storeService.updateStore(STORE_ID, new StoreRequest("Renamed Store", null));
+            assertEquals(cached, storeService.getStoreView(STORE_ID));
+
+            // The flush at commit bumps the version before the view is built.
+            ReflectionTestUtils.setField(store, "version", 1L);
+            TransactionSynchronizationUtils.invokeAfterCommit(TransactionSynchronizationManager.getSynchronizations());
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        StoreView updated = storeService.getStoreView(STORE_ID);
+        assertEquals("Renamed Store", updated.companyName());
+        assertEquals(1L, updated.version());
+        verify(storeRepository, times(2)).findById(STORE_ID);
+    }
+
+    @Test
+    @DisplayName("Should not cache unknown stores")
+    void shouldNotCacheUnknownStores() {
+        when(storeRepository.findById(STORE_ID)).thenReturn(Optional.empty());
+
+        assertThrows(StoreNotFoundException.class, () -> storeService.getStoreView(STORE_ID));
+        assertThrows(StoreNotFoundException.class, () -> storeService.getStoreView(STORE_ID));
+
+        verify(storeRepository, times(2)).findById(STORE_ID);
+    }
+
+    private static Store store(String name, long version) {
+        Store store = new Store(name, "11.222.333/0001-81");
+        ReflectionTestUtils.setField(store, "id", STORE_ID);
+        ReflectionTestUtils.setField(store, "version", version);
+        return store;
+    }
+
+    @Configuration
+    static class Conversion {
+        @Bean
+        static ConversionService conversionService() {
+            return ApplicationConversionService.getSharedInstance();
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package com.gustavo.mobiauto_backend.infra.events;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.gustavo.mobiauto_backend.model.offer.OfferEvent;
+import com.gustavo.mobiauto_backend.model.offer.OfferEventType;
+import com.gustavo.mobiauto_backend.model.offer.OfferSnapshot;
+import com.gustavo.mobiauto_backend.model.offer.OfferStatus;
+import com.gustavo.mobiauto_backend.model.vehicle.VehicleType;
+import com.gustavo.mobiauto_backend.service.events.OfferChangedEvent;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DisplayName("OfferEventLog Tests")
+class OfferEventLogTest {
+
+    private RecordingStore store;
+    private MeterRegistry meterRegistry;
+    private OfferEventLog offerEventLog;
+
+    @BeforeEach
+    void setUp() {
+        store = new RecordingStore();
+        meterRegistry = new SimpleMeterRegistry();
+        offerEventLog = new OfferEventLog(store, meterRegistry, 10, 1000, OfferEventLog.Overflow.CALLER_RUNS, 10,
+                Duration.ofMillis(10), Duration.ofMillis(50));
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        offerEventLog.destroy();
+    }
+
+    @Test
+    @DisplayName("Should write queued events in batches of at most the batch size")
+    void shouldWriteQueuedEventsInBatchesOfAtMostTheBatchSize() throws InterruptedException {
+        for (long id = 1; id <= 35; id++) {
+            offerEventLog.onOfferChanged(changed(id));
+        }
+
+        offerEventLog.destroy();
+
+        assertEquals(35, store.events().size());
+        assertTrue(store.batchSizes().stream().allMatch(size -> size <= 10), store.batchSizes().toString());
+        assertEquals(35.0, meterRegistry.counter("offer.events.written").count());
+    }
+
+    @Test
+    @DisplayName("Should retry a failed batch until the store recovers")
+    void shouldRetryAFailedBatchUntilTheStoreRecovers() throws InterruptedException {
+        store.failing = true;
+        offerEventLog.onOfferChanged(changed(1L));
+        offerEventLog.onOfferChanged(changed(2L));
+
+        while (meterRegistry.counter("offer.events.retried").count() < 2) {
+            Thread.sleep(10);
+        }
+        store.failing = false;
+        offerEventLog.destroy();
+
+        assertEquals(2, store.events().size());
+        assertEquals(0.0, meterRegistry.counter("offer.events.failed").count());
+    }
+
+    @Test
+    @DisplayName("Should set aside an event that keeps failing and keep writing the rest")
+    void shouldSetAsideAnEventThatKeepsFailingAndKeepWritingTheRest() throws InterruptedException {
+        offerEventLog.destroy();
+        offerEventLog = new OfferEventLog(store, meterRegistry, 10, 1000, OfferEventLog.Overflow.CALLER_RUNS, 3,
+                Duration.ofMillis(10), Duration.ofMillis(50));
+        store.poisonOfferId = 2L;
+        offerEventLog.onOfferChanged(changed(1L));
+        offerEventLog.onOfferChanged(changed(2L));
+        offerEventLog.onOfferChanged(changed(3L));
+
+        while (meterRegistry.counter("offer.events.failed").count() < 1) {
+            Thread.sleep(10);
+        }
+        offerEventLog.onOfferChanged(changed(4L));
+        offerEventLog.destroy();
+
+        assertEquals(List.of(1L, 3L, 4L), store.events().stream().map(OfferEvent::getOfferId).toList());
+        assertEquals(1.0, meterRegistry.counter("offer.events.failed").count());
+        assertEquals(2.0, meterRegistry.counter("offer.events.retried").count());
+    }
+
+    @Test
+    @DisplayName("Should count events still failing at shutdown")
+    void shouldCountEventsStillFailingAtShutdown() throws InterruptedException {
+        store.failing = true;
+        offerEventLog.onOfferChanged(changed(1L));
+        offerEventLog.onOfferChanged(changed(2L));
+
+        offerEventLog.destroy();
+
+        assertEquals(2.0, meterRegistry.counter("offer.events.failed").count());
+    }
+
+    @Test
+    @DisplayName("Should write on the caller when the queue is full instead of blocking")
+    void shouldWriteOnTheCallerWhenTheQueueIsFullInsteadOfBlocking() throws InterruptedException {
+        offerEventLog.destroy();
+        offerEventLog = new OfferEventLog(store, meterRegistry, 10, 1, OfferEventLog.Overflow.CALLER_RUNS, 10,
+                Duration.ofMillis(10), Duration.ofMillis(50));
+        store.failing = true;
+
+        for (long id = 1; id <= 20; id++) {
+            offerEventLog.onOfferChanged(changed(id));
+        }
+        store.failing = false;
+        offerEventLog.destroy();
+
+        assertTrue(meterRegistry.counter("offer.events.overflowed", "policy", "caller_runs").count() > 0);
+    }
+
+    @Test
+    @DisplayName("Should drop and count events when the queue is full under the drop policy")
+    void shouldDropAndCountEventsWhenTheQueueIsFullUnderTheDropPolicy() throws InterruptedException {
+        offerEventLog.destroy();
+        offerEventLog = new OfferEventLog(store, meterRegistry, 10, 1, OfferEventLog.Overflow.DROP, 10,
+                Duration.ofMillis(10), Duration.ofMillis(50));
+        store.failing = true;
+
+        for (long id = 1; id <= 20; id++) {
+            offerEventLog.onOfferChanged(changed(id));
+        }
+        store.failing = false;
+        offerEventLog.destroy();
+
+        double dropped = meterRegistry.counter("offer.events.overflowed", "policy", "drop").count();
+        assertTrue(dropped > 0);
+        assertEquals(20, store.events().size() + (int) dropped);
+    }
+
+    private static OfferChangedEvent changed(Long offerId) {
+        return new OfferChangedEvent(OfferEventType.CREATED, Instant.now(), new OfferSnapshot(offerId,
+                OfferStatus.NEW, true, 1L, 1L, null, offerId, VehicleType.CAR, "Civic", 2022, "Preto",
+                Instant.now(), null, null));
+    }
+
+    private static class RecordingStore implements OfferEventStore {
+        private final List<OfferEvent> events = new ArrayList<>();
+        private final List<Integer> batchSizes = new ArrayList<>();
+        private volatile boolean failing;
+        private volatile Long poisonOfferId;
+
+        @Override
+        public synchronized void append(List<OfferEvent> batch) {
+            if (failing) {
+                throw new IllegalStateException("store unavailable");
+            }
+            if (batch.stream().anyMatch(event -> event.getOfferId().equals(poisonOfferId))) {
+                throw new IllegalArgumentException("value too long");
+            }
+            events.addAll(batch);
+            batchSizes.add(batch.size());
+        }
+
+        @Override
+        public List<OfferEvent> findByOffer(Long offerId) {
+            return List.of();
+        }
+
+        @Override
+        public Optional<OfferEvent> findLatestAt(Long offerId, Instant at) {
+            return Optional.empty();
+        }
+
+        synchronized List<OfferEvent> events() {
+            return List.copyOf(events);
+        }
+
+        synchronized List<Integer> batchSizes() {
+            return List.copyOf(batchSizes);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.gustavo.mobiauto_backend.infra.events;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Instant;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.gustavo.mobiauto_backend.model.offer.OfferSnapshot;
+import com.gustavo.mobiauto_backend.model.offer.OfferStatus;
+import com.gustavo.mobiauto_backend.model.vehicle.VehicleType;
+
+@DisplayName("OfferSnapshotCodec Tests")
+class OfferSnapshotCodecTest {
+
+    private static final Instant CREATED_AT = Instant.parse("2025-01-10T13:00:00Z");
+
+    @Test
+    @DisplayName("Should round trip a fully populated snapshot")
+    void shouldRoundTripAFullyPopulatedSnapshot() {
+        OfferSnapshot snapshot = new OfferSnapshot(42L, OfferStatus.COMPLETED, true, 7L, 3L, 9L, 11L,
+                VehicleType.MOTORCYCLE, "Honda CB 500F", 2023, "Vermelho", CREATED_AT,
+                CREATED_AT.plusSeconds(1500), CREATED_AT.plusSeconds(86_400));
+
+        assertEquals(snapshot, OfferSnapshotCodec.decode(42L, OfferSnapshotCodec.encode(snapshot)));
+    }
+
+    @Test
+    @DisplayName("Should round trip optional fields left empty in a compact payload")
+    void shouldRoundTripOptionalFieldsLeftEmptyInACompactPayload() {
+        OfferSnapshot snapshot = new OfferSnapshot(42L, OfferStatus.NEW, false, 7L, 3L, null, 11L,
+                VehicleType.CAR, "Civic", 2022, "Preto", null, null, null);
+
+        byte[] payload = OfferSnapshotCodec.encode(snapshot);
+
+        assertEquals(snapshot, OfferSnapshotCodec.decode(42L, payload));
+        assertTrue(payload.length < 24, "payload was " + payload.length + " bytes");
+    }
+
+    @Test
+    @DisplayName("Should reject payloads written in an unknown format")
+    void shouldRejectPayloadsWrittenInAnUnknownFormat() {
+        assertThrows(IllegalStateException.class, () -> OfferSnapshotCodec.decode(1L, new byte[] { 9 }));
+    }
+}
@@ -0,0 +1,125 @@
+package com.gustavo.mobiauto_backend.infra.outbox;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.gustavo.mobiauto_backend.infra.repositories.OutboxMessageRepository;
+import com.gustavo.mobiauto_backend.model.outbox.OutboxMessage;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@DisplayName("OutboxRelay Tests")
+class OutboxRelayTest {
+
+    @Autowired
+    private OutboxMessageRepository outboxMessageRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("Should deliver pending messages in id order and mark them as published")
+    void shouldDeliverPendingMessagesInIdOrderAndMarkThemAsPublished() {
+        List<OutboxMessage> messages = outboxMessageRepository.saveAllAndFlush(List.of(
+                message(1L), message(2L), message(3L)));
+        List<Long> delivered = new ArrayList<>();
+        OutboxRelay relay = relay(batch -> batch.forEach(message -> delivered.add(message.getAggregateId())));
+
+        assertEquals(2, relay.relayBatch());
+        assertEquals(1, relay.relayBatch());
+        assertEquals(0, relay.relayBatch());
+
+        assertEquals(List.of(1L, 2L, 3L), delivered);
+        messages.forEach(message -> assertNotNull(message.getPublishedAt()));
+        assertEquals(3.0, meterRegistry.counter("outbox.messages.delivered").count());
+        assertEquals(0.0, meterRegistry.get("outbox.oldest.pending.seconds").gauge().value());
+    }
+
+    @Test
+    @DisplayName("Should back off a failed message instead of claiming it again right away")
+    void shouldBackOffAFailedMessageInsteadOfClaimingItAgainRightAway() {
+        OutboxMessage message = outboxMessageRepository.saveAndFlush(message(1L));
+        OutboxRelay relay = relay(batch -> {
+            throw new IllegalStateException("sink unavailable");
+        }, Duration.ofMinutes(1));
+
+        assertEquals(0, relay.relayBatch());
+        assertEquals(0, relay.relayBatch());
+
+        assertNull(message.getPublishedAt());
+        assertEquals(1, message.getAttempts());
+        assertNotNull(message.getNextAttemptAt());
+        assertEquals(1.0, meterRegistry.counter("outbox.messages.failed").count());
+    }
+
+    @Test
+    @DisplayName("Should mark a message dead after the maximum attempts and stop claiming it")
+    void shouldMarkAMessageDeadAfterTheMaximumAttemptsAndStopClaimingIt() {
+        OutboxMessage message = outboxMessageRepository.saveAndFlush(message(1L));
+        AtomicInteger deliveries = new AtomicInteger();
+        OutboxRelay relay = relay(batch -> {
+            deliveries.incrementAndGet();
+            throw new IllegalStateException("poison message");
+        }, Duration.ZERO);
+
+        for (int i = 0; i < 4; i++) {
+            relay.relayBatch();
+        }
+
+        assertEquals(3, deliveries.get());
+        assertEquals(3, message.getAttempts());
+        assertNotNull(message.getDeadAt());
+        assertEquals(1.0, meterRegistry.counter("outbox.messages.dead").count());
+    }
+
+    @Test
+    @DisplayName("Should deliver the rest of a batch a poison message broke")
+    void shouldDeliverTheRestOfABatchAPoisonMessageBroke() {
+        List<OutboxMessage> messages = outboxMessageRepository.saveAllAndFlush(List.of(message(1L), message(2L)));
+        List<Long> delivered = new ArrayList<>();
+        OutboxRelay relay = relay(batch -> {
+            if (batch.stream().anyMatch(message -> message.getAggregateId().equals(1L))) {
+                throw new IllegalStateException("poison message");
+            }
+            batch.forEach(message -> delivered.add(message.getAggregateId()));
+        }, Duration.ofMinutes(1));
+
+        relay.relayBatch();
+
+        assertEquals(List.of(2L), delivered);
+        assertNull(messages.get(0).getPublishedAt());
+        assertEquals(1, messages.get(0).getAttempts());
+        assertNotNull(messages.get(1).getPublishedAt());
+    }
+
+    private OutboxRelay relay(OutboxSink sink) {
+        return relay(sink, Duration.ofSeconds(1));
+    }
+
+    private OutboxRelay relay(OutboxSink sink, Duration retryBackoff) {
+        return new OutboxRelay(outboxMessageRepository, sink, transactionManager, meterRegistry,
+                false, 1, 2, Duration.ofMillis(500), Duration.ofDays(7), 3, retryBackoff, Duration.ofMinutes(10));
+    }
+
+    private static OutboxMessage message(Long aggregateId) {
+        return new OutboxMessage("offer", aggregateId, "OfferRegistered", "{}");
+    }
+}
@@ -0,0 +1,56 @@
+package com.gustavo.mobiauto_backend.infra.persistence;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.gustavo.mobiauto_backend.infra.repositories.StoreRepository;
+import com.gustavo.mobiauto_backend.model.store.Store;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DataJpaTest(properties = "mobiauto.jdbc.limiter.enabled=true")
+@ActiveProfiles("test")
+@Import({ ConnectionLimiterConfig.class, ConnectionLimiterConfigTest.Metrics.class })
+@DisplayName("Connection limiter configuration Tests")
+class ConnectionLimiterConfigTest {
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private StoreRepository storeRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    @DisplayName("Should route repository work through the limited data source")
+    void shouldRouteRepositoryWorkThroughTheLimitedDataSource() {
+        assertInstanceOf(LimitedDataSource.class, dataSource);
+
+        storeRepository.save(new Store("Limited Store", "11.222.333/0001-81"));
+
+        assertEquals(1, storeRepository.count());
+        assertEquals(1.0, meterRegistry.get("jdbc.limiter.active").gauge().value());
+    }
+
+    @TestConfiguration
+    static class Metrics {
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.gustavo.mobiauto_backend.infra.persistence;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.datasource.ConnectionProxy;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LimitedDataSource Tests")
+class LimitedDataSourceTest {
+
+    @Mock
+    private DataSource target;
+
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    @DisplayName("Should hand the permit back once when a connection is closed")
+    void shouldHandThePermitBackOnceWhenAConnectionIsClosed() throws SQLException {
+        Connection connection = mock(Connection.class);
+        when(target.getConnection()).thenReturn(connection);
+        LimitedDataSource dataSource = new LimitedDataSource(target, meterRegistry, 1, 0, Duration.ofSeconds(1));
+
+        Connection first = dataSource.getConnection();
+        assertSame(connection, ((ConnectionProxy) first).getTargetConnection());
+        assertEquals(1.0, meterRegistry.get("jdbc.limiter.active").gauge().value());
+        first.close();
+        first.close();
+
+        dataSource.getConnection();
+        assertThrows(SQLTransientConnectionException.class, dataSource::getConnection);
+        verify(connection, times(2)).close();
+    }
+
+    @Test
+    @DisplayName("Should reject callers beyond the waiting limit without blocking")
+    void shouldRejectCallersBeyondTheWaitingLimitWithoutBlocking() throws SQLException {
+        when(target.getConnection()).thenReturn(mock(Connection.class));
+        LimitedDataSource dataSource = new LimitedDataSource(target, meterRegistry, 1, 0, Duration.ofMinutes(1));
+        dataSource.getConnection();
+
+        long start = System.nanoTime();
+        assertThrows(SQLTransientConnectionException.class, dataSource::getConnection);
+
+        assertTrue(Duration.ofNanos(System.nanoTime() - start).toSeconds() < 1);
+        assertEquals(1.0, meterRegistry.counter("jdbc.limiter.rejected").count());
+        verify(target, times(1)).getConnection();
+    }
+
+    @Test
+    @DisplayName("Should give up after the acquire timeout")
+    void shouldGiveUpAfterTheAcquireTimeout() throws SQLException {
+        when(target.getConnection()).thenReturn(mock(Connection.class));
+        LimitedDataSource dataSource = new LimitedDataSource(target, meterRegistry, 1, 10, Duration.ofMillis(50));
+        dataSource.getConnection();
+
+        assertThrows(SQLTransientConnectionException.class, dataSource::getConnection);
+
+        assertEquals(0.0, meterRegistry.get("jdbc.limiter.waiting").gauge().value());
+        assertEquals(1.0, meterRegistry.counter("jdbc.limiter.rejected").count());
+    }
+
+    @Test
+    @DisplayName("Should release the permit when the pool fails to provide a connection")
+    void shouldReleaseThePermitWhenThePoolFailsToProvideAConnection() throws SQLException {
+        when(target.getConnection()).thenThrow(new SQLException("pool exhausted")).thenReturn(mock(Connection.class));
+        LimitedDataSource dataSource = new LimitedDataSource(target, meterRegistry, 1, 0, Duration.ofSeconds(1));
+
+        assertThrows(SQLException.class, dataSource::getConnection);
+        dataSource.getConnection();
+
+        assertEquals(1.0, meterRegistry.get("jdbc.limiter.active").gauge().value());
+    }
+}
@@ -0,0 +1,49 @@
+package com.gustavo.mobiauto_backend.infra.persistence;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import com.gustavo.mobiauto_backend.model.user.User;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = "spring.jpa.properties.mobiauto.id.allocation-size=10")
+@DisplayName("PooledSequenceGenerator Tests")
+class PooledSequenceGeneratorTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    @DisplayName("Should create sequences with the configured allocation size")
+    void shouldCreateSequencesWithTheConfiguredAllocationSize() {
+        Number increment = (Number) entityManager.getEntityManager()
+                .createNativeQuery("SELECT INCREMENT FROM INFORMATION_SCHEMA.SEQUENCES WHERE SEQUENCE_NAME = 'USERS_SEQ'")
+                .getSingleResult();
+
+        assertEquals(10, increment.intValue());
+    }
+
+    @Test
+    @DisplayName("Should hand out consecutive ids from one allocated block")
+    void shouldHandOutConsecutiveIdsFromOneAllocatedBlock() {
+        List<Long> ids = IntStream.range(0, 5)
+                .mapToObj(i -> entityManager.persist(new User("John", "Doe", "john" + i + "@example.com", "password")))
+                .map(User::getId)
+                .toList();
+
+        long first = ids.get(0);
+        assertEquals(LongStream.range(first, first + 5).boxed().toList(), ids);
+    }
+}
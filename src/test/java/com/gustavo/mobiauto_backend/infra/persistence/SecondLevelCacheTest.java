@@ -0,0 +1,176 @@
+package com.gustavo.mobiauto_backend.infra.persistence;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Instant;
+
+import org.hibernate.Cache;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.gustavo.mobiauto_backend.infra.repositories.OfferRepository;
+import com.gustavo.mobiauto_backend.infra.repositories.StoreRepository;
+import com.gustavo.mobiauto_backend.infra.repositories.UserRepository;
+import com.gustavo.mobiauto_backend.infra.repositories.VehicleRepository;
+import com.gustavo.mobiauto_backend.model.offer.Offer;
+import com.gustavo.mobiauto_backend.model.offer.OfferEventType;
+import com.gustavo.mobiauto_backend.model.offer.OfferSnapshot;
+import com.gustavo.mobiauto_backend.model.offer.OfferStatus;
+import com.gustavo.mobiauto_backend.model.store.Store;
+import com.gustavo.mobiauto_backend.model.store.StoreName;
+import com.gustavo.mobiauto_backend.model.user.User;
+import com.gustavo.mobiauto_backend.model.vehicle.Vehicle;
+import com.gustavo.mobiauto_backend.model.vehicle.VehicleColor;
+import com.gustavo.mobiauto_backend.model.vehicle.VehicleModel;
+import com.gustavo.mobiauto_backend.model.vehicle.VehicleReleaseYear;
+import com.gustavo.mobiauto_backend.model.vehicle.VehicleType;
+import com.gustavo.mobiauto_backend.service.events.OfferChangedEvent;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({ SecondLevelCacheConfig.class, SecondLevelCacheEvictions.class, SecondLevelCacheTest.Metrics.class })
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("Second-level cache Tests")
+class SecondLevelCacheTest {
+
+    private static final String STORE_OFFERS_ROLE = Store.class.getName() + ".offers";
+
+    @Autowired
+    private StoreRepository storeRepository;
+
+    @Autowired
+    private OfferRepository offerRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private VehicleRepository vehicleRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private SecondLevelCacheEvictions secondLevelCacheEvictions;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private TransactionTemplate transactionTemplate;
+    private Cache cache;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        cache = entityManagerFactory.getCache().unwrap(Cache.class);
+        cache.evictAllRegions();
+    }
+
+    @AfterEach
+    void tearDown() {
+        offerRepository.deleteAll();
+        storeRepository.deleteAll();
+        userRepository.deleteAll();
+        vehicleRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Should serve a store from the cache after the first load and refresh it on update")
+    void shouldServeAStoreFromTheCacheAfterTheFirstLoadAndRefreshItOnUpdate() {
+        Long storeId = storeRepository.save(new Store("Cached Store", "11.222.333/0001-81")).getId();
+        cache.evictEntityData(Store.class);
+
+        transactionTemplate.executeWithoutResult(status -> storeRepository.findById(storeId).orElseThrow());
+        assertTrue(cache.containsEntity(Store.class, storeId));
+        double hitsBefore = hits(CacheRegions.STORE);
+        transactionTemplate.executeWithoutResult(status -> storeRepository.findById(storeId).orElseThrow());
+
+        assertTrue(hits(CacheRegions.STORE) > hitsBefore);
+        double hitRatio = meterRegistry.get("cache.hit.ratio").tag("cache", CacheRegions.STORE).gauge().value();
+        assertTrue(hitRatio > 0 && hitRatio <= 1, String.valueOf(hitRatio));
+
+        transactionTemplate.executeWithoutResult(status -> storeRepository.findById(storeId).orElseThrow()
+                .setCompanyName(new StoreName("Renamed Store")));
+        assertEquals("Renamed Store", transactionTemplate.execute(status -> storeRepository.findById(storeId)
+                .orElseThrow().getCompanyName().getValue()));
+    }
+
+    @Test
+    @DisplayName("Should serve an offer from the cache and keep other offers cached across a reassignment")
+    void shouldServeAnOfferFromTheCacheAndKeepOtherOffersCachedAcrossAReassignment() {
+        Store store = storeRepository.save(new Store("Cached Store", "11.222.333/0001-81"));
+        User client = userRepository.save(new User("John", "Doe", "john.doe@example.com", "password123"));
+        Long offerId = offerRepository.save(new Offer(client, vehicle("Civic"), store)).getId();
+        Long otherOfferId = offerRepository.save(new Offer(client, vehicle("Corolla"), store)).getId();
+        cache.evictEntityData(Offer.class);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            offerRepository.findById(offerId).orElseThrow();
+            offerRepository.findById(otherOfferId).orElseThrow();
+        });
+        assertTrue(cache.containsEntity(Offer.class, offerId));
+        double hitsBefore = hits(CacheRegions.OFFER);
+        transactionTemplate.executeWithoutResult(status -> offerRepository.findById(offerId).orElseThrow());
+        assertTrue(hits(CacheRegions.OFFER) > hitsBefore);
+
+        transactionTemplate.executeWithoutResult(
+                status -> offerRepository.findForUpdateById(offerId).orElseThrow().setAssistant(client));
+
+        assertTrue(cache.containsEntity(Offer.class, otherOfferId));
+        assertEquals(client.getId(), transactionTemplate.execute(
+                status -> offerRepository.findById(offerId).orElseThrow().getAssistant().getId()));
+    }
+
+    private Vehicle vehicle(String model) {
+        return vehicleRepository.save(new Vehicle(VehicleType.CAR, new VehicleModel(model),
+                new VehicleReleaseYear(2020), new VehicleColor("Black")));
+    }
+
+    @Test
+    @DisplayName("Should evict a store's cached offers when an offer is created for it")
+    void shouldEvictAStoresCachedOffersWhenAnOfferIsCreatedForIt() {
+        Long storeId = storeRepository.save(new Store("Cached Store", "11.222.333/0001-81")).getId();
+        transactionTemplate.executeWithoutResult(
+                status -> storeRepository.findById(storeId).orElseThrow().getOffers().size());
+        assertTrue(cache.containsCollection(STORE_OFFERS_ROLE, storeId));
+
+        secondLevelCacheEvictions.onOfferChanged(new OfferChangedEvent(OfferEventType.CREATED, Instant.now(),
+                new OfferSnapshot(1L, OfferStatus.NEW, true, 1L, storeId, null, 1L, VehicleType.CAR, "Civic", 2020,
+                        "Black", Instant.now(), null, null)));
+
+        assertFalse(cache.containsCollection(STORE_OFFERS_ROLE, storeId));
+    }
+
+    private double hits(String region) {
+        return meterRegistry.get("cache.gets").tag("cache", region).tag("result", "hit").functionCounter().count();
+    }
+
+    @TestConfiguration
+    static class Metrics {
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.gustavo.mobiauto_backend.infra.repositories;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.gustavo.mobiauto_backend.model.offer.OfferEvent;
+import com.gustavo.mobiauto_backend.model.offer.OfferEventType;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@DisplayName("OfferEventRepository Tests")
+class OfferEventRepositoryTest {
+
+    private static final Instant CREATED_AT = Instant.parse("2025-01-10T13:00:00Z");
+
+    @Autowired
+    private OfferEventRepository offerEventRepository;
+
+    @Test
+    @DisplayName("Should find the latest event of an offer at a point in time")
+    void shouldFindTheLatestEventOfAnOfferAtAPointInTime() {
+        OfferEvent created = new OfferEvent(1L, OfferEventType.CREATED, CREATED_AT, new byte[] { 1 });
+        OfferEvent updated = new OfferEvent(1L, OfferEventType.UPDATED, CREATED_AT.plusSeconds(60), new byte[] { 2 });
+        OfferEvent otherOffer = new OfferEvent(2L, OfferEventType.CREATED, CREATED_AT.plusSeconds(30),
+                new byte[] { 3 });
+        offerEventRepository.saveAllAndFlush(List.of(updated, otherOffer, created));
+
+        assertEquals(OfferEventType.CREATED, offerEventRepository
+                .findFirstByOfferIdAndOccurredAtLessThanEqualOrderByOccurredAtDescIdDesc(1L, CREATED_AT.plusSeconds(59))
+                .orElseThrow().getType());
+        assertEquals(OfferEventType.UPDATED, offerEventRepository
+                .findFirstByOfferIdAndOccurredAtLessThanEqualOrderByOccurredAtDescIdDesc(1L, CREATED_AT.plusSeconds(60))
+                .orElseThrow().getType());
+        assertTrue(offerEventRepository
+                .findFirstByOfferIdAndOccurredAtLessThanEqualOrderByOccurredAtDescIdDesc(1L, CREATED_AT.minusSeconds(1))
+                .isEmpty());
+        assertEquals(List.of(OfferEventType.CREATED, OfferEventType.UPDATED),
+                offerEventRepository.findByOffer(1L).stream().map(OfferEvent::getType).toList());
+    }
+}
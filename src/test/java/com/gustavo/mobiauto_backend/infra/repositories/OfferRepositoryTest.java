@@ -0,0 +1,268 @@
+package com.gustavo.mobiauto_backend.infra.repositories;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import com.gustavo.mobiauto_backend.controller.dto.OfferDto;
+import com.gustavo.mobiauto_backend.infra.repositories.OfferSpecifications.OfferFilter;
+import com.gustavo.mobiauto_backend.model.offer.Offer;
+import com.gustavo.mobiauto_backend.model.store.Store;
+import com.gustavo.mobiauto_backend.model.user.User;
+import com.gustavo.mobiauto_backend.model.vehicle.Vehicle;
+import com.gustavo.mobiauto_backend.model.vehicle.VehicleColor;
+import com.gustavo.mobiauto_backend.model.vehicle.VehicleModel;
+import com.gustavo.mobiauto_backend.model.vehicle.VehicleReleaseYear;
+import com.gustavo.mobiauto_backend.model.vehicle.VehicleType;
+
+import jakarta.persistence.EntityManagerFactory;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@DisplayName("OfferRepository Tests")
+class OfferRepositoryTest {
+
+    @Autowired
+    private OfferRepository offerRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    @DisplayName("Should keep statement count constant as offers grow")
+    void shouldKeepStatementCountConstantAsOffersGrow() {
+        Store smallStore = persistStoreWithOffers("Small Store", "11.222.333/0001-81", 1);
+        Store largeStore = persistStoreWithOffers("Large Store", "11.444.777/0001-61", 8);
+        assignAll(largeStore, "assistant@example.com");
+
+        long smallStoreStatements = countStatementsToRender(smallStore.getId());
+        long largeStoreStatements = countStatementsToRender(largeStore.getId());
+
+        assertEquals(1, smallStoreStatements);
+        assertEquals(smallStoreStatements, largeStoreStatements);
+    }
+
+    @Test
+    @DisplayName("Should stream active offers of a store after the cursor")
+    void shouldStreamActiveOffersOfAStoreAfterTheCursor() {
+        Store store = persistStoreWithOffers("Paged Store", "11.222.333/0001-81", 3);
+        Offer inactiveOffer = offerRepository.findAll().get(1);
+        inactiveOffer.setActive(false);
+        entityManager.flush();
+
+        List<Long> firstPage = streamIds(store.getId(), 0L, 1);
+        List<Long> secondPage = streamIds(store.getId(), firstPage.get(0), 5);
+
+        assertEquals(1, firstPage.size());
+        assertEquals(1, secondPage.size());
+        assertFalse(secondPage.contains(inactiveOffer.getId()));
+        assertTrue(secondPage.get(0) > firstPage.get(0));
+    }
+
+    @Test
+    @DisplayName("Should count and check active offers per store")
+    void shouldCountAndCheckActiveOffersPerStore() {
+        Store store = persistStoreWithOffers("Counted Store", "11.222.333/0001-81", 2);
+        Store emptyStore = persistStoreWithOffers("Empty Store", "11.444.777/0001-61", 0);
+
+        assertEquals(2, offerRepository.countByStoreIdAndActiveTrue(store.getId()));
+        assertEquals(0, offerRepository.countByStoreIdAndActiveTrue(emptyStore.getId()));
+        assertTrue(offerRepository.existsByStoreIdAndActiveTrue(store.getId()));
+        assertFalse(offerRepository.existsByStoreIdAndActiveTrue(emptyStore.getId()));
+
+        List<Object[]> counts = offerRepository.countActiveByStoreIds(List.of(store.getId(), emptyStore.getId()));
+
+        assertEquals(1, counts.size());
+        assertEquals(store.getId(), counts.get(0)[0]);
+        assertEquals(2L, counts.get(0)[1]);
+    }
+
+    @Test
+    @DisplayName("Should load a batch of offers with their details in one statement")
+    void shouldLoadABatchOfOffersWithTheirDetailsInOneStatement() {
+        Store store = persistStoreWithOffers("Batch Store", "11.222.333/0001-81", 3);
+        assignAll(store, "assistant@example.com");
+        List<Long> ids = offerRepository.findAll().stream().map(Offer::getId).toList();
+        entityManager.clear();
+        statistics.clear();
+
+        List<Offer> offers = offerRepository.findAllWithDetailsByIdIn(List.of(ids.get(2), ids.get(0), -1L));
+        offers.forEach(offer -> OfferDto.of(offer));
+
+        assertEquals(2, offers.size());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("Should search offers by vehicle filters with keyset paging in one statement")
+    void shouldSearchOffersByVehicleFiltersWithKeysetPagingInOneStatement() {
+        Store store = entityManager.persist(new Store("Search Store", "11.222.333/0001-81"));
+        User client = entityManager.persist(new User("Client", "Search", "search@example.com", "password"));
+        Offer oldCivic = persistOffer(client, store, VehicleType.CAR, "Civic", 2015);
+        Offer newCivic = persistOffer(client, store, VehicleType.CAR, "Civic", 2022);
+        Offer newerCivic = persistOffer(client, store, VehicleType.CAR, "Civic", 2023);
+        persistOffer(client, store, VehicleType.MOTORCYCLE, "Civic", 2022);
+        newCivic.setAssistant(entityManager.persist(new User("Assistant", "One", "assistant@example.com", "password")));
+        newerCivic.setAssistant(entityManager.persist(new User("Assistant", "Two", "assistant2@example.com", "password")));
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        OfferFilter filter = new OfferFilter(store.getId(), null, null, true, VehicleType.CAR, "Civic", 2020, null);
+        List<Offer> firstPage = searchOffers(filter, null, 1);
+        List<Offer> secondPage = searchOffers(filter, firstPage.get(0).getId(), 5);
+
+        assertEquals(List.of(newCivic.getId()), firstPage.stream().map(Offer::getId).toList());
+        assertEquals(List.of(newerCivic.getId()), secondPage.stream().map(Offer::getId).toList());
+        assertFalse(secondPage.stream().anyMatch(offer -> offer.getId().equals(oldCivic.getId())));
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("Should search active offers by vehicle model ranking prefix matches first")
+    void shouldSearchActiveOffersByVehicleModelRankingPrefixMatchesFirst() {
+        Store store = entityManager.persist(new Store("Search Store", "11.222.333/0001-81"));
+        Store inactiveStore = new Store("Inactive Store", "11.444.777/0001-61");
+        inactiveStore.setActive(false);
+        entityManager.persist(inactiveStore);
+        User client = entityManager.persist(new User("Client", "Search", "search@example.com", "password"));
+        Offer hondaCivic = persistOffer(client, store, VehicleType.CAR, "Honda Civic", 2022);
+        Offer civic = persistOffer(client, store, VehicleType.CAR, "Civic", 2022);
+        Offer civicSi = persistOffer(client, store, VehicleType.CAR, "Civic Si", 2022);
+        persistOffer(client, store, VehicleType.CAR, "Corolla", 2022);
+        persistOffer(client, inactiveStore, VehicleType.CAR, "Civic", 2022);
+        Offer inactiveOffer = persistOffer(client, store, VehicleType.CAR, "Civic", 2022);
+        inactiveOffer.setActive(false);
+        entityManager.flush();
+
+        List<Long> prefixed = offerRepository.searchActiveIdsByVehicleModelPrefix("civ%", 100, 10);
+        List<Long> infixed = offerRepository.searchActiveIdsByVehicleModelInfix("%civ%", "civ%", 100, 10);
+        List<Long> limited = offerRepository.searchActiveIdsByVehicleModelPrefix("civ%", 100, 1);
+
+        assertEquals(List.of(civic.getId(), civicSi.getId()), prefixed);
+        assertEquals(List.of(hondaCivic.getId()), infixed);
+        assertEquals(List.of(civic.getId()), limited);
+    }
+
+    @Test
+    @DisplayName("Should rank only the bounded candidate set of model matches")
+    void shouldRankOnlyTheBoundedCandidateSetOfModelMatches() {
+        Store store = entityManager.persist(new Store("Search Store", "11.222.333/0001-81"));
+        User client = entityManager.persist(new User("Client", "Search", "search@example.com", "password"));
+        for (int i = 0; i < 5; i++) {
+            persistOffer(client, store, VehicleType.CAR, "Civic " + "X".repeat(i), 2022);
+        }
+        entityManager.flush();
+
+        List<Long> ids = offerRepository.searchActiveIdsByVehicleModelPrefix("civ%", 3, 10);
+
+        assertEquals(3, ids.size());
+    }
+
+    @Test
+    @DisplayName("Should bump the version of an offer reassigned through findForUpdateById")
+    void shouldBumpTheVersionOfAnOfferReassignedThroughFindForUpdateById() {
+        Store store = persistStoreWithOffers("Assigned Store", "11.222.333/0001-81", 1);
+        Long offerId = offerRepository.findAll().get(0).getId();
+        User assistant = entityManager.persist(new User("First", "Assistant", "first@example.com", "password"));
+        entityManager.flush();
+        entityManager.clear();
+        long version = offerRepository.findById(offerId).orElseThrow().getVersion();
+        entityManager.clear();
+
+        offerRepository.findForUpdateById(offerId).orElseThrow().setAssistant(assistant);
+        entityManager.flush();
+        entityManager.clear();
+
+        Offer reloaded = offerRepository.findById(offerId).orElseThrow();
+        assertEquals(assistant.getId(), reloaded.getAssistant().getId());
+        assertEquals(store.getId(), reloaded.getStore().getId());
+        assertTrue(reloaded.getVersion() > version);
+    }
+
+    private List<Offer> searchOffers(OfferFilter filter, Long after, int limit) {
+        List<Offer> offers = offerRepository.findBy(OfferSpecifications.search(filter, after, Sort.Direction.ASC),
+                query -> query.sortBy(Sort.by("id")).limit(limit).all());
+        offers.forEach(offer -> OfferDto.of(offer));
+        return offers;
+    }
+
+    private Offer persistOffer(User client, Store store, VehicleType type, String model, int releaseYear) {
+        Vehicle vehicle = entityManager.persist(new Vehicle(
+                type,
+                new VehicleModel(model),
+                new VehicleReleaseYear(releaseYear),
+                new VehicleColor("Blue")));
+        return entityManager.persist(new Offer(client, vehicle, store));
+    }
+
+    private long countStatementsToRender(Long storeId) {
+        entityManager.clear();
+        statistics.clear();
+
+        try (Stream<Offer> offers = offerRepository.streamActiveByStore(storeId, 0L, Limit.of(100))) {
+            offers.map(OfferDto::of).forEach(dto -> assertTrue(dto.getClient() != null));
+        }
+
+        return statistics.getPrepareStatementCount();
+    }
+
+    private void assignAll(Store store, String assistantEmail) {
+        User assistant = entityManager.persist(new User("Assistant", "One", assistantEmail, "password"));
+        offerRepository.findAll().stream()
+                .filter(offer -> offer.getStore().getId().equals(store.getId()))
+                .forEach(offer -> offer.setAssistant(assistant));
+        entityManager.flush();
+    }
+
+    private List<Long> streamIds(Long storeId, Long after, int limit) {
+        try (Stream<Offer> offers = offerRepository.streamActiveByStore(storeId, after, Limit.of(limit))) {
+            return offers.map(Offer::getId).toList();
+        }
+    }
+
+    private Store persistStoreWithOffers(String storeName, String cnpj, int offerCount) {
+        Store store = entityManager.persist(new Store(storeName, cnpj));
+
+        for (int i = 0; i < offerCount; i++) {
+            User client = entityManager.persist(
+                    new User("Client", String.valueOf(i), storeName.replace(" ", "") + i + "@example.com", "password"));
+            Vehicle vehicle = entityManager.persist(new Vehicle(
+                    VehicleType.CAR,
+                    new VehicleModel("Model " + i),
+                    new VehicleReleaseYear(2020),
+                    new VehicleColor("Blue")));
+            entityManager.persist(new Offer(client, vehicle, store));
+        }
+
+        entityManager.flush();
+        return store;
+    }
+}
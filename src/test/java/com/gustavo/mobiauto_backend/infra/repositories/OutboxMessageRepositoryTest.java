@@ -0,0 +1,79 @@
+package com.gustavo.mobiauto_backend.infra.repositories;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.gustavo.mobiauto_backend.model.outbox.OutboxMessage;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@DisplayName("OutboxMessageRepository Tests")
+class OutboxMessageRepositoryTest {
+
+    private static final Instant PUBLISHED_AT = Instant.parse("2025-01-10T13:00:00Z");
+
+    @Autowired
+    private OutboxMessageRepository outboxMessageRepository;
+
+    @Test
+    @DisplayName("Should claim only unpublished messages in id order")
+    void shouldClaimOnlyUnpublishedMessagesInIdOrder() {
+        OutboxMessage published = new OutboxMessage("offer", 1L, "OfferRegistered", "{}");
+        published.setPublishedAt(PUBLISHED_AT);
+        OutboxMessage first = new OutboxMessage("offer", 2L, "OfferRegistered", "{}");
+        OutboxMessage second = new OutboxMessage("store", 3L, "StoreDeactivated", "{}");
+        outboxMessageRepository.saveAllAndFlush(List.of(published, first, second));
+
+        List<OutboxMessage> claimed = outboxMessageRepository.claimPending(PUBLISHED_AT, Limit.of(10));
+
+        assertEquals(List.of(2L, 3L), claimed.stream().map(OutboxMessage::getAggregateId).toList());
+        assertEquals(List.of(2L), outboxMessageRepository.claimPending(PUBLISHED_AT, Limit.of(1)).stream()
+                .map(OutboxMessage::getAggregateId).toList());
+    }
+
+    @Test
+    @DisplayName("Should not claim dead messages or messages waiting for their next attempt")
+    void shouldNotClaimDeadMessagesOrMessagesWaitingForTheirNextAttempt() {
+        OutboxMessage dead = new OutboxMessage("offer", 1L, "OfferRegistered", "{}");
+        dead.setDeadAt(PUBLISHED_AT);
+        ReflectionTestUtils.setField(dead, "createdAt", PUBLISHED_AT.minusSeconds(120));
+        OutboxMessage backingOff = new OutboxMessage("offer", 2L, "OfferRegistered", "{}");
+        backingOff.setNextAttemptAt(PUBLISHED_AT.plusSeconds(60));
+        ReflectionTestUtils.setField(backingOff, "createdAt", PUBLISHED_AT.minusSeconds(60));
+        OutboxMessage due = new OutboxMessage("offer", 3L, "OfferRegistered", "{}");
+        due.setNextAttemptAt(PUBLISHED_AT);
+        outboxMessageRepository.saveAllAndFlush(List.of(dead, backingOff, due));
+
+        assertEquals(List.of(3L), outboxMessageRepository.claimPending(PUBLISHED_AT, Limit.of(10)).stream()
+                .map(OutboxMessage::getAggregateId).toList());
+        assertEquals(List.of(2L, 3L), outboxMessageRepository.claimPending(PUBLISHED_AT.plusSeconds(60), Limit.of(10))
+                .stream().map(OutboxMessage::getAggregateId).toList());
+        assertEquals(PUBLISHED_AT.minusSeconds(60), outboxMessageRepository.findOldestPendingCreatedAt().orElseThrow());
+    }
+
+    @Test
+    @DisplayName("Should purge messages published before the cutoff and keep pending ones")
+    void shouldPurgeMessagesPublishedBeforeTheCutoffAndKeepPendingOnes() {
+        OutboxMessage old = new OutboxMessage("offer", 1L, "OfferRegistered", "{}");
+        old.setPublishedAt(PUBLISHED_AT);
+        OutboxMessage recent = new OutboxMessage("offer", 2L, "OfferRegistered", "{}");
+        recent.setPublishedAt(PUBLISHED_AT.plusSeconds(3600));
+        OutboxMessage pending = new OutboxMessage("offer", 3L, "OfferRegistered", "{}");
+        outboxMessageRepository.saveAllAndFlush(List.of(old, recent, pending));
+
+        int deleted = outboxMessageRepository.deletePublishedBefore(PUBLISHED_AT.plusSeconds(60));
+
+        assertEquals(1, deleted);
+        assertEquals(2, outboxMessageRepository.count());
+    }
+}
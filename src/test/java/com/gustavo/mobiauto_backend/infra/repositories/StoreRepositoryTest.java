@@ -0,0 +1,70 @@
+package com.gustavo.mobiauto_backend.infra.repositories;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.gustavo.mobiauto_backend.model.store.Store;
+import com.gustavo.mobiauto_backend.model.store.StoreName;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@DisplayName("StoreRepository Tests")
+class StoreRepositoryTest {
+
+    @Autowired
+    private StoreRepository storeRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    @DisplayName("Should page active stores by id skipping inactive ones")
+    void shouldPageActiveStoresByIdSkippingInactiveOnes() {
+        Store first = entityManager.persist(new Store("First Store", "11.222.333/0001-81"));
+        Store inactive = new Store("Inactive Store", "11.444.777/0001-61");
+        inactive.setActive(false);
+        entityManager.persist(inactive);
+        Store last = entityManager.persist(new Store("Last Store", "25.215.908/0001-43"));
+        entityManager.flush();
+
+        List<Store> firstPage = storeRepository.findActiveAfter(0L, Limit.of(1));
+        List<Store> secondPage = storeRepository.findActiveAfter(firstPage.get(0).getId(), Limit.of(1));
+        List<Store> lastPage = storeRepository.findActiveAfter(secondPage.get(0).getId(), Limit.of(1));
+
+        assertEquals(List.of(first.getId()), firstPage.stream().map(Store::getId).toList());
+        assertEquals(List.of(last.getId()), secondPage.stream().map(Store::getId).toList());
+        assertTrue(lastPage.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should bump version on update and reject a stale concurrent write")
+    void shouldBumpVersionOnUpdateAndRejectAStaleConcurrentWrite() {
+        Store store = entityManager.persistFlushFind(new Store("Versioned Store", "11.222.333/0001-81"));
+        long initialVersion = store.getVersion();
+
+        store.setCompanyName(new StoreName("Renamed Store"));
+        store = storeRepository.saveAndFlush(store);
+        assertEquals(initialVersion + 1, store.getVersion());
+
+        entityManager.getEntityManager()
+                .createQuery("UPDATE Store s SET s.version = s.version + 1 WHERE s.id = :id")
+                .setParameter("id", store.getId())
+                .executeUpdate();
+        store.setCompanyName(new StoreName("Lost Update"));
+        Store staleStore = store;
+
+        assertThrows(OptimisticLockingFailureException.class, () -> storeRepository.saveAndFlush(staleStore));
+    }
+}
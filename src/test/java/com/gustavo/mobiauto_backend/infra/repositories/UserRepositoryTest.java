@@ -0,0 +1,34 @@
+package com.gustavo.mobiauto_backend.infra.repositories;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.gustavo.mobiauto_backend.model.user.User;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@DisplayName("UserRepository Tests")
+class UserRepositoryTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    @DisplayName("Should find a user by the value of the email")
+    void shouldFindAUserByTheValueOfTheEmail() {
+        User user = entityManager.persistFlushFind(new User("John", "Doe", "john.doe@example.com", "password123"));
+
+        assertEquals(user.getId(), userRepository.findByEmail("john.doe@example.com").orElseThrow().getId());
+        assertTrue(userRepository.findByEmail("jane.doe@example.com").isEmpty());
+    }
+}
@@ -0,0 +1,109 @@
+package com.gustavo.mobiauto_backend.infra.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.gustavo.mobiauto_backend.infra.repositories.OfferRepository;
+import com.gustavo.mobiauto_backend.infra.repositories.VehicleRepository;
+import com.gustavo.mobiauto_backend.model.vehicle.Vehicle;
+import com.gustavo.mobiauto_backend.model.vehicle.VehicleColor;
+import com.gustavo.mobiauto_backend.model.vehicle.VehicleModel;
+import com.gustavo.mobiauto_backend.model.vehicle.VehicleReleaseYear;
+import com.gustavo.mobiauto_backend.model.vehicle.VehicleType;
+import com.gustavo.mobiauto_backend.service.events.VehicleSavedEvent;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("InMemoryVehicleModelSearch Tests")
+class InMemoryVehicleModelSearchTest {
+
+    @Mock
+    private OfferRepository offerRepository;
+
+    @Mock
+    private VehicleRepository vehicleRepository;
+
+    private InMemoryVehicleModelSearch search;
+
+    private final Map<Long, Long> offerByVehicle = Map.of(1L, 10L, 2L, 20L, 3L, 30L, 4L, 40L);
+
+    @BeforeEach
+    void setUp() {
+        search = new InMemoryVehicleModelSearch(offerRepository, vehicleRepository);
+    }
+
+    @Test
+    @DisplayName("Should rank prefix matches before infix matches")
+    void shouldRankPrefixMatchesBeforeInfixMatches() {
+        when(vehicleRepository.findAll()).thenReturn(List.of(
+                vehicle(1L, "Honda Civic"), vehicle(2L, "Civic Si"), vehicle(3L, "Civic"), vehicle(4L, "Corolla")));
+        stubActiveOffers();
+        search.rebuild();
+
+        assertEquals(List.of(30L, 20L, 10L), search.searchActiveOfferIds("civ", 10));
+        assertEquals(List.of(30L), search.searchActiveOfferIds("CIV", 1));
+    }
+
+    @Test
+    @DisplayName("Should only match model prefixes for terms shorter than a trigram")
+    void shouldOnlyMatchModelPrefixesForTermsShorterThanATrigram() {
+        when(vehicleRepository.findAll()).thenReturn(List.of(
+                vehicle(1L, "Honda Civic"), vehicle(2L, "Civic Si"), vehicle(3L, "Civic"), vehicle(4L, "Corolla")));
+        stubActiveOffers();
+        search.rebuild();
+
+        assertEquals(List.of(30L, 20L), search.searchActiveOfferIds("ci", 10));
+    }
+
+    @Test
+    @DisplayName("Should reindex vehicle when its model changes")
+    void shouldReindexVehicleWhenItsModelChanges() {
+        search.onVehicleSaved(new VehicleSavedEvent(vehicle(1L, "Civic")));
+        search.onVehicleSaved(new VehicleSavedEvent(vehicle(1L, "Corolla")));
+        stubActiveOffers();
+
+        assertTrue(search.searchActiveOfferIds("civic", 10).isEmpty());
+        assertEquals(List.of(10L), search.searchActiveOfferIds("rolla", 10));
+    }
+
+    @Test
+    @DisplayName("Should skip the database when no model matches")
+    void shouldSkipTheDatabaseWhenNoModelMatches() {
+        search.onVehicleSaved(new VehicleSavedEvent(vehicle(1L, "Civic")));
+
+        assertTrue(search.searchActiveOfferIds("corolla", 10).isEmpty());
+        verify(offerRepository, never()).findActiveIdsInActiveStoresByVehicleIds(anyCollection());
+    }
+
+    private void stubActiveOffers() {
+        when(offerRepository.findActiveIdsInActiveStoresByVehicleIds(anyCollection())).thenAnswer(invocation -> {
+            List<Object[]> rows = new ArrayList<>();
+            for (Long vehicleId : invocation.<Collection<Long>>getArgument(0)) {
+                rows.add(new Object[] { vehicleId, offerByVehicle.get(vehicleId) });
+            }
+            return rows;
+        });
+    }
+
+    private static Vehicle vehicle(Long id, String model) {
+        Vehicle vehicle = new Vehicle(VehicleType.CAR, new VehicleModel(model), new VehicleReleaseYear(2022),
+                new VehicleColor("Black"));
+        vehicle.setId(id);
+        return vehicle;
+    }
+}
@@ -0,0 +1,128 @@
+package com.gustavo.mobiauto_backend.infra.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.gustavo.mobiauto_backend.infra.repositories.OfferRepository;
+import com.gustavo.mobiauto_backend.infra.search.OfferFacetIndex.FacetCounts;
+import com.gustavo.mobiauto_backend.infra.search.OfferFacetIndex.FacetFilter;
+import com.gustavo.mobiauto_backend.model.offer.OfferStatus;
+import com.gustavo.mobiauto_backend.model.vehicle.Vehicle;
+import com.gustavo.mobiauto_backend.model.vehicle.VehicleColor;
+import com.gustavo.mobiauto_backend.model.vehicle.VehicleModel;
+import com.gustavo.mobiauto_backend.model.vehicle.VehicleReleaseYear;
+import com.gustavo.mobiauto_backend.model.vehicle.VehicleType;
+import com.gustavo.mobiauto_backend.service.events.OfferSavedEvent;
+import com.gustavo.mobiauto_backend.service.events.VehicleSavedEvent;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OfferFacetIndex Tests")
+class OfferFacetIndexTest {
+
+    @Mock
+    private OfferRepository offerRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private OfferFacetIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new OfferFacetIndex(offerRepository, transactionManager, Duration.ZERO);
+    }
+
+    @Test
+    @DisplayName("Should count active offers per facet from the startup load")
+    void shouldCountActiveOffersPerFacetFromTheStartupLoad() {
+        when(offerRepository.streamFacetRows()).thenReturn(Stream.of(
+                new Object[] { 1L, 11L, true, VehicleType.CAR, 2022, "Black" },
+                new Object[] { 2L, 12L, true, VehicleType.CAR, 2018, "White" },
+                new Object[] { 3L, 13L, true, VehicleType.MOTORCYCLE, 2024, "Black" },
+                new Object[] { 4L, 14L, false, VehicleType.CAR, 2022, "Black" }));
+
+        index.rebuild();
+        FacetCounts counts = index.count(new FacetFilter(null, null, null));
+
+        assertEquals(3, counts.total());
+        assertEquals(Map.of(VehicleType.CAR, 2L, VehicleType.MOTORCYCLE, 1L), counts.types());
+        assertEquals(Map.of(2015, 1L, 2020, 2L), counts.releaseYearBuckets());
+        assertEquals(Map.of("Black", 2L, "White", 1L), counts.colors());
+    }
+
+    @Test
+    @DisplayName("Should apply other facet filters but not a facet's own filter")
+    void shouldApplyOtherFacetFiltersButNotAFacetsOwnFilter() {
+        index.onOfferSaved(offer(1L, 11L, true, VehicleType.CAR, 2022, "Black"));
+        index.onOfferSaved(offer(2L, 12L, true, VehicleType.CAR, 2018, "White"));
+        index.onOfferSaved(offer(3L, 13L, true, VehicleType.MOTORCYCLE, 2024, "Black"));
+
+        FacetCounts counts = index.count(new FacetFilter(VehicleType.CAR, null, "Black"));
+
+        assertEquals(1, counts.total());
+        assertEquals(Map.of(VehicleType.CAR, 1L, VehicleType.MOTORCYCLE, 1L), counts.types());
+        assertEquals(Map.of(2020, 1L), counts.releaseYearBuckets());
+        assertEquals(Map.of("Black", 1L, "White", 1L), counts.colors());
+    }
+
+    @Test
+    @DisplayName("Should move offer between facet values on deactivation and vehicle update")
+    void shouldMoveOfferBetweenFacetValuesOnDeactivationAndVehicleUpdate() {
+        index.onOfferSaved(offer(1L, 11L, true, VehicleType.CAR, 2022, "Black"));
+        index.onOfferSaved(offer(2L, 12L, true, VehicleType.CAR, 2022, "Black"));
+
+        index.onOfferSaved(offer(2L, 12L, false, VehicleType.CAR, 2022, "Black"));
+        index.onVehicleSaved(new VehicleSavedEvent(vehicle(11L, VehicleType.TRUCK, 2010, "Red")));
+        FacetCounts counts = index.count(new FacetFilter(null, null, null));
+
+        assertEquals(1, counts.total());
+        assertEquals(Map.of(VehicleType.TRUCK, 1L), counts.types());
+        assertEquals(Map.of(2010, 1L), counts.releaseYearBuckets());
+        assertEquals(Map.of("Red", 1L), counts.colors());
+    }
+
+    @Test
+    @DisplayName("Should keep serving and replay changes committed while rebuilding")
+    void shouldKeepServingAndReplayChangesCommittedWhileRebuilding() {
+        index.onOfferSaved(offer(1L, 11L, true, VehicleType.CAR, 2022, "Black"));
+        when(offerRepository.streamFacetRows()).thenAnswer(invocation -> {
+            assertEquals(1, index.count(new FacetFilter(null, null, null)).total());
+            index.onOfferSaved(offer(1L, 11L, false, VehicleType.CAR, 2022, "Black"));
+            index.onOfferSaved(offer(3L, 13L, true, VehicleType.MOTORCYCLE, 2024, "Red"));
+            return Stream.<Object[]>of(
+                    new Object[] { 1L, 11L, true, VehicleType.CAR, 2022, "Black" },
+                    new Object[] { 2L, 12L, true, VehicleType.CAR, 2018, "White" });
+        });
+
+        index.rebuild();
+        FacetCounts counts = index.count(new FacetFilter(null, null, null));
+
+        assertEquals(2, counts.total());
+        assertEquals(Map.of(VehicleType.CAR, 1L, VehicleType.MOTORCYCLE, 1L), counts.types());
+        assertEquals(Map.of("White", 1L, "Red", 1L), counts.colors());
+    }
+
+    private static OfferSavedEvent offer(Long offerId, Long vehicleId, boolean active, VehicleType type,
+            int releaseYear, String color) {
+        return new OfferSavedEvent(offerId, vehicleId, 1L, null, active, OfferStatus.NEW, type, releaseYear, color);
+    }
+
+    private static Vehicle vehicle(Long id, VehicleType type, int releaseYear, String color) {
+        Vehicle vehicle = new Vehicle(type, new VehicleModel("Model"), new VehicleReleaseYear(releaseYear),
+                new VehicleColor(color));
+        vehicle.setId(id);
+        return vehicle;
+    }
+}
@@ -0,0 +1,67 @@
+package com.gustavo.mobiauto_backend.infra.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.gustavo.mobiauto_backend.infra.repositories.OfferRepository;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PostgresVehicleModelSearch Tests")
+class PostgresVehicleModelSearchTest {
+
+    @Mock
+    private OfferRepository offerRepository;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private PostgresVehicleModelSearch search;
+
+    @BeforeEach
+    void setUp() {
+        search = new PostgresVehicleModelSearch(offerRepository, jdbcTemplate, 1000);
+    }
+
+    @Test
+    @DisplayName("Should fill the page with infix matches after prefix matches")
+    void shouldFillThePageWithInfixMatchesAfterPrefixMatches() {
+        when(offerRepository.searchActiveIdsByVehicleModelPrefix("civ%", 1000, 3)).thenReturn(List.of(30L, 20L));
+        when(offerRepository.searchActiveIdsByVehicleModelInfix("%civ%", "civ%", 1000, 1)).thenReturn(List.of(10L));
+
+        assertEquals(List.of(30L, 20L, 10L), search.searchActiveOfferIds("civ", 3));
+    }
+
+    @Test
+    @DisplayName("Should only match model prefixes for terms shorter than a trigram")
+    void shouldOnlyMatchModelPrefixesForTermsShorterThanATrigram() {
+        when(offerRepository.searchActiveIdsByVehicleModelPrefix("ci%", 1000, 10)).thenReturn(List.of(30L));
+
+        assertEquals(List.of(30L), search.searchActiveOfferIds("ci", 10));
+        verify(offerRepository, never()).searchActiveIdsByVehicleModelInfix(anyString(), anyString(), anyInt(),
+                anyInt());
+    }
+
+    @Test
+    @DisplayName("Should escape LIKE wildcards in the term")
+    void shouldEscapeLikeWildcardsInTheTerm() {
+        when(offerRepository.searchActiveIdsByVehicleModelPrefix("100\\%%", 1000, 1)).thenReturn(List.of(40L));
+
+        assertEquals(List.of(40L), search.searchActiveOfferIds("100%", 1));
+        verify(offerRepository, never()).searchActiveIdsByVehicleModelInfix(anyString(), anyString(), anyInt(),
+                anyInt());
+    }
+}
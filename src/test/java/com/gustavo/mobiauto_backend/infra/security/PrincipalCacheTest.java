@@ -0,0 +1,85 @@
+package com.gustavo.mobiauto_backend.infra.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import com.gustavo.mobiauto_backend.model.user.User;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DisplayName("PrincipalCache Tests")
+class PrincipalCacheTest {
+
+    private static final String EMAIL = "john.doe@example.com";
+
+    private MeterRegistry meterRegistry;
+    private PrincipalCache principalCache;
+    private AtomicInteger loads;
+    private Function<String, User> loader;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        principalCache = new PrincipalCache(meterRegistry, 100, Duration.ofMinutes(5));
+        loads = new AtomicInteger();
+        loader = email -> {
+            loads.incrementAndGet();
+            return new User("John", "Doe", email, "password123");
+        };
+    }
+
+    @Test
+    @DisplayName("Should load principal once and serve repeated lookups from cache")
+    void shouldLoadPrincipalOnceAndServeRepeatedLookupsFromCache() {
+        User first = principalCache.get(EMAIL, loader);
+        User second = principalCache.get(EMAIL, loader);
+
+        assertSame(first, second);
+        assertEquals(1, loads.get());
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "principals").tag("result", "hit")
+                .functionCounter().count());
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "principals").tag("result", "miss")
+                .functionCounter().count());
+    }
+
+    @Test
+    @DisplayName("Should reload principal after invalidation")
+    void shouldReloadPrincipalAfterInvalidation() {
+        principalCache.get(EMAIL, loader);
+
+        principalCache.invalidate(EMAIL);
+        principalCache.get(EMAIL, loader);
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    @DisplayName("Should invalidate principal again when the surrounding transaction completes")
+    void shouldInvalidatePrincipalAgainWhenTheSurroundingTransactionCompletes() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            principalCache.invalidate(EMAIL);
+            principalCache.get(EMAIL, loader);
+
+            TransactionSynchronizationUtils.invokeAfterCompletion(
+                    TransactionSynchronizationManager.getSynchronizations(), 0);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        principalCache.get(EMAIL, loader);
+
+        assertEquals(2, loads.get());
+    }
+}
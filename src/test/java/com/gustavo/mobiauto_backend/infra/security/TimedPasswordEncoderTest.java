@@ -0,0 +1,39 @@
+package com.gustavo.mobiauto_backend.infra.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DisplayName("TimedPasswordEncoder Tests")
+class TimedPasswordEncoderTest {
+
+    private MeterRegistry meterRegistry;
+    private TimedPasswordEncoder encoder;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        encoder = new TimedPasswordEncoder(new BCryptPasswordEncoder(4), meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Should hash with the configured strength and record hash latency")
+    void shouldHashWithTheConfiguredStrengthAndRecordHashLatency() {
+        String encoded = encoder.encode("password123");
+
+        assertTrue(encoded.startsWith("$2a$04$"));
+        assertTrue(encoder.matches("password123", encoded));
+        assertFalse(encoder.matches("wrong-password", encoded));
+
+        assertEquals(1, meterRegistry.get("password.hash").tag("operation", "encode").timer().count());
+        assertEquals(2, meterRegistry.get("password.hash").tag("operation", "matches").timer().count());
+    }
+}
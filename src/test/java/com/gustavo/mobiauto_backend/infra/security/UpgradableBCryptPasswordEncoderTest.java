@@ -0,0 +1,34 @@
+package com.gustavo.mobiauto_backend.infra.security;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+@DisplayName("UpgradableBCryptPasswordEncoder Tests")
+class UpgradableBCryptPasswordEncoderTest {
+
+    private final UpgradableBCryptPasswordEncoder encoder = new UpgradableBCryptPasswordEncoder(5);
+
+    @Test
+    @DisplayName("Should keep hashes that already use the configured cost")
+    void shouldKeepHashesThatAlreadyUseTheConfiguredCost() {
+        assertFalse(encoder.upgradeEncoding(encoder.encode("password123")));
+    }
+
+    @Test
+    @DisplayName("Should flag hashes with a lower or higher cost for rehash")
+    void shouldFlagHashesWithALowerOrHigherCostForRehash() {
+        assertTrue(encoder.upgradeEncoding(new BCryptPasswordEncoder(4).encode("password123")));
+        assertTrue(encoder.upgradeEncoding(new BCryptPasswordEncoder(6).encode("password123")));
+    }
+
+    @Test
+    @DisplayName("Should ignore values that are not BCrypt hashes")
+    void shouldIgnoreValuesThatAreNotBCryptHashes() {
+        assertFalse(encoder.upgradeEncoding(null));
+        assertFalse(encoder.upgradeEncoding("plain-text"));
+    }
+}
@@ -6,6 +6,8 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.time.Instant;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -135,6 +137,32 @@ class OfferTest {
         assertEquals(OfferStatus.COMPLETED, offer.getStatus());
     }
 
+    @Test
+    @DisplayName("Should only allow forward status transitions")
+    void shouldOnlyAllowForwardStatusTransitions() {
+        assertTrue(OfferStatus.NEW.canTransitionTo(OfferStatus.ATTENDED));
+        assertTrue(OfferStatus.ATTENDED.canTransitionTo(OfferStatus.COMPLETED));
+        assertFalse(OfferStatus.NEW.canTransitionTo(OfferStatus.COMPLETED));
+        assertFalse(OfferStatus.ATTENDED.canTransitionTo(OfferStatus.NEW));
+        assertFalse(OfferStatus.COMPLETED.canTransitionTo(OfferStatus.ATTENDED));
+    }
+
+    @Test
+    @DisplayName("Should stamp the time of each status transition")
+    void shouldStampTheTimeOfEachStatusTransition() {
+        offer = new Offer(client, vehicle, store);
+        Instant attendedAt = offer.getCreatedAt().plusSeconds(60);
+        Instant completedAt = attendedAt.plusSeconds(600);
+
+        offer.transitionTo(OfferStatus.ATTENDED, attendedAt);
+        offer.transitionTo(OfferStatus.COMPLETED, completedAt);
+
+        assertNotNull(offer.getCreatedAt());
+        assertEquals(OfferStatus.COMPLETED, offer.getStatus());
+        assertEquals(attendedAt, offer.getAttendedAt());
+        assertEquals(completedAt, offer.getCompletedAt());
+    }
+
     @Test
     @DisplayName("Should handle client updates")
     void shouldHandleClientUpdates() {
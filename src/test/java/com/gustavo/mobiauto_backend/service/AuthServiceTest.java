@@ -4,26 +4,36 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.crypto.password.PasswordEncoder;
 
+import com.gustavo.mobiauto_backend.infra.exceptions.PasswordHashingBusyException;
 import com.gustavo.mobiauto_backend.infra.exceptions.UserNotFoundException;
+import com.gustavo.mobiauto_backend.infra.security.PasswordHashingExecutor;
 import com.gustavo.mobiauto_backend.model.user.User;
 import com.gustavo.mobiauto_backend.model.user.UserEmail;
 import com.gustavo.mobiauto_backend.model.user.UserName;
 import com.gustavo.mobiauto_backend.model.user.UserPassword;
 import com.gustavo.mobiauto_backend.service.exceptions.DeactivatedUserException;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 @ExtendWith(MockitoExtension.class)
 @DisplayName("AuthService Tests")
 class AuthServiceTest {
@@ -31,7 +41,13 @@ class AuthServiceTest {
     @Mock
     private UserService userService;
 
-    @InjectMocks
+    @Mock
+    private PasswordEncoder passwordEncoder;
+
+    @Mock
+    private PasswordHashingExecutor passwordHashingExecutor;
+
+    private MeterRegistry meterRegistry;
     private AuthService authService;
 
     private User activeUser;
@@ -41,6 +57,9 @@ class AuthServiceTest {
 
     @BeforeEach
     void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        authService = new AuthService(userService, passwordEncoder, passwordHashingExecutor, meterRegistry);
+
         validEmail = "john.doe@example.com";
         invalidEmail = "nonexistent@example.com";
 
@@ -257,4 +276,59 @@ class AuthServiceTest {
 
         verify(userService, times(1)).findByEmail(validEmail);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should rehash password in the background when its encoding is outdated")
+    void shouldRehashPasswordInTheBackgroundWhenItsEncodingIsOutdated() {
+        when(passwordEncoder.upgradeEncoding(activeUser.getPassword())).thenReturn(true);
+        when(passwordEncoder.encode("password123")).thenReturn("new-hash");
+        when(passwordHashingExecutor.submit(any())).thenAnswer(
+                invocation -> CompletableFuture.completedFuture(invocation.<Supplier<?>>getArgument(0).get()));
+
+        authService.rehashPasswordIfOutdated(activeUser, "password123");
+
+        verify(userService).rehashPassword(activeUser, "new-hash");
+    }
+
+    @Test
+    @DisplayName("Should not rehash password when its encoding is current")
+    void shouldNotRehashPasswordWhenItsEncodingIsCurrent() {
+        when(passwordEncoder.upgradeEncoding(activeUser.getPassword())).thenReturn(false);
+
+        authService.rehashPasswordIfOutdated(activeUser, "password123");
+
+        verify(passwordHashingExecutor, never()).submit(any());
+        verify(userService, never()).rehashPassword(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should skip rehash without failing login when hashing is saturated")
+    void shouldSkipRehashWithoutFailingLoginWhenHashingIsSaturated() {
+        when(passwordEncoder.upgradeEncoding(activeUser.getPassword())).thenReturn(true);
+        when(passwordHashingExecutor.submit(any())).thenThrow(new PasswordHashingBusyException());
+
+        authService.rehashPasswordIfOutdated(activeUser, "password123");
+
+        verify(userService, never()).rehashPassword(any(), any());
+        assertEquals(1.0, skippedRehashes("busy"));
+    }
+
+    @Test
+    @DisplayName("Should count a rehash that fails in the background")
+    void shouldCountARehashThatFailsInTheBackground() {
+        when(passwordEncoder.upgradeEncoding(activeUser.getPassword())).thenReturn(true);
+        when(passwordEncoder.encode("password123")).thenReturn("new-hash");
+        when(userService.rehashPassword(activeUser, "new-hash")).thenThrow(new IllegalStateException("boom"));
+        when(passwordHashingExecutor.submit(any())).thenAnswer(
+                invocation -> CompletableFuture.supplyAsync(invocation.<Supplier<?>>getArgument(0), Runnable::run));
+
+        authService.rehashPasswordIfOutdated(activeUser, "password123");
+
+        assertEquals(1.0, skippedRehashes("failed"));
+        assertEquals(0.0, skippedRehashes("busy"));
+    }
+
+    private double skippedRehashes(String reason) {
+        return meterRegistry.counter("auth.password.rehash.skipped", "reason", reason).count();
+    }
+}
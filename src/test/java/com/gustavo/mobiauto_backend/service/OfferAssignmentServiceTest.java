@@ -0,0 +1,280 @@
+package com.gustavo.mobiauto_backend.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import com.gustavo.mobiauto_backend.infra.repositories.OfferRepository;
+import com.gustavo.mobiauto_backend.infra.repositories.StoreAssistantRepository;
+import com.gustavo.mobiauto_backend.model.offer.Offer;
+import com.gustavo.mobiauto_backend.model.offer.OfferStatus;
+import com.gustavo.mobiauto_backend.model.store.Store;
+import com.gustavo.mobiauto_backend.model.store.StoreAssistant;
+import com.gustavo.mobiauto_backend.model.user.User;
+import com.gustavo.mobiauto_backend.model.vehicle.VehicleType;
+import com.gustavo.mobiauto_backend.service.events.OfferSavedEvent;
+import com.gustavo.mobiauto_backend.service.events.UserSavedEvent;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OfferAssignmentService Tests")
+class OfferAssignmentServiceTest {
+
+    private static final Long STORE_ID = 1L;
+
+    @Mock
+    private StoreAssistantRepository storeAssistantRepository;
+
+    @Mock
+    private OfferRepository offerRepository;
+
+    private OfferAssignmentService offerAssignmentService;
+    private Store store;
+    private User client;
+    private final Map<Long, StoreAssistant> assistants = new HashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        offerAssignmentService = new OfferAssignmentService(storeAssistantRepository, offerRepository);
+        store = new Store("Test Store", "11.222.333/0001-81");
+        ReflectionTestUtils.setField(store, "id", STORE_ID);
+        client = new User("Client", "Buyer", "client@example.com", "password");
+        lenient().when(storeAssistantRepository.findById(any()))
+                .thenAnswer(invocation -> Optional.ofNullable(assistants.get(invocation.<Long>getArgument(0))));
+    }
+
+    @Test
+    @DisplayName("Should assign to the assistant with fewest attended offers")
+    void shouldAssignToTheAssistantWithFewestAttendedOffers() {
+        when(offerRepository.findAssignedIdsByStatus(OfferStatus.ATTENDED)).thenReturn(List.of(
+                new Object[] { 100L, STORE_ID, 10L },
+                new Object[] { 101L, STORE_ID, 10L },
+                new Object[] { 102L, STORE_ID, 20L }));
+        when(storeAssistantRepository.findAllAvailable()).thenReturn(List.of(
+                assistant(1L, 10L, null), assistant(2L, 20L, null), assistant(3L, 30L, Instant.now())));
+        offerAssignmentService.rebuild();
+
+        assertEquals(30L, assign().getAssistant().getId());
+    }
+
+    @Test
+    @DisplayName("Should break ties by the longest time since last assignment")
+    void shouldBreakTiesByTheLongestTimeSinceLastAssignment() {
+        Instant now = Instant.now();
+        when(storeAssistantRepository.findAllAvailable()).thenReturn(List.of(
+                assistant(1L, 10L, now.minusSeconds(10)),
+                assistant(2L, 20L, now.minusSeconds(60)),
+                assistant(3L, 30L, null)));
+        offerAssignmentService.rebuild();
+
+        List<Long> assigned = List.of(
+                assign().getAssistant().getId(),
+                assign().getAssistant().getId(),
+                assign().getAssistant().getId(),
+                assign().getAssistant().getId());
+
+        assertEquals(List.of(30L, 20L, 10L, 30L), assigned);
+    }
+
+    @Test
+    @DisplayName("Should stop sending offers to an assistant whose attended count grows")
+    void shouldStopSendingOffersToAnAssistantWhoseAttendedCountGrows() {
+        when(storeAssistantRepository.findAllAvailable()).thenReturn(List.of(
+                assistant(1L, 10L, null), assistant(2L, 20L, Instant.now())));
+        offerAssignmentService.rebuild();
+
+        offerAssignmentService.onOfferSaved(attended(100L, 10L, true));
+        assertEquals(20L, assign().getAssistant().getId());
+
+        offerAssignmentService.onOfferSaved(attended(100L, 10L, false));
+        assertEquals(10L, assign().getAssistant().getId());
+    }
+
+    @Test
+    @DisplayName("Should move attended count to the new assistant on reassignment")
+    void shouldMoveAttendedCountToTheNewAssistantOnReassignment() {
+        when(offerRepository.findAssignedIdsByStatus(OfferStatus.ATTENDED)).thenReturn(List.<Object[]>of(
+                new Object[] { 100L, STORE_ID, 20L }));
+        when(storeAssistantRepository.findAllAvailable()).thenReturn(List.of(
+                assistant(1L, 10L, null), assistant(2L, 20L, null)));
+        offerAssignmentService.rebuild();
+
+        offerAssignmentService.reassigned(attendedOffer(100L), 20L, 10L);
+        offerAssignmentService.onOfferSaved(attended(100L, 20L, true));
+
+        assertEquals(20L, assign().getAssistant().getId());
+    }
+
+    @Test
+    @DisplayName("Should restore attended count when the reassignment rolls back")
+    void shouldRestoreAttendedCountWhenTheReassignmentRollsBack() {
+        when(offerRepository.findAssignedIdsByStatus(OfferStatus.ATTENDED)).thenReturn(List.<Object[]>of(
+                new Object[] { 100L, STORE_ID, 20L }));
+        when(storeAssistantRepository.findAllAvailable()).thenReturn(List.of(
+                assistant(1L, 10L, null), assistant(2L, 20L, Instant.now())));
+        offerAssignmentService.rebuild();
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            offerAssignmentService.reassigned(attendedOffer(100L), 20L, 10L);
+
+            TransactionSynchronizationUtils.invokeAfterCompletion(
+                    TransactionSynchronizationManager.getSynchronizations(),
+                    TransactionSynchronization.STATUS_ROLLED_BACK);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertEquals(10L, assign().getAssistant().getId());
+    }
+
+    @Test
+    @DisplayName("Should give the turn back when the assignment rolls back")
+    void shouldGiveTheTurnBackWhenTheAssignmentRollsBack() {
+        Instant now = Instant.now();
+        when(storeAssistantRepository.findAllAvailable()).thenReturn(List.of(
+                assistant(1L, 10L, now.minusSeconds(60)), assistant(2L, 20L, now.minusSeconds(10))));
+        offerAssignmentService.rebuild();
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            assertEquals(10L, assign().getAssistant().getId());
+
+            TransactionSynchronizationUtils.invokeAfterCompletion(
+                    TransactionSynchronizationManager.getSynchronizations(),
+                    TransactionSynchronization.STATUS_ROLLED_BACK);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertEquals(10L, assign().getAssistant().getId());
+        assertEquals(20L, assign().getAssistant().getId());
+    }
+
+    @Test
+    @DisplayName("Should skip and drop assistants whose user was deactivated")
+    void shouldSkipAndDropAssistantsWhoseUserWasDeactivated() {
+        StoreAssistant inactive = assistant(1L, 10L, null);
+        inactive.getUser().setActive(false);
+        when(storeAssistantRepository.findAllAvailable()).thenReturn(List.of(inactive, assistant(2L, 20L, null)));
+        offerAssignmentService.rebuild();
+
+        assertEquals(20L, assign().getAssistant().getId());
+        assertEquals(20L, assign().getAssistant().getId());
+    }
+
+    @Test
+    @DisplayName("Should put an assistant back in the queue when their user is reactivated")
+    void shouldPutAnAssistantBackInTheQueueWhenTheirUserIsReactivated() {
+        StoreAssistant inactive = assistant(1L, 10L, null);
+        inactive.getUser().setActive(false);
+        when(storeAssistantRepository.findAllAvailable()).thenReturn(List.of(inactive, assistant(2L, 20L, null)));
+        offerAssignmentService.rebuild();
+        assertEquals(20L, assign().getAssistant().getId());
+
+        inactive.getUser().setActive(true);
+        when(storeAssistantRepository.findAvailableByUser(10L)).thenReturn(List.of(inactive));
+        offerAssignmentService.onUserSaved(new UserSavedEvent(10L, true));
+
+        assertEquals(10L, assign().getAssistant().getId());
+    }
+
+    @Test
+    @DisplayName("Should stop assigning to an assistant whose user is deactivated")
+    void shouldStopAssigningToAnAssistantWhoseUserIsDeactivated() {
+        when(storeAssistantRepository.findAllAvailable()).thenReturn(List.of(
+                assistant(1L, 10L, null), assistant(2L, 20L, Instant.now())));
+        offerAssignmentService.rebuild();
+
+        offerAssignmentService.onUserSaved(new UserSavedEvent(10L, false));
+
+        assertEquals(20L, assign().getAssistant().getId());
+        assertEquals(20L, assign().getAssistant().getId());
+    }
+
+    @Test
+    @DisplayName("Should leave offer unassigned when store has no assistants")
+    void shouldLeaveOfferUnassignedWhenStoreHasNoAssistants() {
+        assertNull(assign().getAssistant());
+    }
+
+    @Test
+    @DisplayName("Should spread concurrent assignments evenly")
+    void shouldSpreadConcurrentAssignmentsEvenly() throws Exception {
+        when(storeAssistantRepository.findAllAvailable()).thenReturn(List.of(
+                assistant(1L, 10L, null), assistant(2L, 20L, null), assistant(3L, 30L, null),
+                assistant(4L, 40L, null)));
+        offerAssignmentService.rebuild();
+
+        Map<Long, AtomicLong> counts = new ConcurrentHashMap<>();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 400; i++) {
+                futures.add(executor.submit(() -> counts
+                        .computeIfAbsent(assign().getAssistant().getId(), id -> new AtomicLong())
+                        .incrementAndGet()));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals(4, counts.size());
+        counts.values().forEach(count -> assertEquals(100, count.get(), 1));
+    }
+
+    private Offer assign() {
+        Offer offer = new Offer(client, null, store);
+        offerAssignmentService.assign(offer);
+        return offer;
+    }
+
+    private Offer attendedOffer(Long id) {
+        Offer offer = new Offer(OfferStatus.ATTENDED, null, null, store);
+        ReflectionTestUtils.setField(offer, "id", id);
+        return offer;
+    }
+
+    private StoreAssistant assistant(Long id, Long userId, Instant lastAssignedAt) {
+        User user = new User("Assistant", "Number" + (char) ('A' + userId / 10), "assistant" + userId + "@example.com",
+                "password");
+        user.setId(userId);
+        StoreAssistant assistant = new StoreAssistant(store, user);
+        ReflectionTestUtils.setField(assistant, "id", id);
+        assistant.setLastAssignedAt(lastAssignedAt);
+        assistants.put(id, assistant);
+        return assistant;
+    }
+
+    private static OfferSavedEvent attended(Long offerId, Long assistantId, boolean active) {
+        return new OfferSavedEvent(offerId, offerId, STORE_ID, assistantId, active, OfferStatus.ATTENDED,
+                VehicleType.CAR, 2022, "Black");
+    }
+}
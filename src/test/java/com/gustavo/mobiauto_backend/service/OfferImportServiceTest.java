@@ -0,0 +1,193 @@
+package com.gustavo.mobiauto_backend.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gustavo.mobiauto_backend.controller.dto.OfferImportResultDto;
+import com.gustavo.mobiauto_backend.controller.dto.OfferImportResultDto.Status;
+import com.gustavo.mobiauto_backend.infra.outbox.Outbox;
+import com.gustavo.mobiauto_backend.infra.repositories.OfferRepository;
+import com.gustavo.mobiauto_backend.infra.repositories.VehicleRepository;
+import com.gustavo.mobiauto_backend.model.offer.Offer;
+import com.gustavo.mobiauto_backend.model.store.Store;
+import com.gustavo.mobiauto_backend.model.user.User;
+import com.gustavo.mobiauto_backend.service.exceptions.DeactivatedStoreException;
+
+import jakarta.persistence.EntityManager;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OfferImportService Tests")
+class OfferImportServiceTest {
+
+    @Mock
+    private StoreService storeService;
+
+    @Mock
+    private UserService userService;
+
+    @Mock
+    private VehicleRepository vehicleRepository;
+
+    @Mock
+    private OfferAssignmentService offerAssignmentService;
+
+    @Mock
+    private OfferRepository offerRepository;
+
+    @Mock
+    private Outbox outbox;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private EntityManager entityManager;
+
+    private OfferImportService offerImportService;
+    private Store testStore;
+    private User testUser;
+
+    private static final Long STORE_ID = 1L;
+    private static final Long USER_ID = 1L;
+    private static final String VALID_ROW = "{\"clientId\":1,\"type\":\"car\",\"model\":\"Civic\",\"releaseYear\":2020,\"color\":\"Black\"}";
+
+    @BeforeEach
+    void setUp() {
+        ApplicationEventPublisher eventPublisher = event -> {
+        };
+        offerImportService = new OfferImportService(storeService, userService,
+                new VehicleService(vehicleRepository, eventPublisher), offerAssignmentService, offerRepository,
+                outbox, new ObjectMapper(), eventPublisher, entityManager, transactionManager, 2);
+
+        testStore = new Store("Test Store", "11.222.333/0001-81");
+        testUser = new User("John", "Doe", "john.doe@example.com", "password123");
+        testUser.setId(USER_ID);
+    }
+
+    @Test
+    @DisplayName("Should import rows in chunks and report created offers in row order")
+    void shouldImportRowsInChunksAndReportCreatedOffersInRowOrder() throws Exception {
+        when(userService.findUsers(anyCollection())).thenReturn(List.of(testUser));
+        AtomicLong ids = new AtomicLong();
+        when(offerRepository.saveAll(any())).thenAnswer(invocation -> {
+            List<Offer> offers = invocation.getArgument(0);
+            offers.forEach(offer -> offer.setId(ids.incrementAndGet()));
+            return offers;
+        });
+
+        List<OfferImportResultDto> results = importRows(VALID_ROW + "\n" + VALID_ROW + "\n\n" + VALID_ROW + "\n");
+
+        assertEquals(List.of(
+                OfferImportResultDto.created(1, 1L),
+                OfferImportResultDto.created(2, 2L),
+                OfferImportResultDto.created(3, 3L)), results);
+        verify(userService, times(2)).findUsers(anyCollection());
+        verify(vehicleRepository, times(2)).saveAll(any());
+        verify(offerRepository, times(2)).saveAll(any());
+        verify(entityManager, times(2)).clear();
+    }
+
+    @Test
+    @DisplayName("Should reject invalid rows without failing the rest of the chunk")
+    void shouldRejectInvalidRowsWithoutFailingTheRestOfTheChunk() throws Exception {
+        when(userService.findUsers(anyCollection())).thenReturn(List.of(testUser));
+        when(offerRepository.saveAll(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        List<OfferImportResultDto> results = importRows(String.join("\n",
+                "not json",
+                VALID_ROW.replace("\"clientId\":1", "\"clientId\":99"),
+                VALID_ROW.replace("\"model\":\"Civic\",", ""),
+                VALID_ROW));
+
+        assertEquals(Status.REJECTED, results.get(0).getStatus());
+        assertEquals(OfferImportResultDto.rejected(2, "User with id 99 not found."), results.get(1));
+        assertEquals(OfferImportResultDto.rejected(3, "Vehicle model cannot be null or empty"), results.get(2));
+        assertEquals(Status.CREATED, results.get(3).getStatus());
+    }
+
+    @Test
+    @DisplayName("Should reject rows whose client is deactivated")
+    void shouldRejectRowsWhoseClientIsDeactivated() throws Exception {
+        testUser.setActive(false);
+        when(userService.findUsers(anyCollection())).thenReturn(List.of(testUser));
+
+        List<OfferImportResultDto> results = importRows(VALID_ROW);
+
+        assertEquals(List.of(OfferImportResultDto.rejected(1, "User with id 1 is deactivated.")), results);
+        verify(offerRepository, never()).saveAll(any());
+    }
+
+    @Test
+    @DisplayName("Should retry a failed chunk row by row and reject only the row that fails")
+    void shouldRetryAFailedChunkRowByRowAndRejectOnlyTheRowThatFails() throws Exception {
+        when(userService.findUsers(anyCollection())).thenReturn(List.of(testUser));
+        AtomicLong ids = new AtomicLong();
+        when(offerRepository.saveAll(any())).thenAnswer(invocation -> {
+            List<Offer> offers = invocation.getArgument(0);
+            if (offers.stream().anyMatch(offer -> offer.getVehicle().getModel().getValue().equals("Poison"))) {
+                throw new DataIntegrityViolationException("could not execute statement [insert into offers ...]");
+            }
+            offers.forEach(offer -> offer.setId(ids.incrementAndGet()));
+            return offers;
+        });
+
+        List<OfferImportResultDto> results = importRows(
+                VALID_ROW + "\n" + VALID_ROW.replace("Civic", "Poison") + "\n");
+
+        assertEquals(List.of(
+                OfferImportResultDto.created(1, 1L),
+                OfferImportResultDto.rejected(2, "Failed to persist row")), results);
+        verify(offerRepository, times(3)).saveAll(any());
+    }
+
+    @Test
+    @DisplayName("Should keep reporting rows when persisting fails with an unexpected exception")
+    void shouldKeepReportingRowsWhenPersistingFailsWithAnUnexpectedException() throws Exception {
+        when(userService.findUsers(anyCollection())).thenReturn(List.of(testUser));
+        when(offerRepository.saveAll(any())).thenThrow(new IllegalStateException("listener failed"));
+
+        List<OfferImportResultDto> results = importRows(VALID_ROW + "\n" + VALID_ROW + "\n" + VALID_ROW);
+
+        assertEquals(List.of(
+                OfferImportResultDto.rejected(1, "Failed to persist row"),
+                OfferImportResultDto.rejected(2, "Failed to persist row"),
+                OfferImportResultDto.rejected(3, "Failed to persist row")), results);
+    }
+
+    @Test
+    @DisplayName("Should refuse to import into a deactivated store")
+    void shouldRefuseToImportIntoADeactivatedStore() {
+        testStore.setActive(false);
+        when(storeService.getStore(STORE_ID)).thenReturn(testStore);
+
+        assertThrows(DeactivatedStoreException.class, () -> offerImportService.resolveStore(STORE_ID));
+    }
+
+    private List<OfferImportResultDto> importRows(String ndjson) throws Exception {
+        List<OfferImportResultDto> results = new ArrayList<>();
+        offerImportService.importOffers(testStore, new StringReader(ndjson), results::addAll);
+        return results;
+    }
+}
@@ -6,6 +6,7 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.atLeast;
 import static org.mockito.Mockito.never;
@@ -14,20 +15,38 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import com.gustavo.mobiauto_backend.common.helpers.Pagination;
+import com.gustavo.mobiauto_backend.controller.requests.OfferFacetRequest;
+import com.gustavo.mobiauto_backend.controller.requests.OfferSearchRequest;
 import com.gustavo.mobiauto_backend.controller.requests.VehicleRequest;
+import com.gustavo.mobiauto_backend.infra.cache.LookupCaches;
 import com.gustavo.mobiauto_backend.infra.exceptions.OfferNotFoundException;
+import com.gustavo.mobiauto_backend.infra.outbox.Outbox;
 import com.gustavo.mobiauto_backend.infra.repositories.OfferRepository;
+import com.gustavo.mobiauto_backend.infra.search.OfferFacetIndex;
+import com.gustavo.mobiauto_backend.infra.search.OfferFacetIndex.FacetFilter;
+import com.gustavo.mobiauto_backend.infra.search.VehicleModelSearch;
 import com.gustavo.mobiauto_backend.model.offer.Offer;
+import com.gustavo.mobiauto_backend.model.offer.OfferEventType;
+import com.gustavo.mobiauto_backend.model.offer.OfferSnapshot;
 import com.gustavo.mobiauto_backend.model.offer.OfferStatus;
 import com.gustavo.mobiauto_backend.model.store.Store;
 import com.gustavo.mobiauto_backend.model.user.User;
@@ -36,9 +55,16 @@ import com.gustavo.mobiauto_backend.model.vehicle.VehicleColor;
 import com.gustavo.mobiauto_backend.model.vehicle.VehicleModel;
 import com.gustavo.mobiauto_backend.model.vehicle.VehicleReleaseYear;
 import com.gustavo.mobiauto_backend.model.vehicle.VehicleType;
+import com.gustavo.mobiauto_backend.service.events.OfferChangedEvent;
+import com.gustavo.mobiauto_backend.service.events.OfferSavedEvent;
+import com.gustavo.mobiauto_backend.service.events.OfferStatusChangedEvent;
 import com.gustavo.mobiauto_backend.service.exceptions.AlreadyActiveException;
 import com.gustavo.mobiauto_backend.service.exceptions.AlreadyDeactivatedException;
+import com.gustavo.mobiauto_backend.service.exceptions.AssistantMismatchException;
 import com.gustavo.mobiauto_backend.service.exceptions.DeactivatedOfferException;
+import com.gustavo.mobiauto_backend.service.exceptions.DeactivatedStoreException;
+import com.gustavo.mobiauto_backend.service.exceptions.InvalidStatusTransitionException;
+import com.gustavo.mobiauto_backend.service.exceptions.VersionMismatchException;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("OfferService Tests")
@@ -56,6 +82,27 @@ class OfferServiceTest {
     @Mock
     private VehicleService vehicleService;
 
+    @Mock
+    private VehicleModelSearch vehicleModelSearch;
+
+    @Mock
+    private OfferFacetIndex offerFacetIndex;
+
+    @Mock
+    private OfferAssignmentService offerAssignmentService;
+
+    @Mock
+    private OfferSlaService offerSlaService;
+
+    @Mock
+    private Outbox outbox;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private LookupCaches lookupCaches;
+
     @InjectMocks
     private OfferService offerService;
 
@@ -124,7 +171,9 @@ class OfferServiceTest {
         verify(storeService).getStore(STORE_ID);
         verify(userService).findUser(USER_ID);
         verify(vehicleService).createVehicle(validVehicleRequest);
+        verify(offerAssignmentService).assign(any(Offer.class));
         verify(offerRepository).save(any(Offer.class));
+        verify(outbox).append(eq("offer"), eq(OFFER_ID), eq("OfferRegistered"), any(OfferSnapshot.class));
     }
 
     @Test
@@ -143,6 +192,95 @@ class OfferServiceTest {
         verify(offerRepository).findById(OFFER_ID);
     }
 
+    @Test
+    @DisplayName("Should search offers with parsed filters")
+    void shouldSearchOffersWithParsedFilters() {
+        OfferSearchRequest request = new OfferSearchRequest();
+        request.setStatus("new");
+        request.setType("car");
+        when(offerRepository.findBy(ArgumentMatchers.<Specification<Offer>>any(), any())).thenReturn(List.of(testOffer));
+
+        List<Offer> result = offerService.searchOffers(request, null, 10, Sort.Direction.ASC);
+
+        assertEquals(List.of(testOffer), result);
+    }
+
+    @Test
+    @DisplayName("Should reject unknown offer status filter")
+    void shouldRejectUnknownOfferStatusFilter() {
+        OfferSearchRequest request = new OfferSearchRequest();
+        request.setStatus("sold");
+
+        assertThrows(IllegalArgumentException.class,
+                () -> offerService.searchOffers(request, null, 10, Sort.Direction.ASC));
+        verify(offerRepository, never()).findBy(ArgumentMatchers.<Specification<Offer>>any(), any());
+    }
+
+    @Test
+    @DisplayName("Should reject search page size above the maximum")
+    void shouldRejectSearchPageSizeAboveTheMaximum() {
+        assertThrows(IllegalArgumentException.class, () -> offerService.searchOffers(
+                new OfferSearchRequest(), null, Pagination.MAX_PAGE_SIZE + 1, Sort.Direction.ASC));
+    }
+
+    @Test
+    @DisplayName("Should return model search results in ranking order")
+    void shouldReturnModelSearchResultsInRankingOrder() throws Exception {
+        Offer secondOffer = new Offer(testUser, updatedVehicle, testStore);
+        setOfferId(secondOffer, 2L);
+        when(vehicleModelSearch.searchActiveOfferIds("civic", 10)).thenReturn(List.of(2L, OFFER_ID));
+        when(offerRepository.findAllWithDetailsByIdIn(List.of(2L, OFFER_ID)))
+                .thenReturn(List.of(testOffer, secondOffer));
+
+        List<Offer> result = offerService.searchOffersByModel("  Civic ", 10);
+
+        assertEquals(List.of(secondOffer, testOffer), result);
+    }
+
+    @Test
+    @DisplayName("Should reject blank model search term")
+    void shouldRejectBlankModelSearchTerm() {
+        assertThrows(IllegalArgumentException.class, () -> offerService.searchOffersByModel(" ", 10));
+        verify(vehicleModelSearch, never()).searchActiveOfferIds(any(), eq(10));
+    }
+
+    @Test
+    @DisplayName("Should count facets with the parsed vehicle type")
+    void shouldCountFacetsWithTheParsedVehicleType() {
+        OfferFacetRequest request = new OfferFacetRequest();
+        request.setType("car");
+        request.setReleaseYear(2022);
+
+        offerService.getOfferFacets(request);
+
+        verify(offerFacetIndex).count(new FacetFilter(VehicleType.CAR, 2022, null));
+    }
+
+    @Test
+    @DisplayName("Should publish saved event when offer is deactivated")
+    void shouldPublishSavedEventWhenOfferIsDeactivated() {
+        when(offerRepository.findById(OFFER_ID)).thenReturn(Optional.of(testOffer));
+        when(offerRepository.save(testOffer)).thenReturn(testOffer);
+
+        offerService.deactivateOffer(OFFER_ID);
+
+        verify(eventPublisher).publishEvent(new OfferSavedEvent(OFFER_ID, VEHICLE_ID, STORE_ID, null, false,
+                OfferStatus.NEW, VehicleType.CAR, 2023, "Blue"));
+        verify(eventPublisher).publishEvent(argThat((Object event) -> event instanceof OfferChangedEvent changed
+                && changed.type() == OfferEventType.DEACTIVATED && !changed.snapshot().active()));
+    }
+
+    @Test
+    @DisplayName("Should get offers by id list with a single query")
+    void shouldGetOffersByIdListWithASingleQuery() {
+        when(offerRepository.findAllWithDetailsByIdIn(List.of(OFFER_ID, 999L))).thenReturn(List.of(testOffer));
+
+        List<Offer> result = offerService.getOffers(List.of(OFFER_ID, 999L));
+
+        assertEquals(List.of(testOffer), result);
+        verify(offerRepository, never()).findById(any());
+    }
+
     @Test
     @DisplayName("Should throw OfferNotFoundException when offer does not exist")
     void shouldThrowOfferNotFoundExceptionWhenOfferDoesNotExist() {
@@ -158,6 +296,46 @@ class OfferServiceTest {
         verify(offerRepository).findById(nonExistentId);
     }
 
+    @Test
+    @DisplayName("Should stream active offers of an active store")
+    void shouldStreamActiveOffersOfAnActiveStore() {
+        List<Offer> streamed = new ArrayList<>();
+        when(storeService.getStore(STORE_ID)).thenReturn(testStore);
+        when(offerRepository.streamActiveByStore(STORE_ID, 0L, Limit.of(20))).thenReturn(Stream.of(testOffer));
+
+        offerService.streamActiveOffers(STORE_ID, null, 20, offers -> offers.forEach(streamed::add));
+
+        assertEquals(List.of(testOffer), streamed);
+        verify(offerRepository).streamActiveByStore(STORE_ID, 0L, Limit.of(20));
+    }
+
+    @Test
+    @DisplayName("Should throw DeactivatedStoreException when streaming offers of an inactive store")
+    void shouldThrowDeactivatedStoreExceptionWhenStreamingOffersOfAnInactiveStore() {
+        testStore.setActive(false);
+        when(storeService.getStore(STORE_ID)).thenReturn(testStore);
+
+        assertThrows(
+                DeactivatedStoreException.class,
+                () -> offerService.streamActiveOffers(STORE_ID, null, 20, offers -> {
+                }));
+
+        verify(offerRepository, never()).streamActiveByStore(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should reject page limits outside the allowed range when streaming offers")
+    void shouldRejectPageLimitsOutsideTheAllowedRangeWhenStreamingOffers() {
+        when(storeService.getStore(STORE_ID)).thenReturn(testStore);
+
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> offerService.streamActiveOffers(STORE_ID, 10L, Pagination.MAX_PAGE_SIZE + 1, offers -> {
+                }));
+
+        verify(offerRepository, never()).streamActiveByStore(any(), any(), any());
+    }
+
     @Test
     @DisplayName("Should deactivate offer successfully")
     void shouldDeactivateOfferSuccessfully() {
@@ -212,7 +390,7 @@ class OfferServiceTest {
         updateRequest.setModel("Honda Civic");
         updateRequest.setColor("Red");
 
-        when(offerRepository.findById(OFFER_ID)).thenReturn(Optional.of(testOffer));
+        when(offerRepository.findForUpdateById(OFFER_ID)).thenReturn(Optional.of(testOffer));
         when(vehicleService.updateVehicle(VEHICLE_ID, updateRequest)).thenReturn(updatedVehicle);
         when(offerRepository.save(any(Offer.class))).thenReturn(testOffer);
 
@@ -221,11 +399,23 @@ class OfferServiceTest {
         assertNotNull(result);
         assertEquals(updatedVehicle, result.getVehicle());
 
-        verify(offerRepository).findById(OFFER_ID);
+        verify(offerRepository).findForUpdateById(OFFER_ID);
         verify(vehicleService).updateVehicle(VEHICLE_ID, updateRequest);
         verify(offerRepository).save(testOffer);
     }
 
+    @Test
+    @DisplayName("Should reject offer update when expected version is stale")
+    void shouldRejectOfferUpdateWhenExpectedVersionIsStale() {
+        VehicleRequest updateRequest = new VehicleRequest();
+        updateRequest.setModel("Honda Civic");
+        when(offerRepository.findForUpdateById(OFFER_ID)).thenReturn(Optional.of(testOffer));
+
+        assertThrows(VersionMismatchException.class, () -> offerService.updateOffer(OFFER_ID, updateRequest, 3L));
+        verify(vehicleService, never()).updateVehicle(any(Long.class), any(VehicleRequest.class));
+        verify(offerRepository, never()).save(any(Offer.class));
+    }
+
     @Test
     @DisplayName("Should throw DeactivatedOfferException when updating inactive offer")
     void shouldThrowDeactivatedOfferExceptionWhenUpdatingInactiveOffer() {
@@ -233,7 +423,7 @@ class OfferServiceTest {
         VehicleRequest updateRequest = new VehicleRequest();
         updateRequest.setModel("Honda Civic");
 
-        when(offerRepository.findById(OFFER_ID)).thenReturn(Optional.of(testOffer));
+        when(offerRepository.findForUpdateById(OFFER_ID)).thenReturn(Optional.of(testOffer));
 
         DeactivatedOfferException exception = assertThrows(
                 DeactivatedOfferException.class,
@@ -242,7 +432,7 @@ class OfferServiceTest {
         assertNotNull(exception);
         assertTrue(exception.getMessage().contains("Offer with ID " + OFFER_ID + " is deactivated"));
 
-        verify(offerRepository).findById(OFFER_ID);
+        verify(offerRepository).findForUpdateById(OFFER_ID);
         verify(vehicleService, never()).updateVehicle(any(Long.class), any(VehicleRequest.class));
         verify(offerRepository, never()).save(any(Offer.class));
     }
@@ -254,14 +444,14 @@ class OfferServiceTest {
         VehicleRequest updateRequest = new VehicleRequest();
         updateRequest.setModel("Honda Civic");
 
-        when(offerRepository.findById(nonExistentId)).thenReturn(Optional.empty());
+        when(offerRepository.findForUpdateById(nonExistentId)).thenReturn(Optional.empty());
 
         OfferNotFoundException exception = assertThrows(
                 OfferNotFoundException.class,
                 () -> offerService.updateOffer(nonExistentId, updateRequest));
 
         assertNotNull(exception);
-        verify(offerRepository).findById(nonExistentId);
+        verify(offerRepository).findForUpdateById(nonExistentId);
         verify(vehicleService, never()).updateVehicle(any(Long.class), any(VehicleRequest.class));
         verify(offerRepository, never()).save(any(Offer.class));
     }
@@ -282,6 +472,63 @@ class OfferServiceTest {
         verify(offerRepository).save(testOffer);
     }
 
+    @Test
+    @DisplayName("Should move offer to attended and publish the status change")
+    void shouldMoveOfferToAttendedAndPublishTheStatusChange() {
+        when(offerRepository.findForUpdateById(OFFER_ID)).thenReturn(Optional.of(testOffer));
+        when(offerRepository.save(testOffer)).thenReturn(testOffer);
+
+        Offer result = offerService.transitionOffer(OFFER_ID, "attended", null);
+
+        assertEquals(OfferStatus.ATTENDED, result.getStatus());
+        assertNotNull(result.getAttendedAt());
+        verify(eventPublisher).publishEvent(any(OfferStatusChangedEvent.class));
+        verify(eventPublisher).publishEvent(any(OfferSavedEvent.class));
+    }
+
+    @Test
+    @DisplayName("Should reject status transitions that skip or go back a step")
+    void shouldRejectStatusTransitionsThatSkipOrGoBackAStep() {
+        when(offerRepository.findForUpdateById(OFFER_ID)).thenReturn(Optional.of(testOffer));
+
+        assertThrows(InvalidStatusTransitionException.class,
+                () -> offerService.transitionOffer(OFFER_ID, "COMPLETED", null));
+
+        verify(offerRepository, never()).save(any(Offer.class));
+        verify(eventPublisher, never()).publishEvent(any(OfferStatusChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("Should reassign offer when the current assistant matches")
+    void shouldReassignOfferWhenTheCurrentAssistantMatches() throws Exception {
+        User assistant = new User("Jane", "Roe", "jane.roe@example.com", "password123");
+        setUserId(assistant, 2L);
+        when(offerRepository.findForUpdateById(OFFER_ID)).thenReturn(Optional.of(testOffer));
+        when(offerAssignmentService.getAvailableAssistant(STORE_ID, 2L)).thenReturn(assistant);
+        when(offerRepository.save(testOffer)).thenReturn(testOffer);
+
+        offerService.reassignOffer(OFFER_ID, null, 2L);
+
+        assertEquals(assistant, testOffer.getAssistant());
+        verify(offerAssignmentService).reassigned(testOffer, null, 2L);
+        verify(eventPublisher).publishEvent(any(OfferSavedEvent.class));
+    }
+
+    @Test
+    @DisplayName("Should reject reassignment when another manager moved the offer first")
+    void shouldRejectReassignmentWhenAnotherManagerMovedTheOfferFirst() throws Exception {
+        User assistant = new User("Jane", "Roe", "jane.roe@example.com", "password123");
+        setUserId(assistant, 2L);
+        when(offerRepository.findForUpdateById(OFFER_ID)).thenReturn(Optional.of(testOffer));
+
+        assertThrows(AssistantMismatchException.class, () -> offerService.reassignOffer(OFFER_ID, 3L, 2L));
+
+        verify(offerRepository, never()).save(any(Offer.class));
+
+        verify(offerAssignmentService, never()).reassigned(any(Offer.class), any(), any());
+        verify(eventPublisher, never()).publishEvent(any(OfferSavedEvent.class));
+    }
+
     @Test
     @DisplayName("Should throw AlreadyActiveException when offer is already active")
     void shouldThrowAlreadyActiveExceptionWhenOfferIsAlreadyActive() {
@@ -326,6 +573,7 @@ class OfferServiceTest {
 
         VehicleRequest updateRequest = new VehicleRequest();
         updateRequest.setColor("Green");
+        when(offerRepository.findForUpdateById(OFFER_ID)).thenReturn(Optional.of(testOffer));
         when(offerRepository.findById(OFFER_ID)).thenReturn(Optional.of(testOffer));
         when(vehicleService.updateVehicle(eq(VEHICLE_ID), any(VehicleRequest.class))).thenReturn(updatedVehicle);
 
@@ -340,7 +588,8 @@ class OfferServiceTest {
         verify(userService).findUser(USER_ID);
         verify(vehicleService).createVehicle(validVehicleRequest);
         verify(vehicleService).updateVehicle(eq(VEHICLE_ID), any(VehicleRequest.class));
-        verify(offerRepository, atLeast(3)).findById(OFFER_ID);
+        verify(offerRepository).findForUpdateById(OFFER_ID);
+        verify(offerRepository, atLeast(2)).findById(OFFER_ID);
         verify(offerRepository, atLeast(4)).save(any(Offer.class));
     }
 
@@ -428,7 +677,7 @@ class OfferServiceTest {
         VehicleRequest minimalUpdate = new VehicleRequest();
         minimalUpdate.setColor("White");
 
-        when(offerRepository.findById(OFFER_ID)).thenReturn(Optional.of(testOffer));
+        when(offerRepository.findForUpdateById(OFFER_ID)).thenReturn(Optional.of(testOffer));
         when(vehicleService.updateVehicle(VEHICLE_ID, minimalUpdate)).thenReturn(testVehicle);
         when(offerRepository.save(any(Offer.class))).thenReturn(testOffer);
 
@@ -0,0 +1,117 @@
+package com.gustavo.mobiauto_backend.service;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.gustavo.mobiauto_backend.infra.repositories.OfferRepository;
+import com.gustavo.mobiauto_backend.model.offer.OfferStatus;
+import com.gustavo.mobiauto_backend.service.OfferSlaService.StoreSlaSnapshot;
+import com.gustavo.mobiauto_backend.service.events.OfferStatusChangedEvent;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OfferSlaService Tests")
+class OfferSlaServiceTest {
+
+    private static final Long STORE_ID = 1L;
+    private static final Instant CREATED_AT = Instant.parse("2025-01-01T10:00:00Z");
+
+    @Mock
+    private OfferRepository offerRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private OfferSlaService offerSlaService;
+
+    @BeforeEach
+    void setUp() {
+        offerSlaService = new OfferSlaService(offerRepository, transactionManager, Duration.ZERO);
+    }
+
+    @Test
+    @DisplayName("Should bucket status changes by time since the offer was created")
+    void shouldBucketStatusChangesByTimeSinceTheOfferWasCreated() {
+        offerSlaService.onStatusChanged(changed(1L, OfferStatus.ATTENDED, Duration.ofMinutes(2)));
+        offerSlaService.onStatusChanged(changed(2L, OfferStatus.ATTENDED, Duration.ofMinutes(5)));
+        offerSlaService.onStatusChanged(changed(3L, OfferStatus.ATTENDED, Duration.ofDays(10)));
+        offerSlaService.onStatusChanged(changed(1L, OfferStatus.COMPLETED, Duration.ofHours(2)));
+
+        StoreSlaSnapshot snapshot = offerSlaService.snapshot(STORE_ID);
+
+        assertEquals(3, snapshot.firstAttendance().count());
+        assertArrayEquals(new long[] { 2, 0, 0, 0, 0, 0, 0, 0, 1 }, snapshot.firstAttendance().buckets());
+        assertEquals(1, snapshot.completion().count());
+        assertEquals(Duration.ofHours(2).toSeconds(), snapshot.completion().totalSeconds());
+        assertArrayEquals(new long[] { 0, 0, 0, 1, 0, 0, 0, 0, 0 }, snapshot.completion().buckets());
+    }
+
+    @Test
+    @DisplayName("Should ignore offers created before timestamps were recorded")
+    void shouldIgnoreOffersCreatedBeforeTimestampsWereRecorded() {
+        offerSlaService.onStatusChanged(
+                new OfferStatusChangedEvent(1L, STORE_ID, OfferStatus.ATTENDED, null, CREATED_AT));
+
+        assertEquals(0, offerSlaService.snapshot(STORE_ID).firstAttendance().count());
+    }
+
+    @Test
+    @DisplayName("Should rebuild histograms from stored transition times")
+    void shouldRebuildHistogramsFromStoredTransitionTimes() {
+        when(offerRepository.streamSlaRows()).thenReturn(Stream.of(
+                new Object[] { 1L, STORE_ID, CREATED_AT, CREATED_AT.plusSeconds(30), CREATED_AT.plusSeconds(3600) },
+                new Object[] { 2L, STORE_ID, CREATED_AT, CREATED_AT.plusSeconds(7200), null },
+                new Object[] { 3L, 2L, CREATED_AT, CREATED_AT.plusSeconds(60), null }));
+
+        offerSlaService.rebuild();
+        StoreSlaSnapshot snapshot = offerSlaService.snapshot(STORE_ID);
+
+        verify(offerRepository).streamSlaRows();
+        assertEquals(2, snapshot.firstAttendance().count());
+        assertEquals(1, snapshot.completion().count());
+        assertEquals(1, offerSlaService.snapshot(2L).firstAttendance().count());
+        assertEquals(0, offerSlaService.snapshot(3L).firstAttendance().count());
+    }
+
+    @Test
+    @DisplayName("Should keep serving and replay changes committed while rebuilding without counting them twice")
+    void shouldKeepServingAndReplayChangesCommittedWhileRebuildingWithoutCountingThemTwice() {
+        Instant createdAt = Instant.now().minusSeconds(120);
+        Instant attendedAt = Instant.now();
+        offerSlaService.onStatusChanged(changed(1L, OfferStatus.ATTENDED, Duration.ofMinutes(2)));
+        when(offerRepository.streamSlaRows()).thenAnswer(invocation -> {
+            assertEquals(1, offerSlaService.snapshot(STORE_ID).firstAttendance().count());
+            offerSlaService.onStatusChanged(
+                    new OfferStatusChangedEvent(5L, STORE_ID, OfferStatus.ATTENDED, createdAt, attendedAt));
+            offerSlaService.onStatusChanged(
+                    new OfferStatusChangedEvent(6L, STORE_ID, OfferStatus.ATTENDED, createdAt, attendedAt));
+            return Stream.<Object[]>of(
+                    new Object[] { 1L, STORE_ID, CREATED_AT, CREATED_AT.plusSeconds(120), null },
+                    new Object[] { 5L, STORE_ID, createdAt, attendedAt, null });
+        });
+
+        offerSlaService.rebuild();
+        StoreSlaSnapshot snapshot = offerSlaService.snapshot(STORE_ID);
+
+        assertEquals(3, snapshot.firstAttendance().count());
+        assertArrayEquals(new long[] { 3, 0, 0, 0, 0, 0, 0, 0, 0 }, snapshot.firstAttendance().buckets());
+    }
+
+    private static OfferStatusChangedEvent changed(Long offerId, OfferStatus status, Duration after) {
+        return new OfferStatusChangedEvent(offerId, STORE_ID, status, CREATED_AT, CREATED_AT.plus(after));
+    }
+}
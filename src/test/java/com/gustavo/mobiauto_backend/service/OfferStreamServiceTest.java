@@ -0,0 +1,274 @@
+package com.gustavo.mobiauto_backend.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.gustavo.mobiauto_backend.infra.exceptions.StoreNotFoundException;
+import com.gustavo.mobiauto_backend.infra.repositories.OfferRepository;
+import com.gustavo.mobiauto_backend.model.offer.Offer;
+import com.gustavo.mobiauto_backend.model.offer.OfferEventType;
+import com.gustavo.mobiauto_backend.model.store.Store;
+import com.gustavo.mobiauto_backend.model.user.User;
+import com.gustavo.mobiauto_backend.model.vehicle.Vehicle;
+import com.gustavo.mobiauto_backend.model.vehicle.VehicleColor;
+import com.gustavo.mobiauto_backend.model.vehicle.VehicleModel;
+import com.gustavo.mobiauto_backend.model.vehicle.VehicleReleaseYear;
+import com.gustavo.mobiauto_backend.model.vehicle.VehicleType;
+import com.gustavo.mobiauto_backend.service.events.OfferChangedEvent;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OfferStreamService Tests")
+class OfferStreamServiceTest {
+
+    @Mock
+    private StoreService storeService;
+
+    @Mock
+    private OfferRepository offerRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private MeterRegistry meterRegistry;
+    private OfferStreamService offerStreamService;
+    private Store testStore;
+    private Offer testOffer;
+
+    private static final Long STORE_ID = 1L;
+    private static final Long OTHER_STORE_ID = 2L;
+    private static final Long OFFER_ID = 10L;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        meterRegistry = new SimpleMeterRegistry();
+        offerStreamService = new OfferStreamService(storeService, offerRepository,
+                new ObjectMapper().registerModule(new JavaTimeModule()), transactionManager, meterRegistry,
+                2, 100, 4, Duration.ofMillis(200), Duration.ofHours(1), Duration.ofMinutes(30));
+
+        testStore = new Store("Test Store", "11.222.333/0001-81");
+        setId(Store.class, testStore, STORE_ID);
+        User client = new User("John", "Doe", "john.doe@example.com", "password123");
+        setId(User.class, client, 1L);
+        Vehicle vehicle = new Vehicle(
+                VehicleType.CAR,
+                new VehicleModel("Toyota Corolla"),
+                new VehicleReleaseYear(2023),
+                new VehicleColor("Blue"));
+        vehicle.setId(1L);
+        testOffer = new Offer(client, vehicle, testStore);
+        testOffer.setId(OFFER_ID);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        offerStreamService.destroy();
+    }
+
+    @Test
+    @DisplayName("Should push offer changes only to subscribers of the offer's store")
+    void shouldPushOfferChangesOnlyToSubscribersOfTheOffersStore() {
+        when(offerRepository.findAllWithDetailsByIdIn(any())).thenReturn(List.of(testOffer));
+        RecordingEmitter watching = (RecordingEmitter) offerStreamService.register(STORE_ID, new RecordingEmitter());
+        RecordingEmitter otherStore = (RecordingEmitter) offerStreamService.register(OTHER_STORE_ID,
+                new RecordingEmitter());
+
+        offerStreamService.onOfferChanged(OfferChangedEvent.of(OfferEventType.CREATED, testOffer));
+        testOffer.setActive(false);
+        offerStreamService.onOfferChanged(OfferChangedEvent.of(OfferEventType.DEACTIVATED, testOffer));
+
+        awaitUntil(() -> watching.frames().size() == 2);
+        assertTrue(watching.frames().get(0).startsWith("event:CREATED\ndata:{\"type\":\"CREATED\",\"offerId\":10"),
+                watching.frames().get(0));
+        assertTrue(watching.frames().get(1).contains("\"offer\":null"), watching.frames().get(1));
+        assertTrue(otherStore.frames().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should not load offers for stores nobody is watching")
+    void shouldNotLoadOffersForStoresNobodyIsWatching() {
+        offerStreamService.register(OTHER_STORE_ID, new RecordingEmitter());
+
+        offerStreamService.onOfferChanged(OfferChangedEvent.of(OfferEventType.CREATED, testOffer));
+
+        assertEquals(0.0, meterRegistry.get("offer.stream.pending").gauge().value());
+        verify(offerRepository, never()).findAllWithDetailsByIdIn(any());
+    }
+
+    @Test
+    @DisplayName("Should drop a slow subscriber without holding back the others")
+    void shouldDropASlowSubscriberWithoutHoldingBackTheOthers() {
+        when(offerRepository.findAllWithDetailsByIdIn(any())).thenReturn(List.of(testOffer));
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingEmitter slow = (RecordingEmitter) offerStreamService.register(STORE_ID, new RecordingEmitter(release));
+        RecordingEmitter fast = (RecordingEmitter) offerStreamService.register(STORE_ID, new RecordingEmitter());
+
+        for (int i = 0; i < 6; i++) {
+            int delivered = i + 1;
+            offerStreamService.onOfferChanged(OfferChangedEvent.of(OfferEventType.UPDATED, testOffer));
+            awaitUntil(() -> fast.frames().size() == delivered);
+        }
+        release.countDown();
+
+        awaitUntil(slow::isCompleted);
+        assertEquals(1.0, meterRegistry.counter("offer.stream.subscribers.dropped").count());
+        assertTrue(slow.frames().size() < 6, slow.frames().toString());
+        assertEquals(6, fast.frames().size());
+    }
+
+    @Test
+    @DisplayName("Should keep delivering to other subscribers while several clients are stalled")
+    void shouldKeepDeliveringToOtherSubscribersWhileSeveralClientsAreStalled() {
+        when(offerRepository.findAllWithDetailsByIdIn(any())).thenReturn(List.of(testOffer));
+        CountDownLatch never = new CountDownLatch(1);
+        for (int i = 0; i < 3; i++) {
+            offerStreamService.register(STORE_ID, new RecordingEmitter(never));
+        }
+        RecordingEmitter fast = (RecordingEmitter) offerStreamService.register(STORE_ID, new RecordingEmitter());
+
+        offerStreamService.onOfferChanged(OfferChangedEvent.of(OfferEventType.UPDATED, testOffer));
+
+        awaitUntil(() -> fast.frames().size() == 1);
+    }
+
+    @Test
+    @DisplayName("Should detach a subscriber whose send exceeds the send timeout")
+    void shouldDetachASubscriberWhoseSendExceedsTheSendTimeout() {
+        when(offerRepository.findAllWithDetailsByIdIn(any())).thenReturn(List.of(testOffer));
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingEmitter stalled = (RecordingEmitter) offerStreamService.register(STORE_ID,
+                new RecordingEmitter(release));
+
+        offerStreamService.onOfferChanged(OfferChangedEvent.of(OfferEventType.UPDATED, testOffer));
+
+        awaitUntil(() -> meterRegistry.counter("offer.stream.sends.timed.out").count() == 1.0);
+        assertEquals(0.0, meterRegistry.get("offer.stream.subscribers").gauge().value());
+        assertFalse(stalled.isCompleted());
+
+        // Once the blocked write returns, the sender itself completes the emitter.
+        release.countDown();
+        awaitUntil(stalled::isCompleted);
+    }
+
+    @Test
+    @DisplayName("Should keep sender threads bounded while sends block forever")
+    void shouldKeepSenderThreadsBoundedWhileSendsBlockForever() {
+        when(offerRepository.findAllWithDetailsByIdIn(any())).thenReturn(List.of(testOffer));
+        CountDownLatch never = new CountDownLatch(1);
+        for (int i = 0; i < 20; i++) {
+            offerStreamService.register(STORE_ID, new RecordingEmitter(never));
+        }
+
+        try {
+            for (int i = 0; i < 2; i++) {
+                offerStreamService.onOfferChanged(OfferChangedEvent.of(OfferEventType.UPDATED, testOffer));
+            }
+            awaitUntil(() -> meterRegistry.get("offer.stream.senders.active").gauge().value() == 4.0);
+            awaitUntil(() -> meterRegistry.counter("offer.stream.sends.timed.out").count() == 4.0);
+
+            assertEquals(4, senderThreads());
+        } finally {
+            never.countDown();
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject subscriptions to unknown stores")
+    void shouldRejectSubscriptionsToUnknownStores() {
+        when(storeService.getStore(STORE_ID)).thenThrow(new StoreNotFoundException(STORE_ID));
+
+        assertThrows(StoreNotFoundException.class, () -> offerStreamService.subscribe(STORE_ID));
+    }
+
+    private static long senderThreads() {
+        return Thread.getAllStackTraces().keySet().stream()
+                .filter(thread -> thread.getName().startsWith("offer-stream-send-"))
+                .count();
+    }
+
+    private static void awaitUntil(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("Condition not met within 5 seconds");
+            }
+            Thread.onSpinWait();
+        }
+    }
+
+    private static <T> void setId(Class<T> type, T entity, Long id) throws Exception {
+        Field idField = type.getDeclaredField("id");
+        idField.setAccessible(true);
+        idField.set(entity, id);
+    }
+
+    private static final class RecordingEmitter extends SseEmitter {
+        private final List<String> frames = new CopyOnWriteArrayList<>();
+        private final CountDownLatch release;
+        private volatile boolean completed;
+
+        RecordingEmitter() {
+            this(new CountDownLatch(0));
+        }
+
+        RecordingEmitter(CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        public void send(Set<DataWithMediaType> items) throws IOException {
+            try {
+                release.await();
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                throw new IOException(exception);
+            }
+            frames.add(items.stream().map(item -> item.getData().toString()).collect(Collectors.joining()));
+        }
+
+        @Override
+        public void complete() {
+            completed = true;
+        }
+
+        List<String> frames() {
+            return frames;
+        }
+
+        boolean isCompleted() {
+            return completed;
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.gustavo.mobiauto_backend.service;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import com.gustavo.mobiauto_backend.infra.exceptions.StoreAssistantNotFoundException;
+import com.gustavo.mobiauto_backend.infra.repositories.StoreAssistantRepository;
+import com.gustavo.mobiauto_backend.model.store.Store;
+import com.gustavo.mobiauto_backend.model.store.StoreAssistant;
+import com.gustavo.mobiauto_backend.model.user.User;
+import com.gustavo.mobiauto_backend.service.events.StoreAssistantSavedEvent;
+import com.gustavo.mobiauto_backend.service.exceptions.AlreadyActiveException;
+import com.gustavo.mobiauto_backend.service.exceptions.DeactivatedUserException;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StoreAssistantService Tests")
+class StoreAssistantServiceTest {
+
+    private static final Long STORE_ID = 1L;
+    private static final Long USER_ID = 2L;
+
+    @Mock
+    private StoreAssistantRepository storeAssistantRepository;
+
+    @Mock
+    private StoreService storeService;
+
+    @Mock
+    private UserService userService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private StoreAssistantService storeAssistantService;
+
+    private Store testStore;
+    private User testUser;
+
+    @BeforeEach
+    void setUp() {
+        testStore = new Store("Test Store", "11.222.333/0001-81");
+        testUser = new User("John", "Doe", "john.doe@example.com", "password123");
+        testUser.setId(USER_ID);
+    }
+
+    @Test
+    @DisplayName("Should add assistant and publish it to the assignment queue")
+    void shouldAddAssistantAndPublishItToTheAssignmentQueue() {
+        when(storeService.getStore(STORE_ID)).thenReturn(testStore);
+        when(userService.findUser(USER_ID)).thenReturn(testUser);
+        when(storeAssistantRepository.findByStoreAndUser(STORE_ID, USER_ID)).thenReturn(Optional.empty());
+        when(storeAssistantRepository.save(any(StoreAssistant.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+        StoreAssistant result = storeAssistantService.addAssistant(STORE_ID, USER_ID);
+
+        assertTrue(result.isActive());
+        assertSame(testUser, result.getUser());
+        verify(eventPublisher).publishEvent(any(StoreAssistantSavedEvent.class));
+    }
+
+    @Test
+    @DisplayName("Should reactivate a previously removed assistant")
+    void shouldReactivateAPreviouslyRemovedAssistant() {
+        StoreAssistant removed = new StoreAssistant(testStore, testUser);
+        removed.setActive(false);
+        when(storeService.getStore(STORE_ID)).thenReturn(testStore);
+        when(userService.findUser(USER_ID)).thenReturn(testUser);
+        when(storeAssistantRepository.findByStoreAndUser(STORE_ID, USER_ID)).thenReturn(Optional.of(removed));
+        when(storeAssistantRepository.save(removed)).thenReturn(removed);
+
+        StoreAssistant result = storeAssistantService.addAssistant(STORE_ID, USER_ID);
+
+        assertSame(removed, result);
+        assertTrue(result.isActive());
+    }
+
+    @Test
+    @DisplayName("Should reject adding an assistant twice")
+    void shouldRejectAddingAnAssistantTwice() {
+        when(storeService.getStore(STORE_ID)).thenReturn(testStore);
+        when(userService.findUser(USER_ID)).thenReturn(testUser);
+        when(storeAssistantRepository.findByStoreAndUser(STORE_ID, USER_ID))
+                .thenReturn(Optional.of(new StoreAssistant(testStore, testUser)));
+
+        assertThrows(AlreadyActiveException.class, () -> storeAssistantService.addAssistant(STORE_ID, USER_ID));
+        verify(storeAssistantRepository, never()).save(any(StoreAssistant.class));
+    }
+
+    @Test
+    @DisplayName("Should reject deactivated user as assistant")
+    void shouldRejectDeactivatedUserAsAssistant() {
+        testUser.setActive(false);
+        when(storeService.getStore(STORE_ID)).thenReturn(testStore);
+        when(userService.findUser(USER_ID)).thenReturn(testUser);
+
+        assertThrows(DeactivatedUserException.class, () -> storeAssistantService.addAssistant(STORE_ID, USER_ID));
+    }
+
+    @Test
+    @DisplayName("Should remove assistant")
+    void shouldRemoveAssistant() {
+        StoreAssistant assistant = new StoreAssistant(testStore, testUser);
+        when(storeAssistantRepository.findByStoreAndUser(STORE_ID, USER_ID)).thenReturn(Optional.of(assistant));
+        when(storeAssistantRepository.save(assistant)).thenReturn(assistant);
+
+        storeAssistantService.removeAssistant(STORE_ID, USER_ID);
+
+        assertFalse(assistant.isActive());
+        verify(eventPublisher).publishEvent(any(StoreAssistantSavedEvent.class));
+    }
+
+    @Test
+    @DisplayName("Should throw when removing a user that is not an assistant")
+    void shouldThrowWhenRemovingAUserThatIsNotAnAssistant() {
+        when(storeAssistantRepository.findByStoreAndUser(STORE_ID, USER_ID)).thenReturn(Optional.empty());
+
+        assertThrows(StoreAssistantNotFoundException.class,
+                () -> storeAssistantService.removeAssistant(STORE_ID, USER_ID));
+    }
+}
@@ -1,11 +1,11 @@
 package com.gustavo.mobiauto_backend.service;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -13,6 +13,7 @@ import static org.mockito.Mockito.when;
 
 import java.lang.reflect.Field;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -22,18 +23,23 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 
+import com.gustavo.mobiauto_backend.common.helpers.Pagination;
 import com.gustavo.mobiauto_backend.controller.requests.StoreRequest;
+import com.gustavo.mobiauto_backend.infra.cache.LookupCaches;
 import com.gustavo.mobiauto_backend.infra.exceptions.StoreNotFoundException;
+import com.gustavo.mobiauto_backend.infra.outbox.Outbox;
 import com.gustavo.mobiauto_backend.infra.repositories.OfferRepository;
 import com.gustavo.mobiauto_backend.infra.repositories.StoreRepository;
-import com.gustavo.mobiauto_backend.model.offer.Offer;
 import com.gustavo.mobiauto_backend.model.store.Store;
 import com.gustavo.mobiauto_backend.model.store.StoreName;
+import com.gustavo.mobiauto_backend.model.store.StoreSnapshot;
 import com.gustavo.mobiauto_backend.service.exceptions.AlreadyActiveException;
 import com.gustavo.mobiauto_backend.service.exceptions.AlreadyDeactivatedException;
 import com.gustavo.mobiauto_backend.service.exceptions.DuplicateException;
 import com.gustavo.mobiauto_backend.service.exceptions.EntityInUseException;
+import com.gustavo.mobiauto_backend.service.exceptions.VersionMismatchException;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("StoreService Tests")
@@ -45,6 +51,12 @@ class StoreServiceTest {
     @Mock
     private OfferRepository offerRepository;
 
+    @Mock
+    private Outbox outbox;
+
+    @Mock
+    private LookupCaches lookupCaches;
+
     @InjectMocks
     private StoreService storeService;
 
@@ -97,46 +109,62 @@ class StoreServiceTest {
     }
 
     @Test
-    @DisplayName("Should list only active stores")
-    void shouldListOnlyActiveStores() throws Exception {
+    @DisplayName("Should list active stores from the start when no cursor is given")
+    void shouldListActiveStoresFromTheStartWhenNoCursorIsGiven() throws Exception {
         Store activeStore1 = new Store("Active Store 1", "11.222.333/0001-81");
         setStoreId(activeStore1, 1L);
 
         Store activeStore2 = new Store("Active Store 2", "11.444.777/0001-61");
         setStoreId(activeStore2, 2L);
 
-        Store inactiveStore = new Store("Inactive Store", "11222333000181");
-        setStoreId(inactiveStore, 3L);
-        inactiveStore.setActive(false);
+        when(storeRepository.findActiveAfter(0L, Limit.of(20))).thenReturn(List.of(activeStore1, activeStore2));
 
-        List<Store> allStores = List.of(activeStore1, activeStore2, inactiveStore);
-        when(storeRepository.findAll()).thenReturn(allStores);
-
-        List<Store> result = storeService.listActiveStores();
+        List<Store> result = storeService.listActiveStores(null, 20);
 
         assertEquals(2, result.size());
         assertTrue(result.contains(activeStore1));
         assertTrue(result.contains(activeStore2));
-        assertFalse(result.contains(inactiveStore));
 
         result.forEach(store -> assertTrue(store.isActive()));
 
-        verify(storeRepository).findAll();
+        verify(storeRepository).findActiveAfter(0L, Limit.of(20));
+        verify(storeRepository, never()).findAll();
     }
 
     @Test
-    @DisplayName("Should return empty list when no active stores exist")
-    void shouldReturnEmptyListWhenNoActiveStoresExist() throws Exception {
-        Store inactiveStore = new Store("Inactive Store", "11.444.777/0001-61");
-        setStoreId(inactiveStore, 1L);
-        inactiveStore.setActive(false);
+    @DisplayName("Should list active stores after the given cursor")
+    void shouldListActiveStoresAfterTheGivenCursor() throws Exception {
+        Store activeStore = new Store("Active Store 2", "11.444.777/0001-61");
+        setStoreId(activeStore, 2L);
 
-        when(storeRepository.findAll()).thenReturn(List.of(inactiveStore));
+        when(storeRepository.findActiveAfter(1L, Limit.of(1))).thenReturn(List.of(activeStore));
 
-        List<Store> result = storeService.listActiveStores();
+        List<Store> result = storeService.listActiveStores(1L, 1);
+
+        assertEquals(1, result.size());
+        assertEquals(2L, result.get(0).getId());
+        verify(storeRepository).findActiveAfter(1L, Limit.of(1));
+    }
+
+    @Test
+    @DisplayName("Should return empty list when no active stores exist")
+    void shouldReturnEmptyListWhenNoActiveStoresExist() {
+        when(storeRepository.findActiveAfter(0L, Limit.of(20))).thenReturn(List.of());
+
+        List<Store> result = storeService.listActiveStores(null, 20);
 
         assertTrue(result.isEmpty());
-        verify(storeRepository).findAll();
+        verify(storeRepository).findActiveAfter(0L, Limit.of(20));
+    }
+
+    @Test
+    @DisplayName("Should reject page limits outside the allowed range")
+    void shouldRejectPageLimitsOutsideTheAllowedRange() {
+        assertThrows(IllegalArgumentException.class, () -> storeService.listActiveStores(null, 0));
+        assertThrows(IllegalArgumentException.class,
+                () -> storeService.listActiveStores(null, Pagination.MAX_PAGE_SIZE + 1));
+
+        verify(storeRepository, never()).findActiveAfter(any(), any());
     }
 
     @Test
@@ -154,6 +182,18 @@ class StoreServiceTest {
         verify(storeRepository).findById(STORE_ID);
     }
 
+    @Test
+    @DisplayName("Should get stores by id list with a single query")
+    void shouldGetStoresByIdListWithASingleQuery() {
+        when(storeRepository.findAllById(List.of(STORE_ID, 999L))).thenReturn(List.of(testStore));
+
+        List<Store> result = storeService.getStores(List.of(STORE_ID, 999L));
+
+        assertEquals(List.of(testStore), result);
+        verify(storeRepository).findAllById(List.of(STORE_ID, 999L));
+        verify(storeRepository, never()).findById(any());
+    }
+
     @Test
     @DisplayName("Should throw StoreNotFoundException when store does not exist")
     void shouldThrowStoreNotFoundExceptionWhenStoreDoesNotExist() {
@@ -169,6 +209,40 @@ class StoreServiceTest {
         verify(storeRepository).findById(nonExistentId);
     }
 
+    @Test
+    @DisplayName("Should count active offers of a store with a count query")
+    void shouldCountActiveOffersOfAStoreWithACountQuery() {
+        when(offerRepository.countByStoreIdAndActiveTrue(STORE_ID)).thenReturn(42L);
+
+        long result = storeService.countActiveOffers(STORE_ID);
+
+        assertEquals(42L, result);
+        verify(offerRepository).countByStoreIdAndActiveTrue(STORE_ID);
+        verify(offerRepository, never()).findAll();
+    }
+
+    @Test
+    @DisplayName("Should count active offers of several stores with a single grouped query")
+    void shouldCountActiveOffersOfSeveralStoresWithASingleGroupedQuery() {
+        List<Long> storeIds = List.of(1L, 2L, 3L);
+        when(offerRepository.countActiveByStoreIds(storeIds))
+                .thenReturn(List.of(new Object[] { 1L, 5L }, new Object[] { 3L, 2L }));
+
+        Map<Long, Long> result = storeService.countActiveOffers(storeIds);
+
+        assertEquals(Map.of(1L, 5L, 3L, 2L), result);
+        verify(offerRepository).countActiveByStoreIds(storeIds);
+    }
+
+    @Test
+    @DisplayName("Should not query offer counts for an empty store list")
+    void shouldNotQueryOfferCountsForAnEmptyStoreList() {
+        Map<Long, Long> result = storeService.countActiveOffers(List.of());
+
+        assertTrue(result.isEmpty());
+        verify(offerRepository, never()).countActiveByStoreIds(any());
+    }
+
     @Test
     @DisplayName("Should update store name successfully")
     void shouldUpdateStoreNameSuccessfully() {
@@ -185,6 +259,16 @@ class StoreServiceTest {
         verify(storeRepository).save(testStore);
     }
 
+    @Test
+    @DisplayName("Should reject store update when expected version is stale")
+    void shouldRejectStoreUpdateWhenExpectedVersionIsStale() {
+        when(storeRepository.findById(STORE_ID)).thenReturn(Optional.of(testStore));
+
+        assertThrows(VersionMismatchException.class,
+                () -> storeService.updateStore(STORE_ID, new StoreRequest("New Name", null), 3L));
+        verify(storeRepository, never()).save(any(Store.class));
+    }
+
     @Test
     @DisplayName("Should not update store when name is null")
     void shouldNotUpdateStoreWhenNameIsNull() {
@@ -222,15 +306,16 @@ class StoreServiceTest {
     @DisplayName("Should deactivate store successfully when no active offers exist")
     void shouldDeactivateStoreSuccessfullyWhenNoActiveOffersExist() {
         when(storeRepository.findById(STORE_ID)).thenReturn(Optional.of(testStore));
-        when(offerRepository.findAll()).thenReturn(List.of());
+        when(offerRepository.existsByStoreIdAndActiveTrue(STORE_ID)).thenReturn(false);
         when(storeRepository.save(any(Store.class))).thenReturn(testStore);
 
         Store result = storeService.deactivateStore(STORE_ID);
 
         assertNotNull(result);
         verify(storeRepository).findById(STORE_ID);
-        verify(offerRepository).findAll();
+        verify(offerRepository).existsByStoreIdAndActiveTrue(STORE_ID);
         verify(storeRepository).save(testStore);
+        verify(outbox).append(eq("store"), eq(STORE_ID), eq("StoreDeactivated"), any(StoreSnapshot.class));
     }
 
     @Test
@@ -245,19 +330,15 @@ class StoreServiceTest {
 
         assertNotNull(exception);
         verify(storeRepository).findById(STORE_ID);
-        verify(offerRepository, never()).findAll();
+        verify(offerRepository, never()).existsByStoreIdAndActiveTrue(any());
         verify(storeRepository, never()).save(any(Store.class));
     }
 
     @Test
     @DisplayName("Should throw EntityInUseException when store has active offers")
     void shouldThrowEntityInUseExceptionWhenStoreHasActiveOffers() {
-        Offer activeOffer = new Offer();
-        activeOffer.setStore(testStore);
-        activeOffer.setActive(true);
-
         when(storeRepository.findById(STORE_ID)).thenReturn(Optional.of(testStore));
-        when(offerRepository.findAll()).thenReturn(List.of(activeOffer));
+        when(offerRepository.existsByStoreIdAndActiveTrue(STORE_ID)).thenReturn(true);
 
         EntityInUseException exception = assertThrows(
                 EntityInUseException.class,
@@ -265,33 +346,22 @@ class StoreServiceTest {
 
         assertNotNull(exception);
         verify(storeRepository).findById(STORE_ID);
-        verify(offerRepository).findAll();
+        verify(offerRepository).existsByStoreIdAndActiveTrue(STORE_ID);
         verify(storeRepository, never()).save(any(Store.class));
     }
 
     @Test
-    @DisplayName("Should deactivate store when offers exist but are inactive")
-    void shouldDeactivateStoreWhenOffersExistButAreInactive() throws Exception {
-        Store otherStore = new Store("Other Store", "11.444.777/0001-61");
-        setStoreId(otherStore, 2L);
-
-        Offer inactiveOfferSameStore = new Offer();
-        inactiveOfferSameStore.setStore(testStore);
-        inactiveOfferSameStore.setActive(false);
-
-        Offer activeOfferOtherStore = new Offer();
-        activeOfferOtherStore.setStore(otherStore);
-        activeOfferOtherStore.setActive(true);
-
+    @DisplayName("Should check active offers with an existence query instead of loading offers")
+    void shouldCheckActiveOffersWithAnExistenceQueryInsteadOfLoadingOffers() {
         when(storeRepository.findById(STORE_ID)).thenReturn(Optional.of(testStore));
-        when(offerRepository.findAll()).thenReturn(List.of(inactiveOfferSameStore, activeOfferOtherStore));
+        when(offerRepository.existsByStoreIdAndActiveTrue(STORE_ID)).thenReturn(false);
         when(storeRepository.save(any(Store.class))).thenReturn(testStore);
 
         Store result = storeService.deactivateStore(STORE_ID);
 
         assertNotNull(result);
-        verify(storeRepository).findById(STORE_ID);
-        verify(offerRepository).findAll();
+        verify(offerRepository).existsByStoreIdAndActiveTrue(STORE_ID);
+        verify(offerRepository, never()).findAll();
         verify(storeRepository).save(testStore);
     }
 
@@ -307,7 +377,7 @@ class StoreServiceTest {
 
         assertNotNull(exception);
         verify(storeRepository).findById(nonExistentId);
-        verify(offerRepository, never()).findAll();
+        verify(offerRepository, never()).existsByStoreIdAndActiveTrue(any());
         verify(storeRepository, never()).save(any(Store.class));
     }
 
@@ -377,29 +447,29 @@ class StoreServiceTest {
         when(storeRepository.findByCnpj(STORE_CNPJ)).thenReturn(Optional.empty());
         when(storeRepository.save(any(Store.class))).thenReturn(testStore);
         when(storeRepository.findById(STORE_ID)).thenReturn(Optional.of(testStore));
-        when(storeRepository.findAll()).thenReturn(List.of(testStore));
+        when(storeRepository.findActiveAfter(0L, Limit.of(20))).thenReturn(List.of(testStore));
 
         storeService.registerStore(validStoreRequest);
-        storeService.listActiveStores();
+        storeService.listActiveStores(null, 20);
         storeService.getStore(STORE_ID);
         storeService.updateStore(STORE_ID, new StoreRequest("Updated Name", null));
 
         verify(storeRepository, times(1)).findByCnpj(STORE_CNPJ);
         verify(storeRepository, times(2)).save(any(Store.class));
-        verify(storeRepository, times(1)).findAll();
+        verify(storeRepository, times(1)).findActiveAfter(0L, Limit.of(20));
         verify(storeRepository, times(2)).findById(STORE_ID);
     }
 
     @Test
     @DisplayName("Should handle edge case with empty store list")
     void shouldHandleEdgeCaseWithEmptyStoreList() {
-        when(storeRepository.findAll()).thenReturn(List.of());
+        when(storeRepository.findActiveAfter(100L, Limit.of(Pagination.MAX_PAGE_SIZE))).thenReturn(List.of());
 
-        List<Store> result = storeService.listActiveStores();
+        List<Store> result = storeService.listActiveStores(100L, Pagination.MAX_PAGE_SIZE);
 
         assertNotNull(result);
         assertTrue(result.isEmpty());
-        verify(storeRepository).findAll();
+        verify(storeRepository).findActiveAfter(100L, Limit.of(Pagination.MAX_PAGE_SIZE));
     }
 
     private void setStoreId(Store store, Long id) throws Exception {
@@ -3,7 +3,9 @@ package com.gustavo.mobiauto_backend.service;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -26,6 +28,9 @@ import com.gustavo.mobiauto_backend.model.user.UserName;
 import com.gustavo.mobiauto_backend.model.user.UserPassword;
 import com.gustavo.mobiauto_backend.service.exceptions.TokenGenerationException;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 @SpringBootTest
 @ActiveProfiles("test")
 @DisplayName("TokenService Tests")
@@ -48,7 +53,7 @@ class TokenServiceTest {
         testUser.setId(1L);
 
         testSecret = "test-secret-key-for-jwt-token-generation";
-        ReflectionTestUtils.setField(tokenService, "secret", testSecret);
+        tokenService.rotate(testSecret);
     }
 
     @Test
@@ -250,7 +255,7 @@ class TokenServiceTest {
         String token1 = tokenService.generateToken(testUser);
 
         String newSecret = "new-secret-key";
-        ReflectionTestUtils.setField(tokenService, "secret", newSecret);
+        tokenService.rotate(newSecret);
 
         String token2 = tokenService.generateToken(testUser);
 
@@ -261,6 +266,78 @@ class TokenServiceTest {
         assertEquals(testUser.getEmail().getValue(), subject2);
     }
 
+    @Test
+    @DisplayName("Should reuse signing key while the secret is unchanged")
+    void shouldReuseSigningKeyWhileTheSecretIsUnchanged() {
+        String token = tokenService.generateToken(testUser);
+        Object signingKey = ReflectionTestUtils.getField(tokenService, "signingKey");
+
+        tokenService.validateToken(token);
+        tokenService.generateToken(testUser);
+
+        assertSame(signingKey, ReflectionTestUtils.getField(tokenService, "signingKey"));
+    }
+
+    @Test
+    @DisplayName("Should rebuild signing key when the secret is rotated")
+    void shouldRebuildSigningKeyWhenTheSecretIsRotated() {
+        tokenService.generateToken(testUser);
+        Object signingKey = ReflectionTestUtils.getField(tokenService, "signingKey");
+
+        tokenService.rotate("rotated-secret-key");
+        String token = tokenService.generateToken(testUser);
+
+        assertNotSame(signingKey, ReflectionTestUtils.getField(tokenService, "signingKey"));
+        assertEquals(testUser.getEmail().getValue(), tokenService.validateToken(token));
+    }
+
+    @Test
+    @DisplayName("Should serve repeated validations from the verified token cache")
+    void shouldServeRepeatedValidationsFromTheVerifiedTokenCache() {
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        TokenService cachingTokenService = newCachingTokenService(meterRegistry);
+        String token = cachingTokenService.generateToken(testUser);
+
+        assertEquals(testUser.getEmail().getValue(), cachingTokenService.validateToken(token));
+        assertEquals(testUser.getEmail().getValue(), cachingTokenService.validateToken(token));
+
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "verifiedTokens").tag("result", "hit")
+                .functionCounter().count());
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "verifiedTokens").tag("result", "miss")
+                .functionCounter().count());
+    }
+
+    @Test
+    @DisplayName("Should not serve a cached token past its expiry")
+    void shouldNotServeACachedTokenPastItsExpiry() throws InterruptedException {
+        TokenService cachingTokenService = newCachingTokenService(new SimpleMeterRegistry());
+        Date expiresAt = new Date(System.currentTimeMillis() + 1000);
+        String token = JWT.create()
+                .withIssuer("mobiauto-auth-api")
+                .withSubject(testUser.getEmail().getValue())
+                .withExpiresAt(expiresAt)
+                .sign(Algorithm.HMAC256(testSecret));
+
+        assertEquals(testUser.getEmail().getValue(), cachingTokenService.validateToken(token));
+
+        long expiry = JWT.decode(token).getExpiresAt().getTime();
+        Thread.sleep(Math.max(0, expiry - System.currentTimeMillis()) + 50);
+
+        assertNull(cachingTokenService.validateToken(token));
+    }
+
+    @Test
+    @DisplayName("Should drop cached tokens when the secret is rotated")
+    void shouldDropCachedTokensWhenTheSecretIsRotated() {
+        TokenService cachingTokenService = newCachingTokenService(new SimpleMeterRegistry());
+        String token = cachingTokenService.generateToken(testUser);
+        cachingTokenService.validateToken(token);
+
+        cachingTokenService.rotate("rotated-secret-key");
+
+        assertNull(cachingTokenService.validateToken(token));
+    }
+
     @Test
     @DisplayName("Should handle token validation edge cases")
     void shouldHandleTokenValidationEdgeCases() {
@@ -339,7 +416,7 @@ class TokenServiceTest {
     @Test
     @DisplayName("Should throw TokenGenerationException when JWT creation fails")
     void shouldThrowTokenGenerationExceptionWhenJwtCreationFails() {
-        ReflectionTestUtils.setField(tokenService, "secret", "");
+        tokenService.rotate("");
 
         TokenGenerationException exception = assertThrows(
                 TokenGenerationException.class,
@@ -350,4 +427,11 @@ class TokenServiceTest {
         assertNotNull(exception.getCause());
         assertTrue(exception.getCause() instanceof IllegalArgumentException);
     }
-}
\ No newline at end of file
+
+    private TokenService newCachingTokenService(MeterRegistry meterRegistry) {
+        TokenService cachingTokenService = new TokenService(meterRegistry, true, 100);
+        ReflectionTestUtils.setField(cachingTokenService, "secret", testSecret);
+        cachingTokenService.init();
+        return cachingTokenService;
+    }
+}
@@ -6,13 +6,13 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.lang.reflect.Field;
-import java.util.List;
 import java.util.Optional;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -21,25 +21,26 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
 
 import com.gustavo.mobiauto_backend.controller.requests.UserRequest;
+import com.gustavo.mobiauto_backend.infra.cache.LookupCaches;
 import com.gustavo.mobiauto_backend.infra.exceptions.UserNotFoundException;
 import com.gustavo.mobiauto_backend.infra.repositories.OfferRepository;
 import com.gustavo.mobiauto_backend.infra.repositories.UserRepository;
-import com.gustavo.mobiauto_backend.model.offer.Offer;
-import com.gustavo.mobiauto_backend.model.offer.OfferStatus;
-import com.gustavo.mobiauto_backend.model.store.Store;
+import com.gustavo.mobiauto_backend.infra.security.PrincipalCache;
 import com.gustavo.mobiauto_backend.model.user.User;
-import com.gustavo.mobiauto_backend.model.vehicle.Vehicle;
-import com.gustavo.mobiauto_backend.model.vehicle.VehicleColor;
-import com.gustavo.mobiauto_backend.model.vehicle.VehicleModel;
-import com.gustavo.mobiauto_backend.model.vehicle.VehicleReleaseYear;
-import com.gustavo.mobiauto_backend.model.vehicle.VehicleType;
+import com.gustavo.mobiauto_backend.model.user.UserPassword;
+import com.gustavo.mobiauto_backend.service.events.UserSavedEvent;
 import com.gustavo.mobiauto_backend.service.exceptions.AlreadyActiveException;
 import com.gustavo.mobiauto_backend.service.exceptions.AlreadyDeactivatedException;
 import com.gustavo.mobiauto_backend.service.exceptions.DuplicateException;
 import com.gustavo.mobiauto_backend.service.exceptions.EntityInUseException;
+import com.gustavo.mobiauto_backend.service.exceptions.VersionMismatchException;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("UserService Tests")
@@ -51,14 +52,24 @@ class UserServiceTest {
     @Mock
     private OfferRepository offerRepository;
 
+    @Mock
+    private PrincipalCache principalCache;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private LookupCaches lookupCaches;
+
+    @Spy
+    private PasswordEncoder passwordEncoder = new BCryptPasswordEncoder(4);
+
     @InjectMocks
     private UserService userService;
 
     private UserRequest validUserRequest;
     private User testUser;
     private User existingUser;
-    private Offer activeOffer;
-    private Offer inactiveOffer;
 
     private static final Long USER_ID = 1L;
     private static final Long EXISTING_USER_ID = 2L;
@@ -75,19 +86,6 @@ class UserServiceTest {
 
         existingUser = new User("Jane", "Smith", EXISTING_EMAIL, "password456");
         setUserId(existingUser, EXISTING_USER_ID);
-
-        Store testStore = new Store("Test Store", "11.222.333/0001-81");
-        Vehicle testVehicle = new Vehicle(
-                VehicleType.CAR,
-                new VehicleModel("Toyota Corolla"),
-                new VehicleReleaseYear(2023),
-                new VehicleColor("Blue"));
-
-        activeOffer = new Offer(OfferStatus.NEW, testUser, testVehicle, testStore);
-        activeOffer.setActive(true);
-
-        inactiveOffer = new Offer(OfferStatus.COMPLETED, testUser, testVehicle, testStore);
-        inactiveOffer.setActive(false);
     }
 
     @Test
@@ -106,7 +104,9 @@ class UserServiceTest {
         assertTrue(result.isActive());
 
         verify(userRepository).findByEmail(USER_EMAIL);
-        verify(userRepository).save(any(User.class));
+        verify(userRepository).save(argThat(user -> passwordEncoder.matches(validUserRequest.getPassword(),
+                user.getPassword())));
+        verify(passwordEncoder).encode(validUserRequest.getPassword());
     }
 
     @Test
@@ -195,6 +195,17 @@ class UserServiceTest {
         verify(userRepository).save(testUser);
     }
 
+    @Test
+    @DisplayName("Should reject user update when expected version is stale")
+    void shouldRejectUserUpdateWhenExpectedVersionIsStale() {
+        UserRequest updateRequest = new UserRequest("Jane", "Smith", null, null);
+        when(userRepository.findById(USER_ID)).thenReturn(Optional.of(testUser));
+
+        assertThrows(VersionMismatchException.class, () -> userService.updateUser(USER_ID, updateRequest, 3L));
+        verify(userRepository, never()).save(any(User.class));
+        verify(principalCache, never()).invalidate(any());
+    }
+
     @Test
     @DisplayName("Should update user email successfully")
     void shouldUpdateUserEmailSuccessfully() {
@@ -209,6 +220,7 @@ class UserServiceTest {
         verify(userRepository).findById(USER_ID);
         verify(userRepository).findByEmail(NEW_EMAIL);
         verify(userRepository).save(testUser);
+        verify(principalCache).invalidate(USER_EMAIL);
     }
 
     @Test
@@ -239,6 +251,7 @@ class UserServiceTest {
         verify(userRepository).findById(USER_ID);
         verify(userRepository).findByEmail(NEW_EMAIL);
         verify(userRepository).save(testUser);
+        verify(principalCache).invalidate(USER_EMAIL);
     }
 
     @Test
@@ -336,7 +349,7 @@ class UserServiceTest {
     @DisplayName("Should deactivate user successfully when no active offers exist")
     void shouldDeactivateUserSuccessfullyWhenNoActiveOffersExist() {
         when(userRepository.findById(USER_ID)).thenReturn(Optional.of(testUser));
-        when(offerRepository.findAll()).thenReturn(List.of());
+        when(offerRepository.existsByClientIdAndActiveTrue(USER_ID)).thenReturn(false);
         when(userRepository.save(any(User.class))).thenReturn(testUser);
 
         User result = userService.deactivateUser(USER_ID);
@@ -345,22 +358,24 @@ class UserServiceTest {
         assertFalse(result.isActive());
 
         verify(userRepository).findById(USER_ID);
-        verify(offerRepository).findAll();
+        verify(offerRepository).existsByClientIdAndActiveTrue(USER_ID);
         verify(userRepository).save(testUser);
+        verify(principalCache).invalidate(USER_EMAIL);
+        verify(eventPublisher).publishEvent(new UserSavedEvent(USER_ID, false));
     }
 
     @Test
     @DisplayName("Should deactivate user when offers exist but are inactive")
     void shouldDeactivateUserWhenOffersExistButAreInactive() {
         when(userRepository.findById(USER_ID)).thenReturn(Optional.of(testUser));
-        when(offerRepository.findAll()).thenReturn(List.of(inactiveOffer));
+        when(offerRepository.existsByClientIdAndActiveTrue(USER_ID)).thenReturn(false);
         when(userRepository.save(any(User.class))).thenReturn(testUser);
 
         User result = userService.deactivateUser(USER_ID);
 
         assertNotNull(result);
         verify(userRepository).findById(USER_ID);
-        verify(offerRepository).findAll();
+        verify(offerRepository).existsByClientIdAndActiveTrue(USER_ID);
         verify(userRepository).save(testUser);
     }
 
@@ -378,7 +393,7 @@ class UserServiceTest {
         assertTrue(exception.getMessage().contains("User with ID " + USER_ID + " is already deactivated"));
 
         verify(userRepository).findById(USER_ID);
-        verify(offerRepository, never()).findAll();
+        verify(offerRepository, never()).existsByClientIdAndActiveTrue(any());
         verify(userRepository, never()).save(any(User.class));
     }
 
@@ -386,7 +401,7 @@ class UserServiceTest {
     @DisplayName("Should throw EntityInUseException when user has active offers")
     void shouldThrowEntityInUseExceptionWhenUserHasActiveOffers() {
         when(userRepository.findById(USER_ID)).thenReturn(Optional.of(testUser));
-        when(offerRepository.findAll()).thenReturn(List.of(activeOffer));
+        when(offerRepository.existsByClientIdAndActiveTrue(USER_ID)).thenReturn(true);
 
         EntityInUseException exception = assertThrows(
                 EntityInUseException.class,
@@ -397,8 +412,9 @@ class UserServiceTest {
                 .contains("User with ID " + USER_ID + " cannot be deleted because it's being used"));
 
         verify(userRepository).findById(USER_ID);
-        verify(offerRepository).findAll();
+        verify(offerRepository).existsByClientIdAndActiveTrue(USER_ID);
         verify(userRepository, never()).save(any(User.class));
+        verify(principalCache, never()).invalidate(any());
     }
 
     @Test
@@ -413,7 +429,7 @@ class UserServiceTest {
 
         assertNotNull(exception);
         verify(userRepository).findById(nonExistentId);
-        verify(offerRepository, never()).findAll();
+        verify(offerRepository, never()).existsByClientIdAndActiveTrue(any());
         verify(userRepository, never()).save(any(User.class));
     }
 
@@ -431,6 +447,8 @@ class UserServiceTest {
 
         verify(userRepository).findById(USER_ID);
         verify(userRepository).save(testUser);
+        verify(principalCache).invalidate(USER_EMAIL);
+        verify(eventPublisher).publishEvent(new UserSavedEvent(USER_ID, true));
     }
 
     @Test
@@ -513,9 +531,35 @@ class UserServiceTest {
         assertEquals("Doe", result.getName().getLastName());
     }
 
+    @Test
+    @DisplayName("Should store rehashed password only when the current hash is unchanged")
+    void shouldStoreRehashedPasswordOnlyWhenTheCurrentHashIsUnchanged() {
+        User stored = new User("John", "Doe", USER_EMAIL, "password123");
+        stored.setPassword(UserPassword.hashed(testUser.getPassword()));
+        when(userRepository.findById(USER_ID)).thenReturn(Optional.of(stored));
+        when(userRepository.save(stored)).thenReturn(stored);
+
+        assertTrue(userService.rehashPassword(testUser, "new-hash"));
+
+        assertEquals("new-hash", stored.getPassword());
+        verify(principalCache).invalidate(USER_EMAIL);
+    }
+
+    @Test
+    @DisplayName("Should skip rehash when the password changed concurrently")
+    void shouldSkipRehashWhenThePasswordChangedConcurrently() {
+        User stored = new User("John", "Doe", USER_EMAIL, "changed-password");
+        when(userRepository.findById(USER_ID)).thenReturn(Optional.of(stored));
+
+        assertFalse(userService.rehashPassword(testUser, "new-hash"));
+
+        verify(userRepository, never()).save(any(User.class));
+        verify(principalCache, never()).invalidate(any());
+    }
+
     private void setUserId(User user, Long id) throws Exception {
         Field idField = User.class.getDeclaredField("id");
         idField.setAccessible(true);
         idField.set(user, id);
     }
-}
\ No newline at end of file
+}
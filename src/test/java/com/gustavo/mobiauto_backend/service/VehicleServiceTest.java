@@ -18,6 +18,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import com.gustavo.mobiauto_backend.controller.requests.VehicleRequest;
 import com.gustavo.mobiauto_backend.infra.exceptions.VehicleNotFoundException;
@@ -27,6 +28,7 @@ import com.gustavo.mobiauto_backend.model.vehicle.VehicleColor;
 import com.gustavo.mobiauto_backend.model.vehicle.VehicleModel;
 import com.gustavo.mobiauto_backend.model.vehicle.VehicleReleaseYear;
 import com.gustavo.mobiauto_backend.model.vehicle.VehicleType;
+import com.gustavo.mobiauto_backend.service.events.VehicleSavedEvent;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("VehicleService Tests")
@@ -35,6 +37,9 @@ class VehicleServiceTest {
     @Mock
     private VehicleRepository vehicleRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private VehicleService vehicleService;
 
@@ -65,6 +70,16 @@ class VehicleServiceTest {
         existingVehicle.setId(1L);
     }
 
+    @Test
+    @DisplayName("Should publish saved event when vehicle is created")
+    void shouldPublishSavedEventWhenVehicleIsCreated() {
+        when(vehicleRepository.save(any(Vehicle.class))).thenReturn(savedVehicle);
+
+        vehicleService.createVehicle(vehicleRequest);
+
+        verify(eventPublisher).publishEvent(new VehicleSavedEvent(savedVehicle));
+    }
+
     @Test
     @DisplayName("Should create CAR type vehicle")
     void shouldCreateCarTypeVehicle() {